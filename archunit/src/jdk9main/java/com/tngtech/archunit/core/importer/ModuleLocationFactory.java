@@ -174,7 +174,7 @@ class ModuleLocationFactory implements Location.Factory {
         }
 
         boolean isIncludedBy(ImportOptions importOptions) {
-            return importOptions.include(location);
+            return importOptions.include(getUri());
         }
 
         @Override
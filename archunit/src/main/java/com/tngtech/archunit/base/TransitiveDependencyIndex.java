@@ -0,0 +1,303 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.Internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Math.min;
+
+/**
+ * Answers which nodes of a directed graph can be reached from a given node, where the graph is only known
+ * by a function returning the direct dependencies of each node.
+ * <br><br>
+ * The graph is condensed into its strongly connected components (i.e. all nodes that can reach each other form one component)
+ * by an iterative version of Tarjan's algorithm, so even very deep dependency chains do not overflow the stack.
+ * For each component the set of reachable components is then stored as a {@link BitSet}. Both happen lazily,
+ * i.e. only for the part of the graph that can be reached from the nodes queried so far, and each node is only
+ * visited once, no matter how many queries are answered by the same index.
+ * <br><br>
+ * The direct dependencies of each node are only requested once, thus they must not change while the index is in use.
+ * The index is thread-safe. The direct dependencies are requested before the index is locked, so expensive requests
+ * (e.g. lazily completing classes) of concurrent queries run in parallel; only the graph algorithms themselves are serialized.
+ *
+ * @param <T> The type of the nodes, which must implement {@link Object#equals(Object)} and {@link Object#hashCode()} consistently
+ */
+@Internal
+public final class TransitiveDependencyIndex<T> {
+    private static final int UNVISITED = -1;
+
+    private final Function<? super T, ? extends Collection<? extends T>> getDirectDependencies;
+    private final ConcurrentMap<T, Supplier<List<T>>> directDependencies = new ConcurrentHashMap<>();
+    private final Set<T> indexedValues = ConcurrentHashMap.newKeySet();
+    private final Map<T, Node<T>> nodes = new HashMap<>();
+    private final List<Component<T>> components = new ArrayList<>();
+    private int visitCount = 0;
+
+    private TransitiveDependencyIndex(Function<? super T, ? extends Collection<? extends T>> getDirectDependencies) {
+        this.getDirectDependencies = checkNotNull(getDirectDependencies);
+    }
+
+    /**
+     * @return All nodes that can be reached from {@code origin} via at least one dependency.
+     *         Thus, {@code origin} itself is only contained, if it is part of a dependency cycle.
+     */
+    public Set<T> getTransitiveDependenciesOf(T origin) {
+        resolveDirectDependenciesReachableFrom(origin);
+        synchronized (this) {
+            return getTransitiveDependenciesOfResolved(origin);
+        }
+    }
+
+    private Set<T> getTransitiveDependenciesOfResolved(T origin) {
+        Component<T> originComponent = index(origin).component;
+        BitSet reachableComponents = reachableComponentsOf(originComponent);
+
+        ImmutableSet.Builder<T> result = ImmutableSet.builder();
+        // dependencies always belong to components with a lower id, thus this roughly starts with the closest dependencies
+        for (int id = reachableComponents.length() - 1; id >= 0; id = reachableComponents.previousSetBit(id - 1)) {
+            if (id != originComponent.id || originComponent.cyclic) {
+                result.addAll(components.get(id).members);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * @return {@code true}, if {@code target} can be reached from {@code origin} via at least one dependency
+     */
+    public boolean dependsTransitivelyOn(T origin, T target) {
+        resolveDirectDependenciesReachableFrom(origin);
+        synchronized (this) {
+            return dependsTransitivelyOnResolved(origin, target);
+        }
+    }
+
+    private boolean dependsTransitivelyOnResolved(T origin, T target) {
+        Component<T> originComponent = index(origin).component;
+        Node<T> targetNode = nodes.get(target);
+        // all nodes reachable from origin have been assigned to a component by now
+        if (targetNode == null || targetNode.component == null) {
+            return false;
+        }
+        if (targetNode.component == originComponent) {
+            return originComponent.cyclic;
+        }
+        return reachableComponentsOf(originComponent).get(targetNode.component.id);
+    }
+
+    /**
+     * Requests the direct dependencies of all nodes reachable from {@code origin} without holding the lock of the index.
+     * Nodes that have already been indexed are skipped, since everything reachable from them has been resolved before.
+     */
+    private void resolveDirectDependenciesReachableFrom(T origin) {
+        Set<T> seen = new HashSet<>();
+        Deque<T> toResolve = new ArrayDeque<>();
+        seen.add(checkNotNull(origin));
+        toResolve.push(origin);
+        while (!toResolve.isEmpty()) {
+            T current = toResolve.pop();
+            if (indexedValues.contains(current)) {
+                continue;
+            }
+            for (T dependency : directDependenciesOf(current)) {
+                if (seen.add(dependency)) {
+                    toResolve.push(dependency);
+                }
+            }
+        }
+    }
+
+    private List<T> directDependenciesOf(T value) {
+        // the memoized supplier makes sure each node is only requested once, even if concurrent queries reach the same node
+        return directDependencies.computeIfAbsent(value,
+                        v -> Suppliers.memoize(() -> ImmutableList.<T>copyOf(getDirectDependencies.apply(v))))
+                .get();
+    }
+
+    private Node<T> index(T origin) {
+        Node<T> node = nodeOf(origin);
+        if (node.component == null) {
+            findComponentsReachableFrom(node);
+        }
+        return node;
+    }
+
+    private Node<T> nodeOf(T value) {
+        return nodes.computeIfAbsent(checkNotNull(value), Node::new);
+    }
+
+    /**
+     * Tarjan's algorithm, where the recursion is replaced by an explicit stack of the current path. Nodes that already belong
+     * to a component from a previous run are simply skipped, since their components are complete (a previous run has
+     * visited everything reachable from them, so they cannot be part of any cycle through nodes that are unvisited so far).
+     */
+    private void findComponentsReachableFrom(Node<T> root) {
+        Deque<Node<T>> componentStack = new ArrayDeque<>();
+        Deque<PathElement<T>> path = new ArrayDeque<>();
+        visit(root, componentStack, path);
+        while (!path.isEmpty()) {
+            PathElement<T> current = path.peek();
+            Node<T> node = current.node;
+            if (current.nextDependency < node.dependencies.size()) {
+                Node<T> dependency = node.dependencies.get(current.nextDependency++);
+                if (dependency.visitIndex == UNVISITED) {
+                    visit(dependency, componentStack, path);
+                } else if (dependency.component == null) {
+                    // visited, but without component yet, thus still on the component stack
+                    node.lowLink = min(node.lowLink, dependency.visitIndex);
+                }
+            } else {
+                path.pop();
+                if (node.lowLink == node.visitIndex) {
+                    addComponentOf(node, componentStack);
+                }
+                if (!path.isEmpty()) {
+                    Node<T> parent = path.peek().node;
+                    parent.lowLink = min(parent.lowLink, node.lowLink);
+                }
+            }
+        }
+    }
+
+    private void visit(Node<T> node, Deque<Node<T>> componentStack, Deque<PathElement<T>> path) {
+        node.visitIndex = node.lowLink = visitCount++;
+        List<T> directDependencies = directDependenciesOf(node.value);
+        node.dependencies = new ArrayList<>(directDependencies.size());
+        for (T dependency : directDependencies) {
+            node.dependencies.add(nodeOf(dependency));
+        }
+        componentStack.push(node);
+        path.push(new PathElement<>(node));
+    }
+
+    private void addComponentOf(Node<T> root, Deque<Node<T>> componentStack) {
+        List<Node<T>> memberNodes = new ArrayList<>();
+        Node<T> member;
+        do {
+            member = componentStack.pop();
+            memberNodes.add(member);
+        } while (member != root);
+
+        Component<T> component = new Component<>(components.size(), memberNodes.size() > 1 || root.dependencies.contains(root));
+        for (Node<T> memberNode : memberNodes) {
+            memberNode.component = component;
+            component.members.add(memberNode.value);
+            indexedValues.add(memberNode.value);
+        }
+        // all dependencies of the members are either part of this component or of a component that has been completed before
+        BitSet dependencies = new BitSet();
+        for (Node<T> memberNode : memberNodes) {
+            for (Node<T> dependency : memberNode.dependencies) {
+                dependencies.set(dependency.component.id);
+            }
+        }
+        dependencies.clear(component.id);
+        component.dependencies = dependencies.stream().toArray();
+        components.add(component);
+    }
+
+    private BitSet reachableComponentsOf(Component<T> origin) {
+        if (origin.reachableComponents == null) {
+            calculateReachableComponents(origin);
+        }
+        return origin.reachableComponents;
+    }
+
+    private void calculateReachableComponents(Component<T> origin) {
+        BitSet missing = new BitSet();
+        missing.set(origin.id);
+        Deque<Component<T>> toExamine = new ArrayDeque<>();
+        toExamine.push(origin);
+        while (!toExamine.isEmpty()) {
+            for (int id : toExamine.pop().dependencies) {
+                Component<T> dependency = components.get(id);
+                if (dependency.reachableComponents == null && !missing.get(id)) {
+                    missing.set(id);
+                    toExamine.push(dependency);
+                }
+            }
+        }
+        // dependencies always belong to components with a lower id, so ascending ids guarantee that those are calculated first
+        for (int id = missing.nextSetBit(0); id >= 0; id = missing.nextSetBit(id + 1)) {
+            Component<T> component = components.get(id);
+            BitSet reachableComponents = new BitSet(id + 1);
+            reachableComponents.set(id);
+            for (int dependency : component.dependencies) {
+                reachableComponents.or(components.get(dependency).reachableComponents);
+            }
+            component.reachableComponents = reachableComponents;
+        }
+    }
+
+    /**
+     * @param getDirectDependencies Returns the direct dependencies of a node
+     */
+    public static <T> TransitiveDependencyIndex<T> of(Function<? super T, ? extends Collection<? extends T>> getDirectDependencies) {
+        return new TransitiveDependencyIndex<>(getDirectDependencies);
+    }
+
+    private static class Node<T> {
+        private final T value;
+        private List<Node<T>> dependencies;
+        private int visitIndex = UNVISITED;
+        private int lowLink;
+        private Component<T> component;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private static class PathElement<T> {
+        private final Node<T> node;
+        private int nextDependency = 0;
+
+        PathElement(Node<T> node) {
+            this.node = node;
+        }
+    }
+
+    private static class Component<T> {
+        private final int id;
+        private final boolean cyclic;
+        private final List<T> members = new ArrayList<>();
+        private int[] dependencies;
+        private BitSet reachableComponents;
+
+        Component(int id, boolean cyclic) {
+            this.id = id;
+            this.cyclic = cyclic;
+        }
+    }
+}
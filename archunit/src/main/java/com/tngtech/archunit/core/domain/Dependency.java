@@ -61,27 +61,30 @@ import static java.util.Collections.singleton;
 public class Dependency implements HasDescription, Comparable<Dependency>, HasSourceCodeLocation, Convertible {
     private final JavaClass originClass;
     private final JavaClass targetClass;
-    private final String description;
+    // the description is only rendered on demand from these, since only few dependencies are ever reported
+    private final HasDescription origin;
+    private final String dependencyType;
     private final SourceCodeLocation sourceCodeLocation;
     private final int hashCode;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, SourceCodeLocation sourceCodeLocation, String description) {
+    private Dependency(JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
         checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
                 "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
+                dependencyType, originClass.getSimpleName(), targetClass.getSimpleName());
 
         this.originClass = originClass;
         this.targetClass = targetClass;
-        this.description = description;
+        this.origin = origin;
+        this.dependencyType = dependencyType;
         this.sourceCodeLocation = sourceCodeLocation;
-        hashCode = Objects.hash(originClass, targetClass, sourceCodeLocation, description);
+        hashCode = Objects.hash(originClass, targetClass, sourceCodeLocation, dependencyType, hashOfDescription(origin));
     }
 
     static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
+                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin(), targetOwner, access.getSourceCodeLocation()));
         if (!originOwner.equals(targetOwner) && !targetOwner.isPrimitive()) {
             dependencies.add(new Dependency.FromAccess(access));
         }
@@ -89,22 +92,15 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     }
 
     static Dependency fromInheritance(JavaClass origin, JavaClass targetSupertype) {
-        String originType = origin.isInterface() ? "Interface" : "Class";
-        String originDescription = originType + " " + bracketFormat(origin.getName());
-
         String dependencyType = !origin.isInterface() && targetSupertype.isInterface() ? "implements" : "extends";
-
         String targetType = targetSupertype.isInterface() ? "interface" : "class";
-        String targetDescription = bracketFormat(targetSupertype.getName());
 
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
-
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, origin.getSourceCodeLocation());
+        Optional<Dependency> result = tryCreateSingleDependency(
+                origin, new InheritingClass(origin), dependencyType + " " + targetType, targetSupertype, origin.getSourceCodeLocation());
 
         if (!result.isPresent()) {
             throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
-                    description, origin.getSimpleName(), targetSupertype.getSimpleName()));
+                    dependencyType, origin.getSimpleName(), targetSupertype.getSimpleName()));
         }
         return result.get();
     }
@@ -180,21 +176,25 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static Origin findSuitableOrigin(Object dependencyCause, Object originCandidate) {
         if (originCandidate instanceof JavaMember) {
             JavaMember member = (JavaMember) originCandidate;
-            return new Origin(member.getOwner(), member.getDescription());
+            return new Origin(member.getOwner(), member);
         }
         if (originCandidate instanceof JavaClass) {
             JavaClass clazz = (JavaClass) originCandidate;
-            return new Origin(clazz, clazz.getDescription());
+            return new Origin(clazz, clazz);
         }
         if (originCandidate instanceof JavaParameter) {
             JavaParameter parameter = (JavaParameter) originCandidate;
-            return new Origin(parameter.getOwner().getOwner(), parameter.getDescription());
+            return new Origin(parameter.getOwner().getOwner(), parameter);
         }
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
+    private static Set<Dependency> tryCreateDependency(Origin origin, String dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin.originClass, origin.originElement, dependencyType, targetClass, origin.originClass.getSourceCodeLocation());
+    }
+
     private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass) {
-        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation());
+        return tryCreateDependency(origin, origin, dependencyType, targetClass, origin.getSourceCodeLocation());
     }
 
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
@@ -206,41 +206,37 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
             T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation);
+        return tryCreateDependency(origin.getOwner(), origin, dependencyType, targetClass, sourceCodeLocation);
     }
 
     private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
-        String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation)));
+                .addAll(createComponentTypeDependencies(originClass, origin, targetClass, sourceCodeLocation));
+        dependencies.addAll(asSet(tryCreateSingleDependency(originClass, origin, dependencyType, targetClass, sourceCodeLocation)));
         return dependencies.build();
     }
 
     private static Set<Dependency> createComponentTypeDependencies(
-            JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, HasDescription origin, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
-            String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation)));
+            result.addAll(asSet(tryCreateSingleDependency(originClass, origin, "depends on component type", componentType.get(), sourceCodeLocation)));
             componentType = componentType.get().tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, SourceCodeLocation sourceCodeLocation) {
+    private static Optional<Dependency> tryCreateSingleDependency(
+            JavaClass originClass, HasDescription origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, sourceCodeLocation, description));
+        return Optional.of(new Dependency(originClass, origin, dependencyType, targetClass, sourceCodeLocation));
     }
 
     private static String bracketFormat(String name) {
@@ -266,7 +262,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
-        return description;
+        return origin.getDescription() + " " + dependencyType + " " + bracketFormat(targetClass.getName()) + " in " + sourceCodeLocation;
     }
 
     @Override
@@ -310,7 +306,48 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         return Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
                 && Objects.equals(this.sourceCodeLocation.getLineNumber(), other.sourceCodeLocation.getLineNumber())
-                && Objects.equals(this.description, other.description);
+                && Objects.equals(this.dependencyType, other.dependencyType)
+                && haveEqualDescriptions(this.origin, other.origin);
+    }
+
+    /**
+     * Dependencies are equal, if their descriptions are equal. Thus, origins with equal descriptions must be considered equal,
+     * e.g. a bridge method and the method it bridges to, since the return type is not part of the description,
+     * or two equal accesses within the same line (like {@code foo(); foo();}).
+     * The origin class, dependency type and line number have already been compared at this point.
+     */
+    private static boolean haveEqualDescriptions(HasDescription origin, HasDescription otherOrigin) {
+        if (origin.equals(otherOrigin)) {
+            return true;
+        }
+        if (origin.getClass() != otherOrigin.getClass()) {
+            return false;
+        }
+        if (origin instanceof JavaMember) {
+            return ((JavaMember) origin).getFullName().equals(((JavaMember) otherOrigin).getFullName());
+        }
+        if (origin instanceof JavaAccess<?>) {
+            JavaAccess<?> access = (JavaAccess<?>) origin;
+            JavaAccess<?> otherAccess = (JavaAccess<?>) otherOrigin;
+            return access.getOrigin().getFullName().equals(otherAccess.getOrigin().getFullName())
+                    && access.getTarget().getFullName().equals(otherAccess.getTarget().getFullName());
+        }
+        return origin.getDescription().equals(otherOrigin.getDescription());
+    }
+
+    // must be consistent with haveEqualDescriptions(..), i.e. only hash what is compared there (besides the fields hashed anyway)
+    private static int hashOfDescription(HasDescription origin) {
+        if (origin instanceof JavaMember) {
+            return ((JavaMember) origin).getName().hashCode();
+        }
+        if (origin instanceof JavaParameter) {
+            return ((JavaParameter) origin).getOwner().getName().hashCode();
+        }
+        if (origin instanceof JavaAccess<?>) {
+            JavaAccess<?> access = (JavaAccess<?>) origin;
+            return Objects.hash(access.getOrigin().getFullName(), access.getTarget().getFullName(), access.getLineNumber());
+        }
+        return origin.hashCode();
     }
 
     @Override
@@ -319,7 +356,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("sourceCodeLocation", sourceCodeLocation)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -336,10 +373,15 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         private final JavaAccess<?> access;
 
         FromAccess(JavaAccess<?> access) {
-            super(access.getOriginOwner(), access.getTargetOwner(), access.getSourceCodeLocation(), access.getDescription());
+            super(access.getOriginOwner(), access, access.descriptionVerb(), access.getTargetOwner(), access.getSourceCodeLocation());
             this.access = access;
         }
 
+        @Override
+        public String getDescription() {
+            return access.getDescription();
+        }
+
         @Override
         @SuppressWarnings("unchecked") // compatibility is explicitly checked
         public <T> Set<T> convertTo(Class<T> type) {
@@ -352,46 +394,51 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
             return super.convertTo(type);
         }
 
-        @Override
-        public int hashCode() {
-            return access.hashCode();
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null || getClass() != obj.getClass()) {
-                return false;
-            }
-            final FromAccess other = (FromAccess) obj;
-            return Objects.equals(this.access, other.access);
-        }
-
         @Override
         public String toString() {
             return getClass().getEnclosingClass().getSimpleName() + "." + super.toString();
         }
     }
 
-    private static class Origin implements HasOwner<JavaClass>, HasDescription {
+    private static class Origin {
         private final JavaClass originClass;
-        private final String originDescription;
+        private final HasDescription originElement;
 
-        private Origin(JavaClass originClass, String originDescription) {
+        private Origin(JavaClass originClass, HasDescription originElement) {
             this.originClass = originClass;
-            this.originDescription = originDescription;
+            this.originElement = originElement;
         }
+    }
 
-        @Override
-        public JavaClass getOwner() {
-            return originClass;
+    /**
+     * The origin of an inheritance dependency, which is described as class or interface depending on the type of the class
+     */
+    private static class InheritingClass implements HasDescription {
+        private final JavaClass javaClass;
+
+        private InheritingClass(JavaClass javaClass) {
+            this.javaClass = javaClass;
         }
 
         @Override
         public String getDescription() {
-            return originDescription;
+            return (javaClass.isInterface() ? "Interface" : "Class") + " " + bracketFormat(javaClass.getName());
+        }
+
+        @Override
+        public int hashCode() {
+            return javaClass.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return Objects.equals(this.javaClass, ((InheritingClass) obj).javaClass);
         }
     }
 
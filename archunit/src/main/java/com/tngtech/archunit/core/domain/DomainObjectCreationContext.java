@@ -28,6 +28,7 @@ import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorReferenceTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodReferenceTarget;
+import com.tngtech.archunit.core.domain.Source.Md5sum;
 import com.tngtech.archunit.core.importer.DomainBuilders;
 import com.tngtech.archunit.core.importer.DomainBuilders.CodeUnitAccessTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
@@ -68,6 +69,20 @@ public class DomainObjectCreationContext {
         return JavaClasses.of(selectedClasses, allClasses, importContext);
     }
 
+    public static LazyClassCompletion createLazyClassCompletion(ImportContext importContext) {
+        return new LazyClassCompletion(importContext);
+    }
+
+    public static JavaClasses createJavaClasses(
+            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, LazyClassCompletion lazyClassCompletion) {
+
+        return JavaClasses.of(selectedClasses, allClasses, lazyClassCompletion);
+    }
+
+    public static void completeCreatedClass(JavaClass javaClass, LazyClassCompletion lazyClassCompletion) {
+        lazyClassCompletion.completeCreatedClass(javaClass);
+    }
+
     public static JavaClass createJavaClass(JavaClassBuilder builder) {
         return new JavaClass(builder);
     }
@@ -172,6 +187,14 @@ public class DomainObjectCreationContext {
         return new Source(uri, sourceFileName, md5InClassSourcesEnabled);
     }
 
+    public static Source createSource(URI uri, Optional<String> sourceFileName, Optional<Md5sum> md5sum, Optional<String> fingerprint) {
+        return new Source(uri, sourceFileName, md5sum.orElse(Md5sum.DISABLED), fingerprint);
+    }
+
+    public static Md5sum createMd5sum(byte[] classFile, int length) {
+        return Md5sum.of(classFile, length);
+    }
+
     public static ReferencedClassObject createReferencedClassObject(JavaCodeUnit codeUnit, JavaClass javaClass, int lineNumber, boolean declaredInLambda) {
         return ReferencedClassObject.from(codeUnit, javaClass, lineNumber, declaredInLambda);
     }
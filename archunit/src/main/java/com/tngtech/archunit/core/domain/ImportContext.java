@@ -61,6 +61,12 @@ public interface ImportContext {
 
     Set<JavaConstructorReference> createConstructorReferencesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders);
 
+    /**
+     * Must be called before the code units of the owner are completed, if classes are completed lazily,
+     * so the accesses and further dependencies of these code units are known by then.
+     */
+    void completeCodeUnitDependenciesOf(JavaClass owner);
+
     Set<TryCatchBlockBuilder> createTryCatchBlockBuilders(JavaCodeUnit codeUnit);
 
     Set<ReferencedClassObject> createReferencedClassObjectsFor(JavaCodeUnit codeUnit);
@@ -18,10 +18,12 @@ package com.tngtech.archunit.core.domain;
 import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.domain.properties.HasType;
@@ -81,9 +83,9 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
     private final OWNER owner;
     private final CanBeAnnotated annotatedElement;
     private final String description;
-    private final Map<String, Object> values;
+    private final Supplier<Map<String, Object>> values;
 
-    private JavaAnnotation(JavaClass type, OWNER owner, CanBeAnnotated annotatedElement, String description, Map<String, Object> values) {
+    private JavaAnnotation(JavaClass type, OWNER owner, CanBeAnnotated annotatedElement, String description, Supplier<Map<String, Object>> values) {
         this.type = checkNotNull(type);
         this.owner = checkNotNull(owner);
         this.annotatedElement = checkNotNull(annotatedElement);
@@ -96,7 +98,8 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
         this.owner = checkNotNull(owner);
         this.annotatedElement = getAnnotatedElement(owner);
         this.description = createDescription();
-        this.values = checkNotNull(builder.getValues(this));
+        // the values (e.g. nested annotations or enum constants) are only created once any property is queried
+        this.values = Suppliers.memoize(() -> checkNotNull(builder.getValues(this)));
     }
 
     private static CanBeAnnotated getAnnotatedElement(Object owner) {
@@ -199,7 +202,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Object> get(String propertyName) {
-        Object directResult = values.get(propertyName);
+        Object directResult = values.get().get(propertyName);
         return directResult != null
                 ? Optional.of(directResult)
                 : tryGetDefaultValue(propertyName);
@@ -260,7 +263,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Object> tryGetExplicitlyDeclaredProperty(String propertyName) {
-        return Optional.ofNullable(values.get(propertyName));
+        return Optional.ofNullable(values.get().get(propertyName));
     }
 
     /**
@@ -269,9 +272,9 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
     @PublicAPI(usage = ACCESS)
     public Map<String, Object> getProperties() {
         ImmutableMap.Builder<String, Object> result = ImmutableMap.builder();
-        result.putAll(values);
+        result.putAll(values.get());
         for (JavaMethod method : type.getMethods()) {
-            if (!values.containsKey(method.getName()) && method.getDefaultValue().isPresent()) {
+            if (!values.get().containsKey(method.getName()) && method.getDefaultValue().isPresent()) {
                 result.put(method.getName(), method.getDefaultValue().get());
             }
         }
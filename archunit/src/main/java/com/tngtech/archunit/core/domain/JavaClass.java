@@ -116,19 +116,23 @@ public final class JavaClass
     });
     private final Set<JavaClass> subclasses = new HashSet<>();
     private final Supplier<Set<JavaClass>> allSubclasses = Suppliers.memoize(() -> {
-        Set<JavaClass> result = new HashSet<>();
+        JavaClassSet.Builder result = JavaClassSet.builder();
         for (JavaClass subclass : subclasses) {
             result.add(subclass);
             result.addAll(subclass.getAllSubclasses());
         }
-        return ImmutableSet.copyOf(result);
+        return result.build();
     });
     private EnclosingDeclaration enclosingDeclaration = EnclosingDeclaration.ABSENT;
     private Optional<JavaClass> componentType = Optional.empty();
     private Map<String, JavaAnnotation<JavaClass>> annotations = emptyMap();
     private JavaClassDependencies javaClassDependencies = new JavaClassDependencies(this);  // just for stubs; will be overwritten for imported classes
-    private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private Supplier<ReverseDependencies> reverseDependencies = () -> ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private volatile Optional<JavaClassTransitiveDependencies> transitiveDependencies = Optional.empty();  // shared by all classes of the same import
+    private volatile JavaClassIds ids;  // just for stubs not known to any import; will be set for imported classes
+    private volatile int id;
     private final CompletionProcess completionProcess;
+    private volatile LazyClassCompletion lazyCompletion;  // only set for lazily completed imports until this class has been completed
 
     JavaClass(JavaClassBuilder builder) {
         source = checkNotNull(builder.getSource());
@@ -255,7 +259,7 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaEnumConstant> getEnumConstants() {
-        return members.getEnumConstants();
+        return members().getEnumConstants();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -287,7 +291,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaClass> tryGetComponentType() {
-        return componentType;
+        return componentType();
     }
 
     /**
@@ -377,7 +381,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public boolean isNestedClass() {
-        return enclosingDeclaration.isPresent();
+        return enclosingDeclaration().isPresent();
     }
 
     /**
@@ -557,13 +561,13 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isAnnotatedWith(String annotationTypeName) {
-        return annotations.containsKey(annotationTypeName);
+        return annotations().containsKey(annotationTypeName);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isAnnotatedWith(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
-        return CanBeAnnotated.Utils.isAnnotatedWith(annotations.values(), predicate);
+        return CanBeAnnotated.Utils.isAnnotatedWith(annotations().values(), predicate);
     }
 
     @Override
@@ -581,7 +585,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
-        return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations.values(), predicate);
+        return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations().values(), predicate);
     }
 
     /**
@@ -610,7 +614,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<JavaClass>> getAnnotations() {
-        return ImmutableSet.copyOf(annotations.values());
+        return ImmutableSet.copyOf(annotations().values());
     }
 
     /**
@@ -632,23 +636,23 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public Optional<JavaAnnotation<JavaClass>> tryGetAnnotationOfType(String typeName) {
-        return Optional.ofNullable(annotations.get(typeName));
+        return Optional.ofNullable(annotations().get(typeName));
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public List<JavaTypeVariable<JavaClass>> getTypeParameters() {
-        return typeParameters;
+        return typeParameters();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecks() {
-        return members.getInstanceofChecks();
+        return members().getInstanceofChecks();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<ReferencedClassObject> getReferencedClassObjects() {
-        return members.getReferencedClassObjects();
+        return members().getReferencedClassObjects();
     }
 
     @Override
@@ -669,7 +673,7 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Optional<JavaType> getSuperclass() {
-        return superclass.get();
+        return superclass().get();
     }
 
     /**
@@ -696,7 +700,7 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaType> getInterfaces() {
-        return interfaces.get();
+        return interfaces().get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -741,7 +745,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaClass> getEnclosingClass() {
-        return enclosingDeclaration.getEnclosingClass();
+        return enclosingDeclaration().getEnclosingClass();
     }
 
     /**
@@ -772,7 +776,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaCodeUnit> getEnclosingCodeUnit() {
-        return enclosingDeclaration.getEnclosingCodeUnit();
+        return enclosingDeclaration().getEnclosingCodeUnit();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -782,22 +786,22 @@ public final class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMember> getMembers() {
-        return members.get();
+        return members().get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMember> getAllMembers() {
-        return members.getAll();
+        return members().getAll();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getFields() {
-        return members.getFields();
+        return members().getFields();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getAllFields() {
-        return members.getAllFields();
+        return members().getAllFields();
     }
 
     /**
@@ -806,7 +810,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaField getField(String name) {
-        return members.getField(name);
+        return members().getField(name);
     }
 
     /**
@@ -814,12 +818,12 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaField> tryGetField(String name) {
-        return members.tryGetField(name);
+        return members().tryGetField(name);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaCodeUnit> getCodeUnits() {
-        return members.getCodeUnits();
+        return members().getCodeUnits();
     }
 
     /**
@@ -864,7 +868,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaCodeUnit getCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return members.getCodeUnitWithParameterTypeNames(name, parameters);
+        return members().getCodeUnitWithParameterTypeNames(name, parameters);
     }
 
     /**
@@ -873,7 +877,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaCodeUnit> tryGetCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return members.tryGetCodeUnitWithParameterTypeNames(name, parameters);
+        return members().tryGetCodeUnitWithParameterTypeNames(name, parameters);
     }
 
     /**
@@ -882,7 +886,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name) {
-        return members.getMethod(name, Collections.emptyList());
+        return members().getMethod(name, Collections.emptyList());
     }
 
     /**
@@ -891,7 +895,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, Class<?>... parameters) {
-        return members.getMethod(name, formatNamesOf(parameters));
+        return members().getMethod(name, formatNamesOf(parameters));
     }
 
     /**
@@ -899,7 +903,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, String... parameters) {
-        return members.getMethod(name, ImmutableList.copyOf(parameters));
+        return members().getMethod(name, ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -908,7 +912,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name) {
-        return members.tryGetMethod(name, Collections.emptyList());
+        return members().tryGetMethod(name, Collections.emptyList());
     }
 
     /**
@@ -917,7 +921,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, Class<?>... parameters) {
-        return members.tryGetMethod(name, formatNamesOf(parameters));
+        return members().tryGetMethod(name, formatNamesOf(parameters));
     }
 
     /**
@@ -925,17 +929,17 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaMethod> tryGetMethod(String name, String... parameters) {
-        return members.tryGetMethod(name, ImmutableList.copyOf(parameters));
+        return members().tryGetMethod(name, ImmutableList.copyOf(parameters));
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethods() {
-        return members.getMethods();
+        return members().getMethods();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getAllMethods() {
-        return members.getAllMethods();
+        return members().getAllMethods();
     }
 
     /**
@@ -944,7 +948,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor() {
-        return members.getConstructor(Collections.emptyList());
+        return members().getConstructor(Collections.emptyList());
     }
 
     /**
@@ -958,7 +962,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(Class<?>... parameters) {
-        return members.getConstructor(formatNamesOf(parameters));
+        return members().getConstructor(formatNamesOf(parameters));
     }
 
     /**
@@ -966,7 +970,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public JavaConstructor getConstructor(String... parameters) {
-        return members.getConstructor(ImmutableList.copyOf(parameters));
+        return members().getConstructor(ImmutableList.copyOf(parameters));
     }
 
     /**
@@ -975,7 +979,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor() {
-        return members.tryGetConstructor(Collections.emptyList());
+        return members().tryGetConstructor(Collections.emptyList());
     }
 
     /**
@@ -984,7 +988,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(Class<?>... parameters) {
-        return members.tryGetConstructor(formatNamesOf(parameters));
+        return members().tryGetConstructor(formatNamesOf(parameters));
     }
 
     /**
@@ -992,22 +996,22 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Optional<JavaConstructor> tryGetConstructor(String... parameters) {
-        return members.tryGetConstructor(ImmutableList.copyOf(parameters));
+        return members().tryGetConstructor(ImmutableList.copyOf(parameters));
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getConstructors() {
-        return members.getConstructors();
+        return members().getConstructors();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getAllConstructors() {
-        return members.getAllConstructors();
+        return members().getAllConstructors();
     }
 
     @PublicAPI(usage = ACCESS)
     public Optional<JavaStaticInitializer> getStaticInitializer() {
-        return members.getStaticInitializer();
+        return members().getStaticInitializer();
     }
 
     /**
@@ -1055,7 +1059,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesFromSelf() {
-        return members.getFieldAccessesFromSelf();
+        return members().getFieldAccessesFromSelf();
     }
 
     /**
@@ -1107,7 +1111,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
-        return members.getMethodCallsFromSelf();
+        return members().getMethodCallsFromSelf();
     }
 
     /**
@@ -1124,7 +1128,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
-        return members.getConstructorCallsFromSelf();
+        return members().getConstructorCallsFromSelf();
     }
 
     /**
@@ -1158,7 +1162,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesFromSelf() {
-        return members.getMethodReferencesFromSelf();
+        return members().getMethodReferencesFromSelf();
     }
 
     /**
@@ -1175,7 +1179,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesFromSelf() {
-        return members.getConstructorReferencesFromSelf();
+        return members().getConstructorReferencesFromSelf();
     }
 
     /**
@@ -1184,7 +1188,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesFromSelf() {
-        return javaClassDependencies.getDirectDependenciesFromClass();
+        return javaClassDependencies().getDirectDependenciesFromClass();
     }
 
     /**
@@ -1195,7 +1199,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getTransitiveDependenciesFromSelf() {
-        return JavaClassTransitiveDependencies.findTransitiveDependenciesFrom(this);
+        return transitiveDependencies.orElseGet(JavaClassTransitiveDependencies::new).findTransitiveDependenciesFrom(this);
     }
 
     /**
@@ -1206,12 +1210,12 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getDirectDependenciesToSelf() {
-        return reverseDependencies.getDirectDependenciesTo(this);
+        return reverseDependencies().getDirectDependenciesTo(this);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesToSelf() {
-        return members.getFieldAccessesToSelf();
+        return members().getFieldAccessesToSelf();
     }
 
     /**
@@ -1243,7 +1247,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsToSelf() {
-        return members.getMethodCallsToSelf();
+        return members().getMethodCallsToSelf();
     }
 
     /**
@@ -1251,7 +1255,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesToSelf() {
-        return members.getMethodReferencesToSelf();
+        return members().getMethodReferencesToSelf();
     }
 
     /**
@@ -1259,7 +1263,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsToSelf() {
-        return members.getConstructorCallsToSelf();
+        return members().getConstructorCallsToSelf();
     }
 
     /**
@@ -1267,7 +1271,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesToSelf() {
-        return members.getConstructorReferencesToSelf();
+        return members().getConstructorReferencesToSelf();
     }
 
     /**
@@ -1283,7 +1287,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaField> getFieldsWithTypeOfSelf() {
-        return reverseDependencies.getFieldsWithTypeOf(this);
+        return reverseDependencies().getFieldsWithTypeOf(this);
     }
 
     /**
@@ -1291,7 +1295,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethodsWithParameterTypeOfSelf() {
-        return reverseDependencies.getMethodsWithParameterTypeOf(this);
+        return reverseDependencies().getMethodsWithParameterTypeOf(this);
     }
 
     /**
@@ -1299,7 +1303,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethod> getMethodsWithReturnTypeOfSelf() {
-        return reverseDependencies.getMethodsWithReturnTypeOf(this);
+        return reverseDependencies().getMethodsWithReturnTypeOf(this);
     }
 
     /**
@@ -1307,7 +1311,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<ThrowsDeclaration<JavaMethod>> getMethodThrowsDeclarationsWithTypeOfSelf() {
-        return reverseDependencies.getMethodThrowsDeclarationsWithTypeOf(this);
+        return reverseDependencies().getMethodThrowsDeclarationsWithTypeOf(this);
     }
 
     /**
@@ -1315,7 +1319,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructor> getConstructorsWithParameterTypeOfSelf() {
-        return reverseDependencies.getConstructorsWithParameterTypeOf(this);
+        return reverseDependencies().getConstructorsWithParameterTypeOf(this);
     }
 
     /**
@@ -1323,7 +1327,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<ThrowsDeclaration<JavaConstructor>> getConstructorsWithThrowsDeclarationTypeOfSelf() {
-        return reverseDependencies.getConstructorsWithThrowsDeclarationTypeOf(this);
+        return reverseDependencies().getConstructorsWithThrowsDeclarationTypeOf(this);
     }
 
     /**
@@ -1331,7 +1335,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<?>> getAnnotationsWithTypeOfSelf() {
-        return reverseDependencies.getAnnotationsWithTypeOf(this);
+        return reverseDependencies().getAnnotationsWithTypeOf(this);
     }
 
     /**
@@ -1339,7 +1343,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaAnnotation<?>> getAnnotationsWithParameterTypeOfSelf() {
-        return reverseDependencies.getAnnotationsWithParameterTypeOf(this);
+        return reverseDependencies().getAnnotationsWithParameterTypeOf(this);
     }
 
     /**
@@ -1347,7 +1351,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecksWithTypeOfSelf() {
-        return reverseDependencies.getInstanceofChecksWithTypeOf(this);
+        return reverseDependencies().getInstanceofChecksWithTypeOf(this);
     }
 
     /**
@@ -1358,6 +1362,7 @@ public final class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public boolean isFullyImported() {
+        ensureComplete();
         return completionProcess.hasFinished();
     }
 
@@ -1423,6 +1428,70 @@ public final class JavaClass
         return reflectSupplier.get();
     }
 
+    private List<JavaTypeVariable<JavaClass>> typeParameters() {
+        ensureComplete();
+        return typeParameters;
+    }
+
+    private JavaClassMembers members() {
+        ensureComplete();
+        return members;
+    }
+
+    private Superclass superclass() {
+        ensureComplete();
+        return superclass;
+    }
+
+    private Interfaces interfaces() {
+        ensureComplete();
+        return interfaces;
+    }
+
+    private EnclosingDeclaration enclosingDeclaration() {
+        ensureComplete();
+        return enclosingDeclaration;
+    }
+
+    private Optional<JavaClass> componentType() {
+        ensureComplete();
+        return componentType;
+    }
+
+    private Map<String, JavaAnnotation<JavaClass>> annotations() {
+        ensureComplete();
+        return annotations;
+    }
+
+    JavaClassDependencies javaClassDependencies() {
+        ensureComplete();
+        return javaClassDependencies;
+    }
+
+    private ReverseDependencies reverseDependencies() {
+        ensureComplete();
+        return reverseDependencies.get();
+    }
+
+    private void ensureComplete() {
+        LazyClassCompletion completion = lazyCompletion;
+        if (completion != null) {
+            completion.complete(this);
+        }
+    }
+
+    void completeLazilyBy(LazyClassCompletion completion) {
+        lazyCompletion = completion;
+    }
+
+    boolean isWaitingForLazyCompletion() {
+        return lazyCompletion != null;
+    }
+
+    void finishLazyCompletion() {
+        lazyCompletion = null;
+    }
+
     void completeClassHierarchyFrom(ImportContext context) {
         completeSuperclassFrom(context);
         completeInterfacesFrom(context);
@@ -1500,7 +1569,25 @@ public final class JavaClass
         }
     }
 
-    void setReverseDependencies(ReverseDependencies reverseDependencies) {
+    void setId(JavaClassIds ids, int id) {
+        // the id must be written first, so whoever sees the ids also sees the id
+        this.id = id;
+        this.ids = ids;
+    }
+
+    JavaClassIds getIds() {
+        return ids;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    void setTransitiveDependencies(JavaClassTransitiveDependencies transitiveDependencies) {
+        this.transitiveDependencies = Optional.of(transitiveDependencies);
+    }
+
+    void setReverseDependencies(Supplier<ReverseDependencies> reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
         completionProcess.markDependenciesComplete();
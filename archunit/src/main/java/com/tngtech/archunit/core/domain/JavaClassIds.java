@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assigns dense ids to the classes of one import, i.e. the ids of all classes of one import are {@code 0, 1, 2, ...}.
+ * Thus, sets of these classes can be stored as compact bitmaps of their ids (compare {@link JavaClassSet}).
+ * Classes created while completing an import lazily are registered as soon as they are created.
+ */
+class JavaClassIds {
+    private final List<JavaClass> classes = new ArrayList<>();
+
+    synchronized void register(JavaClass javaClass) {
+        if (javaClass.getIds() == null) {
+            javaClass.setId(this, classes.size());
+            classes.add(javaClass);
+        }
+    }
+
+    synchronized JavaClass get(int id) {
+        return classes.get(id);
+    }
+}
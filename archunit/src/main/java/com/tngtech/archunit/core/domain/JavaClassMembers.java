@@ -324,7 +324,7 @@ class JavaClassMembers {
         }
     }
 
-    void setReverseDependencies(ReverseDependencies reverseDependencies) {
+    void setReverseDependencies(Supplier<ReverseDependencies> reverseDependencies) {
         for (JavaMember member : members) {
             member.setReverseDependencies(reverseDependencies);
         }
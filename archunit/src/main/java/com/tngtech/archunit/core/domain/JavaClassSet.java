@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * An immutable {@link Set} of {@link JavaClass JavaClasses}, which stores the classes of one import by the dense ids
+ * the import has assigned to them. Depending on how densely the ids of a set are distributed, they are either stored
+ * as a bitmap or as a sorted array, so a set of classes needs at most a few bytes per class instead of a hash table entry.
+ * Membership tests, unions, intersections and differences of sets of classes from the same import only operate on these ids.
+ * <br><br>
+ * Classes that are not part of the same import (e.g. classes from another import) can be contained as well,
+ * but are stored in a conventional hash set.
+ * The classes of the import are iterated in the order of their ids (i.e. ordered by name for the classes known
+ * at the end of the import), followed by all other classes.
+ */
+@PublicAPI(usage = ACCESS)
+public final class JavaClassSet extends AbstractSet<JavaClass> {
+    private static final JavaClassSet EMPTY = new JavaClassSet(null, new BitSet(), ImmutableSet.of());
+
+    private final JavaClassIds ids;
+    // either the bitmap or the sorted array is set, depending on how densely the ids are distributed
+    private final BitSet idBitmap;
+    private final int[] sortedIds;
+    private final ImmutableSet<JavaClass> otherClasses;
+    private final int size;
+
+    private JavaClassSet(JavaClassIds ids, BitSet idsOfClasses, ImmutableSet<JavaClass> otherClasses) {
+        this.ids = ids;
+        int numberOfIds = idsOfClasses.cardinality();
+        // a bitmap needs one bit per possible id up to the highest id, the array 32 bits per contained id
+        if (numberOfIds < idsOfClasses.length() / Integer.SIZE) {
+            this.idBitmap = null;
+            this.sortedIds = idsOfClasses.stream().toArray();
+        } else {
+            this.idBitmap = (BitSet) idsOfClasses.clone();
+            this.sortedIds = null;
+        }
+        this.otherClasses = otherClasses;
+        this.size = numberOfIds + otherClasses.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof JavaClass)) {
+            return false;
+        }
+        JavaClass javaClass = (JavaClass) o;
+        return (ids != null && javaClass.getIds() == ids && containsId(javaClass.getId())) || otherClasses.contains(javaClass);
+    }
+
+    private boolean containsId(int id) {
+        return idBitmap != null ? idBitmap.get(id) : Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<JavaClass> iterator() {
+        if (ids == null) {
+            return otherClasses.iterator();
+        }
+        Iterator<JavaClass> classesWithIds = idStream().mapToObj(ids::get).iterator();
+        return Iterators.unmodifiableIterator(Iterators.concat(classesWithIds, otherClasses.iterator()));
+    }
+
+    private IntStream idStream() {
+        return idBitmap != null ? idBitmap.stream() : Arrays.stream(sortedIds);
+    }
+
+    private boolean hasSameIdsAs(Set<?> other) {
+        return ids != null && other instanceof JavaClassSet && ((JavaClassSet) other).ids == ids;
+    }
+
+    /**
+     * Combines the ids and the other classes of this set and the other set. Both sets are first normalized by a {@link Builder},
+     * i.e. other classes that have been registered by a lazy completion of the import in the meantime are moved to the ids.
+     * Otherwise, a class might e.g. be contained as an other class of this set and by its id in the other set at the same time.
+     */
+    private JavaClassSet combineWith(JavaClassSet other, BiConsumer<BitSet, BitSet> combineIds, BiConsumer<Set<JavaClass>, Set<JavaClass>> combineOtherClasses) {
+        Builder result = builder().addAll(this);
+        Builder otherResult = builder().addAll(other);
+
+        combineIds.accept(result.idsOfClasses, otherResult.idsOfClasses);
+        combineOtherClasses.accept(result.otherClasses, otherResult.otherClasses);
+        return result.build();
+    }
+
+    /**
+     * @return All classes that are contained in this set or in the other set
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClassSet union(Set<JavaClass> other) {
+        if (hasSameIdsAs(other)) {
+            return combineWith((JavaClassSet) other, BitSet::or, Set::addAll);
+        }
+        return builder().addAll(this).addAll(other).build();
+    }
+
+    /**
+     * @return All classes that are contained in this set as well as in the other set
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClassSet intersection(Set<?> other) {
+        if (hasSameIdsAs(other)) {
+            return combineWith((JavaClassSet) other, BitSet::and, Set::retainAll);
+        }
+        Builder result = builder();
+        for (JavaClass javaClass : this) {
+            if (other.contains(javaClass)) {
+                result.add(javaClass);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * @return All classes that are contained in this set, but not in the other set
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClassSet difference(Set<?> other) {
+        if (hasSameIdsAs(other)) {
+            return combineWith((JavaClassSet) other, BitSet::andNot, Set::removeAll);
+        }
+        Builder result = builder();
+        for (JavaClass javaClass : this) {
+            if (!other.contains(javaClass)) {
+                result.add(javaClass);
+            }
+        }
+        return result.build();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static JavaClassSet of(Iterable<JavaClass> classes) {
+        return classes instanceof JavaClassSet ? (JavaClassSet) classes : builder().addAll(classes).build();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static JavaClassSet of(JavaClass... classes) {
+        return of(Arrays.asList(classes));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static final class Builder {
+        private JavaClassIds ids;
+        private final BitSet idsOfClasses = new BitSet();
+        private final Set<JavaClass> otherClasses = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public Builder add(JavaClass javaClass) {
+            JavaClassIds idsOfClass = checkNotNull(javaClass).getIds();
+            if (idsOfClass != null && (ids == null || ids == idsOfClass)) {
+                ids = idsOfClass;
+                idsOfClasses.set(javaClass.getId());
+            } else {
+                otherClasses.add(javaClass);
+            }
+            return this;
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public Builder addAll(Iterable<JavaClass> classes) {
+            if (classes instanceof JavaClassSet && (ids == null || ((JavaClassSet) classes).ids == ids)) {
+                JavaClassSet classSet = (JavaClassSet) classes;
+                if (classSet.ids != null) {
+                    ids = classSet.ids;
+                    classSet.idStream().forEach(idsOfClasses::set);
+                }
+                classSet.otherClasses.forEach(this::add);
+            } else {
+                classes.forEach(this::add);
+            }
+            return this;
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public JavaClassSet build() {
+            if (ids == null && otherClasses.isEmpty()) {
+                return EMPTY;
+            }
+            moveRegisteredOtherClassesToIds();
+            return new JavaClassSet(ids, idsOfClasses, ImmutableSet.copyOf(otherClasses));
+        }
+
+        // a class might have been registered by a lazy completion of the import only after it has been added
+        private void moveRegisteredOtherClassesToIds() {
+            if (ids == null) {
+                return;
+            }
+            for (Iterator<JavaClass> iterator = otherClasses.iterator(); iterator.hasNext(); ) {
+                JavaClass javaClass = iterator.next();
+                if (javaClass.getIds() == ids) {
+                    idsOfClasses.set(javaClass.getId());
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
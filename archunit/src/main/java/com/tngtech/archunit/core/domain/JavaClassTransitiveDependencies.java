@@ -15,33 +15,33 @@
  */
 package com.tngtech.archunit.core.domain;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.base.TransitiveDependencyIndex;
 
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * The transitive dependencies of all classes of one import. These are calculated from a single {@link TransitiveDependencyIndex}
+ * shared by all classes, so each class is only visited once, no matter from how many classes the transitive dependencies are queried.
+ */
 class JavaClassTransitiveDependencies {
-    private JavaClassTransitiveDependencies() {
-    }
+    private final TransitiveDependencyIndex<JavaClass> index = TransitiveDependencyIndex.of(JavaClassTransitiveDependencies::getDirectTargetClasses);
 
-    static Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
+    Set<Dependency> findTransitiveDependenciesFrom(JavaClass javaClass) {
         ImmutableSet.Builder<Dependency> transitiveDependencies = ImmutableSet.builder();
-        Set<JavaClass> analyzedClasses = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
-        addTransitiveDependenciesFrom(javaClass, transitiveDependencies, analyzedClasses);
+        transitiveDependencies.addAll(javaClass.getDirectDependenciesFromSelf());
+        for (JavaClass targetClass : index.getTransitiveDependenciesOf(javaClass)) {
+            transitiveDependencies.addAll(targetClass.getDirectDependenciesFromSelf());
+        }
         return transitiveDependencies.build();
     }
 
-    private static void addTransitiveDependenciesFrom(JavaClass javaClass, ImmutableSet.Builder<Dependency> transitiveDependencies, Set<JavaClass> analyzedClasses) {
-        analyzedClasses.add(javaClass);  // currently being analyzed
-        Set<JavaClass> targetClassesToRecurse = new HashSet<>();
-        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
-            transitiveDependencies.add(dependency);
-            targetClassesToRecurse.add(dependency.getTargetClass().getBaseComponentType());
-        }
-        for (JavaClass targetClass : targetClassesToRecurse) {
-            if (!analyzedClasses.contains(targetClass)) {
-                addTransitiveDependenciesFrom(targetClass, transitiveDependencies, analyzedClasses);
-            }
-        }
+    private static Set<JavaClass> getDirectTargetClasses(JavaClass javaClass) {
+        return javaClass.getDirectDependenciesFromSelf().stream()
+                .map(dependency -> dependency.getTargetClass().getBaseComponentType())
+                .collect(toCollection(LinkedHashSet::new));
     }
 }
@@ -197,9 +197,13 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
             Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
 
         ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation();
+        JavaClassTransitiveDependencies transitiveDependencies = new JavaClassTransitiveDependencies();
+        JavaClassIds ids = new JavaClassIds();
         JavaPackage defaultPackage = JavaPackage.from(allClasses);
         for (JavaClass clazz : allClasses) {
+            ids.register(clazz);
             setPackage(clazz, defaultPackage);
+            clazz.setTransitiveDependencies(transitiveDependencies);
             JavaClassDependencies classDependencies = clazz.completeFrom(importContext);
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
@@ -207,6 +211,17 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return new JavaClasses(defaultPackage, selectedClasses);
     }
 
+    static JavaClasses of(
+            Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, LazyClassCompletion lazyClassCompletion) {
+
+        JavaPackage defaultPackage = JavaPackage.from(allClasses);
+        for (JavaClass clazz : allClasses) {
+            setPackage(clazz, defaultPackage);
+        }
+        lazyClassCompletion.completeLazily(allClasses, defaultPackage);
+        return new JavaClasses(defaultPackage, selectedClasses);
+    }
+
     private static void setPackage(JavaClass clazz, JavaPackage defaultPackage) {
         JavaPackage javaPackage = clazz.getPackageName().isEmpty()
                 ? defaultPackage
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.Internal;
@@ -53,7 +54,7 @@ public abstract class JavaMember implements
     private final JavaClass owner;
     private final SourceCodeLocation sourceCodeLocation;
     private final Set<JavaModifier> modifiers;
-    private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;
+    private Supplier<ReverseDependencies> reverseDependencies = () -> ReverseDependencies.EMPTY;
 
     JavaMember(JavaMemberBuilder<?, ?> builder) {
         this.name = checkNotNull(builder.getName());
@@ -195,10 +196,10 @@ public abstract class JavaMember implements
     }
 
     protected ReverseDependencies getReverseDependencies() {
-        return reverseDependencies;
+        return reverseDependencies.get();
     }
 
-    void setReverseDependencies(ReverseDependencies reverseDependencies) {
+    void setReverseDependencies(Supplier<ReverseDependencies> reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
     }
 
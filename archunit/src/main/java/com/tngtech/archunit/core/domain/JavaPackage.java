@@ -467,7 +467,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
         return getValue(tryGetPackage(packageName), "This package does not contain any sub package '%s'", packageName);
     }
 
-    private Optional<JavaPackage> tryGetPackage(String packageName) {
+    Optional<JavaPackage> tryGetPackage(String packageName) {
         Deque<String> packageParts = new LinkedList<>(Splitter.on('.').splitToList(packageName));
         return tryGetPackage(this, packageParts);
     }
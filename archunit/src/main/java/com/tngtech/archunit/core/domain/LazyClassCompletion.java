@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.Internal;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Comparator.comparing;
+
+/**
+ * Completes the {@link JavaClass classes} of a single import on demand, i.e. the first time any information
+ * is queried that is not known right after the class files have been parsed (like members, annotations or accesses).
+ * The class hierarchy is still completed eagerly by the importer, since e.g. {@link JavaClass#getSubclasses()}
+ * can only be known once all classes have been completed.
+ * <br><br>
+ * Completing one class might touch other classes (e.g. the enclosing class), and the {@link ImportContext} is not thread-safe,
+ * thus all classes of one import are completed while holding the same lock. A class that is queried while it is being completed
+ * (i.e. by the completion itself) simply exposes the state completed so far, just as it would for an eager completion.
+ * <br><br>
+ * Reverse dependencies (like {@link JavaClass#getDirectDependenciesToSelf()}) can only be determined by completing all classes,
+ * so this happens the first time any reverse dependency is queried. Once this has happened, the {@link ImportContext} is released.
+ */
+@Internal
+public final class LazyClassCompletion {
+    private ImportContext importContext;
+    private JavaPackage defaultPackage;
+    private final List<JavaClass> allClasses = new ArrayList<>();
+    private final Set<JavaClass> inProgress = new HashSet<>();
+    private final Supplier<ReverseDependencies> reverseDependencySupplier = this::getReverseDependencies;
+    private final JavaClassTransitiveDependencies transitiveDependencies = new JavaClassTransitiveDependencies();
+    private final JavaClassIds ids = new JavaClassIds();
+    private volatile ReverseDependencies reverseDependencies;
+
+    LazyClassCompletion(ImportContext importContext) {
+        this.importContext = importContext;
+    }
+
+    synchronized void completeLazily(Collection<JavaClass> classes, JavaPackage defaultPackage) {
+        this.defaultPackage = defaultPackage;
+        for (JavaClass javaClass : classes) {
+            ids.register(javaClass);
+            javaClass.completeLazilyBy(this);
+            javaClass.setTransitiveDependencies(transitiveDependencies);
+            allClasses.add(javaClass);
+        }
+    }
+
+    synchronized void complete(JavaClass javaClass) {
+        if (!javaClass.isWaitingForLazyCompletion() || !inProgress.add(javaClass)) {
+            return;
+        }
+        checkState(importContext != null, "Import context of %s has already been released", javaClass.getName());
+
+        try {
+            javaClass.completeEnclosingDeclarationFrom(importContext);
+            javaClass.completeTypeParametersFrom(importContext);
+            javaClass.completeGenericSuperclassFrom(importContext);
+            javaClass.completeGenericInterfacesFrom(importContext);
+            javaClass.completeMembers(importContext);
+            javaClass.completeAnnotations(importContext);
+            importContext.completeCodeUnitDependenciesOf(javaClass);
+            javaClass.completeFrom(importContext);
+            javaClass.setReverseDependencies(reverseDependencySupplier);
+            javaClass.finishLazyCompletion();
+        } finally {
+            inProgress.remove(javaClass);
+        }
+    }
+
+    /**
+     * Classes that are only created while completing other classes (e.g. stubs for types that have not been resolved before)
+     * are completed just like an eager completion would complete them, i.e. they are not completed any further than necessary
+     * to keep resolving missing classes from cascading.
+     */
+    synchronized void completeCreatedClass(JavaClass javaClass) {
+        if (javaClass.getPackageName().isEmpty()) {
+            javaClass.setPackage(defaultPackage);
+        } else {
+            defaultPackage.tryGetPackage(javaClass.getPackageName()).ifPresent(javaClass::setPackage);
+        }
+        importContext.completeCodeUnitDependenciesOf(javaClass);
+        javaClass.completeFrom(importContext);
+        javaClass.setReverseDependencies(reverseDependencySupplier);
+        javaClass.setTransitiveDependencies(transitiveDependencies);
+        ids.register(javaClass);
+        allClasses.add(javaClass);
+    }
+
+    private ReverseDependencies getReverseDependencies() {
+        ReverseDependencies result = reverseDependencies;
+        if (result == null) {
+            synchronized (this) {
+                if (reverseDependencies == null) {
+                    reverseDependencies = createReverseDependencies();
+                }
+                result = reverseDependencies;
+            }
+        }
+        return result;
+    }
+
+    private ReverseDependencies createReverseDependencies() {
+        for (int i = 0; i < allClasses.size(); i++) {
+            complete(allClasses.get(i));
+        }
+        // same order as for an eager completion, so the reverse dependencies are iterated in the same order
+        allClasses.sort(comparing(JavaClass::getName));
+        ReverseDependencies.Creation creation = new ReverseDependencies.Creation();
+        for (JavaClass javaClass : allClasses) {
+            creation.registerDependenciesOf(javaClass, javaClass.javaClassDependencies());
+        }
+        importContext = null;
+        return creation.build();
+    }
+}
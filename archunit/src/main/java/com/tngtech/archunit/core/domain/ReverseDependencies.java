@@ -260,11 +260,16 @@ final class ReverseDependencies {
         }
 
         void finish(Iterable<JavaClass> classes) {
-            ReverseDependencies reverseDependencies = new ReverseDependencies(this);
+            ReverseDependencies reverseDependencies = build();
+            Supplier<ReverseDependencies> reverseDependenciesSupplier = () -> reverseDependencies;
             for (JavaClass clazz : classes) {
-                clazz.setReverseDependencies(reverseDependencies);
+                clazz.setReverseDependencies(reverseDependenciesSupplier);
             }
         }
+
+        ReverseDependencies build() {
+            return new ReverseDependencies(this);
+        }
     }
 
     private static class ResolvingAccessLoader<MEMBER extends JavaMember, ACCESS extends JavaAccess<?>> extends CacheLoader<MEMBER, Set<ACCESS>> {
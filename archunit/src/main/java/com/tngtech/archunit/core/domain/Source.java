@@ -48,11 +48,17 @@ public final class Source {
     private final URI uri;
     private final Optional<String> fileName;
     private final Md5sum md5sum;
+    private final Optional<String> fingerprint;
 
     Source(URI uri, Optional<String> fileName, boolean md5InClassSourcesEnabled) {
+        this(uri, fileName, md5InClassSourcesEnabled ? Md5sum.of(uri) : Md5sum.DISABLED, Optional.empty());
+    }
+
+    Source(URI uri, Optional<String> fileName, Md5sum md5sum, Optional<String> fingerprint) {
         this.uri = checkNotNull(uri);
         this.fileName = checkNotNull(fileName);
-        md5sum = md5InClassSourcesEnabled ? Md5sum.of(uri) : Md5sum.DISABLED;
+        this.md5sum = checkNotNull(md5sum);
+        this.fingerprint = checkNotNull(fingerprint);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -70,9 +76,20 @@ public final class Source {
         return md5sum;
     }
 
+    /**
+     * @return A hex encoded fingerprint of the class file, if a fingerprint algorithm is configured via
+     *         {@code import.classFileFingerprint} (e.g. {@code FARM_HASH_64}), otherwise {@link Optional#empty()}.
+     *         Unlike the {@link #getMd5sum() md5 sum} the fingerprint is not supposed to be cryptographically secure,
+     *         but it is cheap to compute and can e.g. be used as key to detect changed class files.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getFingerprint() {
+        return fingerprint;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(uri, md5sum);
+        return Objects.hash(uri, md5sum, fingerprint);
     }
 
     @Override
@@ -85,7 +102,8 @@ public final class Source {
         }
         Source other = (Source) obj;
         return Objects.equals(this.uri, other.uri)
-                && Objects.equals(this.md5sum, other.md5sum);
+                && Objects.equals(this.md5sum, other.md5sum)
+                && Objects.equals(this.fingerprint, other.fingerprint);
     }
 
     @Override
@@ -108,7 +126,9 @@ public final class Source {
          */
         static final Md5sum DISABLED = new Md5sum("DISABLED");
 
-        private static final MessageDigest MD5_DIGEST = getMd5Digest();
+        private static final boolean MD5_SUPPORTED = getMd5Digest() != null;
+        // a MessageDigest is not thread safe, but classes might be imported concurrently
+        private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(Md5sum::getMd5Digest);
 
         private final byte[] md5Bytes;
         private final String text;
@@ -118,8 +138,9 @@ public final class Source {
             this.text = text;
         }
 
-        private Md5sum(byte[] input, MessageDigest md5Digest) {
-            this.md5Bytes = md5Digest.digest(input);
+        private Md5sum(byte[] input, int length, MessageDigest md5Digest) {
+            md5Digest.update(input, 0, length);
+            this.md5Bytes = md5Digest.digest();
             text = toHex(md5Bytes);
         }
 
@@ -170,12 +191,21 @@ public final class Source {
         }
 
         private static Md5sum of(URI uri) {
-            if (MD5_DIGEST == null) {
+            if (!MD5_SUPPORTED) {
                 return NOT_SUPPORTED;
             }
 
             Optional<byte[]> bytesFromUri = read(uri);
-            return bytesFromUri.map(bytes -> new Md5sum(bytes, MD5_DIGEST)).orElse(UNDETERMINED);
+            return bytesFromUri.map(bytes -> new Md5sum(bytes, bytes.length, MD5_DIGEST.get())).orElse(UNDETERMINED);
+        }
+
+        /**
+         * Digests the bytes of a class file that have already been read, e.g. by the importer,
+         * instead of reading the class file again. Only the first {@code length} bytes belong to the class file,
+         * since the importer reads class files into reusable buffers.
+         */
+        static Md5sum of(byte[] classFile, int length) {
+            return MD5_SUPPORTED ? new Md5sum(classFile, length, MD5_DIGEST.get()) : NOT_SUPPORTED;
         }
 
         private static Optional<byte[]> read(URI uri) {
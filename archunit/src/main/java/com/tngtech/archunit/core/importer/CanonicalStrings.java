@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Canonicalizes names and descriptors that occur over and over again during an import
+ * (e.g. {@code toString}, {@code ()V} or {@code java.lang.StringBuilder.append(java.lang.String)}).
+ * ASM only shares such strings within a single class file, so without canonicalization every class file,
+ * access record and domain object would keep its own copy.
+ * <br><br>
+ * The strings are held weakly, so they can be garbage collected once no imported class refers to them anymore.
+ */
+final class CanonicalStrings {
+    private static final Interner<String> interner = Interners.newWeakInterner();
+
+    private CanonicalStrings() {
+    }
+
+    static String canonicalize(String string) {
+        return interner.intern(string);
+    }
+}
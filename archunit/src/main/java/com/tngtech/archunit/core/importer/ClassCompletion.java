@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Defines when the {@link ClassFileImporter} completes the imported {@link JavaClass classes}, i.e. creates their members,
+ * type parameters, generic supertypes, annotations and accesses from the information parsed from the class files.
+ *
+ * @see ClassFileImporter#withClassCompletion(ClassCompletion)
+ */
+@PublicAPI(usage = ACCESS)
+public enum ClassCompletion {
+    /**
+     * Completes all classes (including all classes resolved as dependencies) before the import returns.
+     */
+    @PublicAPI(usage = ACCESS)
+    EAGER,
+    /**
+     * Completes each class the first time any information is queried that needs the completion
+     * (e.g. {@link JavaClass#getMethods()} or {@link JavaClass#getAccessesFromSelf()}).
+     * Only the class hierarchy is still completed for all classes during the import.
+     * Completing classes on demand is thread-safe.
+     * <br><br>
+     * This makes the import considerably faster if the rules to evaluate only touch a small part of the imported classes,
+     * e.g. if the classpath is imported to check only a few classes. However, querying any reverse dependency
+     * (like {@link JavaClass#getDirectDependenciesToSelf()} or {@link JavaClass#getAccessesToSelf()}) will complete
+     * all classes at once, since all dependencies have to be known then.
+     * Until all classes have been completed, the information parsed from the class files is kept in memory.
+     */
+    @PublicAPI(usage = ACCESS)
+    LAZY
+}
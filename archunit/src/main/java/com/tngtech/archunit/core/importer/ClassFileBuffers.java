@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.Math.max;
+
+/**
+ * Reads class files into buffers that are reused by the same thread, instead of allocating (and growing) a new array
+ * for every single class file. The buffers are pooled per thread in power of two size classes, so reading a class file
+ * needs at most one buffer per size class it passes while growing, and none at all once the pool is warm.<br>
+ * A buffer is taken out of the pool while it is in use, thus reading another class file meanwhile (e.g. if a class
+ * is resolved while another one is being parsed) simply allocates a fresh buffer. Class files that do not fit into
+ * the largest size class are read into buffers that are never pooled, to keep the memory retained per thread small.
+ */
+class ClassFileBuffers {
+    private static final int MIN_SIZE_CLASS_BITS = 12; // 4 KiB, which covers most class files
+    private static final int MAX_SIZE_CLASS_BITS = 18; // 256 KiB, thus at most 508 KiB are retained per thread
+
+    private static final ThreadLocal<byte[][]> pooledBuffersBySizeClass =
+            ThreadLocal.withInitial(() -> new byte[MAX_SIZE_CLASS_BITS - MIN_SIZE_CLASS_BITS + 1][]);
+
+    private ClassFileBuffers() {
+    }
+
+    /**
+     * Reads the stream until its end. The returned {@link ClassFileBytes} must be {@link ClassFileBytes#close() closed}
+     * once the bytes are not needed anymore, i.e. as soon as the class file has been parsed, to return the buffer to the pool.
+     */
+    static ClassFileBytes read(InputStream inputStream) throws IOException {
+        // reserve one more byte than available, so we usually reach the end of the stream without growing the buffer
+        byte[] buffer = acquire(max(inputStream.available(), 0) + 1);
+        int length = 0;
+        try {
+            while (true) {
+                int bytesRead = inputStream.read(buffer, length, buffer.length - length);
+                if (bytesRead < 0) {
+                    return new ClassFileBytes(buffer, length);
+                }
+                length += bytesRead;
+                if (length == buffer.length) {
+                    byte[] larger = acquire(buffer.length + 1);
+                    System.arraycopy(buffer, 0, larger, 0, length);
+                    release(buffer);
+                    buffer = larger;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            release(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * Provides a buffer for a class file of known length, which the caller has to fill completely,
+     * e.g. by copying or inflating the class file directly into {@link ClassFileBytes#buffer()}.
+     * Just like for {@link #read(InputStream)}, the returned {@link ClassFileBytes} must be {@link ClassFileBytes#close() closed}.
+     */
+    static ClassFileBytes allocate(int length) {
+        return new ClassFileBytes(acquire(max(length, 1)), length);
+    }
+
+    private static byte[] acquire(int minimumSize) {
+        int sizeClassBits = max(MIN_SIZE_CLASS_BITS, Integer.SIZE - Integer.numberOfLeadingZeros(minimumSize - 1));
+        if (sizeClassBits > MAX_SIZE_CLASS_BITS) {
+            return new byte[sizeClassBits < Integer.SIZE - 1 ? 1 << sizeClassBits : Integer.MAX_VALUE - 8];
+        }
+        byte[][] pooledBuffers = pooledBuffersBySizeClass.get();
+        int index = sizeClassBits - MIN_SIZE_CLASS_BITS;
+        byte[] pooled = pooledBuffers[index];
+        if (pooled == null) {
+            return new byte[1 << sizeClassBits];
+        }
+        pooledBuffers[index] = null;
+        return pooled;
+    }
+
+    private static void release(byte[] buffer) {
+        int sizeClassBits = Integer.numberOfTrailingZeros(buffer.length);
+        if (buffer.length != 1 << sizeClassBits || sizeClassBits < MIN_SIZE_CLASS_BITS || sizeClassBits > MAX_SIZE_CLASS_BITS) {
+            return;
+        }
+        pooledBuffersBySizeClass.get()[sizeClassBits - MIN_SIZE_CLASS_BITS] = buffer;
+    }
+
+    /**
+     * The bytes of a class file, i.e. the first {@link #length()} bytes of a possibly larger {@link #buffer()}
+     */
+    static class ClassFileBytes implements AutoCloseable {
+        private byte[] buffer;
+        private final int length;
+
+        private ClassFileBytes(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        byte[] buffer() {
+            checkState(buffer != null, "Buffer has already been released");
+            return buffer;
+        }
+
+        int length() {
+            return length;
+        }
+
+        /**
+         * Returns the buffer to the pool of the current thread. The buffer must not be used anymore afterwards.
+         */
+        @Override
+        public void close() {
+            if (buffer != null) {
+                release(buffer);
+                buffer = null;
+            }
+        }
+    }
+}
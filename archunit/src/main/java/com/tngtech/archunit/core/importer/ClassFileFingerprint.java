@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.core.domain.DomainObjectCreationContext;
+
+/**
+ * The algorithms to compute the fingerprint of a class file with (compare {@link com.tngtech.archunit.core.domain.Source#getFingerprint()}).
+ * The fingerprint is computed from the bytes that are read anyway to parse the class file, so it does not need another read of the class file.
+ */
+enum ClassFileFingerprint {
+    /**
+     * A fast non-cryptographic 64 bit hash, which is stable between releases
+     */
+    FARM_HASH_64(Hashing.farmHashFingerprint64()),
+    /**
+     * A fast non-cryptographic 128 bit hash, which is stable between releases
+     */
+    MURMUR3_128(Hashing.murmur3_128()),
+    /**
+     * The same md5 sum as {@link com.tngtech.archunit.core.domain.Source#getMd5sum()}
+     */
+    MD5(null) {
+        @Override
+        String of(byte[] classFile, int length) {
+            return DomainObjectCreationContext.createMd5sum(classFile, length).toString();
+        }
+    };
+
+    private final HashFunction hashFunction;
+
+    ClassFileFingerprint(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+    }
+
+    /**
+     * @param classFile A buffer containing the class file
+     * @param length The length of the class file, i.e. the number of bytes at the start of the buffer that belong to the class file
+     */
+    String of(byte[] classFile, int length) {
+        return hashFunction.hashBytes(classFile, 0, length).toString();
+    }
+}
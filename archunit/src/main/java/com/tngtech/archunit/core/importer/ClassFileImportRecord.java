@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -42,6 +43,7 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaStaticInitializerBuilder;
+import com.tngtech.archunit.core.importer.JavaClassSignatureImporter.JavaClassSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.MemberSignature;
 import org.slf4j.Logger;
@@ -67,9 +69,7 @@ class ClassFileImportRecord {
 
     private final Map<String, String> superclassNamesByOwner = new HashMap<>();
     private final ListMultimap<String, String> interfaceNamesByOwner = ArrayListMultimap.create();
-    private final Map<String, JavaClassTypeParametersBuilder> typeParametersBuilderByOwner = new HashMap<>();
-    private final Map<String, JavaParameterizedTypeBuilder<JavaClass>> genericSuperclassBuilderByOwner = new HashMap<>();
-    private final Map<String, List<JavaParameterizedTypeBuilder<JavaClass>>> genericInterfaceBuildersByOwner = new HashMap<>();
+    private final Map<String, JavaClassSignature> classSignaturesByOwner = new HashMap<>();
     private final SetMultimap<String, JavaFieldBuilder> fieldBuildersByOwner = HashMultimap.create();
     private final SetMultimap<String, JavaMethodBuilder> methodBuildersByOwner = HashMultimap.create();
     private final SetMultimap<String, JavaConstructorBuilder> constructorBuildersByOwner = HashMultimap.create();
@@ -78,11 +78,11 @@ class ClassFileImportRecord {
     private final Map<String, JavaAnnotationBuilder.ValueBuilder> annotationDefaultValuesByOwner = new HashMap<>();
     private final EnclosingDeclarationsByInnerClasses enclosingDeclarationsByOwner = new EnclosingDeclarationsByInnerClasses();
 
-    private final Set<RawAccessRecord.ForField> rawFieldAccessRecords = new HashSet<>();
-    private final Set<RawAccessRecord> rawMethodCallRecords = new HashSet<>();
-    private final Set<RawAccessRecord> rawConstructorCallRecords = new HashSet<>();
-    private final Set<RawAccessRecord> rawMethodReferenceRecords = new HashSet<>();
-    private final Set<RawAccessRecord> rawConstructorReferenceRecords = new HashSet<>();
+    private final RawAccessRecords<RawAccessRecord.ForField> rawFieldAccessRecords = RawAccessRecords.ofFieldAccesses();
+    private final RawAccessRecords<RawAccessRecord> rawMethodCallRecords = RawAccessRecords.ofCodeUnitAccesses();
+    private final RawAccessRecords<RawAccessRecord> rawConstructorCallRecords = RawAccessRecords.ofCodeUnitAccesses();
+    private final RawAccessRecords<RawAccessRecord> rawMethodReferenceRecords = RawAccessRecords.ofCodeUnitAccesses();
+    private final RawAccessRecords<RawAccessRecord> rawConstructorReferenceRecords = RawAccessRecords.ofCodeUnitAccesses();
     private final Set<RawReferencedClassObject> rawReferencedClassObjects = new HashSet<>();
     private final Set<RawInstanceofCheck> rawInstanceofChecks = new HashSet<>();
     private final Set<RawTryCatchBlock> rawTryCatchBlocks = new HashSet<>();
@@ -101,16 +101,8 @@ class ClassFileImportRecord {
         interfaceNamesByOwner.putAll(ownerName, interfaceNames);
     }
 
-    void addTypeParameters(String ownerName, JavaClassTypeParametersBuilder builder) {
-        typeParametersBuilderByOwner.put(ownerName, builder);
-    }
-
-    void addGenericSuperclass(String ownerName, JavaParameterizedTypeBuilder<JavaClass> genericSuperclassBuilder) {
-        genericSuperclassBuilderByOwner.put(ownerName, genericSuperclassBuilder);
-    }
-
-    public void addGenericInterfaces(String ownerName, List<JavaParameterizedTypeBuilder<JavaClass>> genericInterfaceBuilders) {
-        genericInterfaceBuildersByOwner.put(ownerName, genericInterfaceBuilders);
+    void setClassSignature(String ownerName, JavaClassSignature classSignature) {
+        classSignaturesByOwner.put(ownerName, classSignature);
     }
 
     void addField(String ownerName, JavaFieldBuilder fieldBuilder) {
@@ -165,18 +157,16 @@ class ClassFileImportRecord {
     }
 
     JavaClassTypeParametersBuilder getTypeParameterBuildersFor(String ownerName) {
-        if (!typeParametersBuilderByOwner.containsKey(ownerName)) {
-            return NO_TYPE_PARAMETERS;
-        }
-        return typeParametersBuilderByOwner.get(ownerName);
+        JavaClassSignature classSignature = classSignaturesByOwner.get(ownerName);
+        return classSignature != null ? classSignature.getTypeParametersBuilder() : NO_TYPE_PARAMETERS;
     }
 
     Optional<JavaParameterizedTypeBuilder<JavaClass>> getGenericSuperclassFor(JavaClass owner) {
-        return Optional.ofNullable(genericSuperclassBuilderByOwner.get(owner.getName()));
+        return Optional.ofNullable(classSignaturesByOwner.get(owner.getName())).flatMap(JavaClassSignature::getGenericSuperclass);
     }
 
     Optional<List<JavaParameterizedTypeBuilder<JavaClass>>> getGenericInterfacesFor(JavaClass owner) {
-        return Optional.ofNullable(genericInterfaceBuildersByOwner.get(owner.getName()));
+        return Optional.ofNullable(classSignaturesByOwner.get(owner.getName())).map(JavaClassSignature::getGenericInterfaces);
     }
 
     Set<JavaFieldBuilder> getFieldBuildersFor(String ownerName) {
@@ -215,30 +205,34 @@ class ClassFileImportRecord {
         return enclosingDeclarationsByOwner.getEnclosingCodeUnit(ownerName);
     }
 
-    void registerFieldAccess(RawAccessRecord.ForField record) {
-        if (!isSyntheticEnumSwitchMapFieldName(record.getTarget().name)) {
-            rawFieldAccessRecords.add(record);
-        }
+    /**
+     * Like all methods to register accesses, this returns the record to refer to the registered access later on,
+     * e.g. from a {@link RawTryCatchBlock} (compare {@link RawAccessRecords#add(RawAccessRecord)}).
+     */
+    RawAccessRecord.ForField registerFieldAccess(RawAccessRecord.ForField record) {
+        return !isSyntheticEnumSwitchMapFieldName(record.getTarget().name)
+                ? rawFieldAccessRecords.add(record)
+                : record;
     }
 
-    void registerMethodCall(RawAccessRecord record) {
+    RawAccessRecord registerMethodCall(RawAccessRecord record) {
         if (isSyntheticAccessMethodName(record.getTarget().name)) {
             syntheticPrivateAccessRecorder.registerSyntheticMethodInvocation(record);
-        } else {
-            rawMethodCallRecords.add(record);
+            return record;
         }
+        return rawMethodCallRecords.add(record);
     }
 
-    void registerConstructorCall(RawAccessRecord record) {
-        rawConstructorCallRecords.add(record);
+    RawAccessRecord registerConstructorCall(RawAccessRecord record) {
+        return rawConstructorCallRecords.add(record);
     }
 
-    void registerMethodReference(RawAccessRecord record) {
-        rawMethodReferenceRecords.add(record);
+    RawAccessRecord registerMethodReference(RawAccessRecord record) {
+        return rawMethodReferenceRecords.add(record);
     }
 
-    void registerConstructorReference(RawAccessRecord record) {
-        rawConstructorReferenceRecords.add(record);
+    RawAccessRecord registerConstructorReference(RawAccessRecord record) {
+        return rawConstructorReferenceRecords.add(record);
     }
 
     void registerLambdaInvocation(RawAccessRecord record) {
@@ -254,46 +248,46 @@ class ClassFileImportRecord {
     }
 
     void forEachRawFieldAccessRecord(Consumer<RawAccessRecord.ForField> doWithRecord) {
-        resolveSyntheticOrigins(rawFieldAccessRecords, COPY_RAW_FIELD_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawFieldAccessRecords.stream(), COPY_RAW_FIELD_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
                 .forEach(doWithRecord);
     }
 
     void forEachRawMethodCallRecord(Consumer<RawAccessRecord> doWithRecord) {
-        resolveSyntheticOrigins(rawMethodCallRecords, COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawMethodCallRecords.stream(), COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
                 .forEach(doWithRecord);
     }
 
     void forEachRawConstructorCallRecord(Consumer<RawAccessRecord> doWithRecord) {
-        resolveSyntheticOrigins(rawConstructorCallRecords, COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawConstructorCallRecords.stream(), COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
                 .forEach(doWithRecord);
     }
 
     void forEachRawMethodReferenceRecord(Consumer<RawAccessRecord> doWithRecord) {
-        resolveSyntheticOrigins(rawMethodReferenceRecords, COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawMethodReferenceRecords.stream(), COPY_RAW_ACCESS_RECORD, syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder)
                 .forEach(doWithRecord);
     }
 
     void forEachRawConstructorReferenceRecord(Consumer<RawAccessRecord> doWithRecord) {
-        resolveSyntheticOrigins(rawConstructorReferenceRecords, COPY_RAW_ACCESS_RECORD, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawConstructorReferenceRecords.stream(), COPY_RAW_ACCESS_RECORD, syntheticLambdaAccessRecorder)
                 .forEach(doWithRecord);
     }
 
     void forEachRawReferencedClassObject(Consumer<RawReferencedClassObject> doWithReferencedClassObject) {
-        resolveSyntheticOrigins(rawReferencedClassObjects, COPY_RAW_REFERENCED_CLASS_OBJECT, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawReferencedClassObjects.stream(), COPY_RAW_REFERENCED_CLASS_OBJECT, syntheticLambdaAccessRecorder)
                 .forEach(doWithReferencedClassObject);
     }
 
     void forEachRawInstanceofCheck(Consumer<RawInstanceofCheck> doWithInstanceofCheck) {
-        resolveSyntheticOrigins(rawInstanceofChecks, COPY_RAW_INSTANCEOF_CHECK, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawInstanceofChecks.stream(), COPY_RAW_INSTANCEOF_CHECK, syntheticLambdaAccessRecorder)
                 .forEach(doWithInstanceofCheck);
     }
 
     public void forEachRawTryCatchBlock(Consumer<RawTryCatchBlock> doWithTryCatchBlock) {
-        resolveSyntheticOrigins(rawTryCatchBlocks, COPY_RAW_TRY_CATCH_BLOCK, syntheticLambdaAccessRecorder)
+        resolveSyntheticOrigins(rawTryCatchBlocks.stream(), COPY_RAW_TRY_CATCH_BLOCK, syntheticLambdaAccessRecorder)
                 .map(rawTryCatchBlock -> {
                     Set<RawAccessRecord> fixedAccessesInTryBlock =
                             resolveSyntheticOrigins(
-                                    rawTryCatchBlock.getAccessesInTryBlock(), COPY_RAW_ACCESS_RECORD,
+                                    rawTryCatchBlock.getAccessesInTryBlock().stream(), COPY_RAW_ACCESS_RECORD,
                                     syntheticPrivateAccessRecorder, syntheticLambdaAccessRecorder
                             ).collect(toSet());
                     return RawTryCatchBlock.Builder.from(rawTryCatchBlock).withRawAccessesContainedInTryBlock(fixedAccessesInTryBlock).build();
@@ -301,11 +295,11 @@ class ClassFileImportRecord {
     }
 
     private <HAS_RAW_CODE_UNIT_ORIGIN extends HasRawCodeUnitOrigin> Stream<HAS_RAW_CODE_UNIT_ORIGIN> resolveSyntheticOrigins(
-            Set<HAS_RAW_CODE_UNIT_ORIGIN> objectsWithCodeUnitOrigins,
+            Stream<HAS_RAW_CODE_UNIT_ORIGIN> objectsWithCodeUnitOrigins,
             Function<HAS_RAW_CODE_UNIT_ORIGIN, ? extends HasRawCodeUnitOrigin.Builder<HAS_RAW_CODE_UNIT_ORIGIN>> copyObjectWithCodeUnitOrigin,
             SyntheticAccessRecorder... syntheticAccessRecorders
     ) {
-        return objectsWithCodeUnitOrigins.stream()
+        return objectsWithCodeUnitOrigins
                 .flatMap(objectWithCodeUnitOrigin -> syntheticallyResolvedAccessRecords.resolveSyntheticOrigin(
                         objectWithCodeUnitOrigin, copyObjectWithCodeUnitOrigin, syntheticAccessRecorders
                 ));
@@ -319,6 +313,36 @@ class ClassFileImportRecord {
         return classes;
     }
 
+    /**
+     * Adds all records of {@code other} to this record. The caller must ensure that both records
+     * do not contain the same classes, i.e. no class may have been imported into both of them.
+     */
+    void addAll(ClassFileImportRecord other) {
+        classes.putAll(other.classes);
+
+        superclassNamesByOwner.putAll(other.superclassNamesByOwner);
+        interfaceNamesByOwner.putAll(other.interfaceNamesByOwner);
+        classSignaturesByOwner.putAll(other.classSignaturesByOwner);
+        fieldBuildersByOwner.putAll(other.fieldBuildersByOwner);
+        methodBuildersByOwner.putAll(other.methodBuildersByOwner);
+        constructorBuildersByOwner.putAll(other.constructorBuildersByOwner);
+        staticInitializerBuildersByOwner.putAll(other.staticInitializerBuildersByOwner);
+        annotationsByOwner.putAll(other.annotationsByOwner);
+        annotationDefaultValuesByOwner.putAll(other.annotationDefaultValuesByOwner);
+        enclosingDeclarationsByOwner.addAll(other.enclosingDeclarationsByOwner);
+
+        rawFieldAccessRecords.addAll(other.rawFieldAccessRecords);
+        rawMethodCallRecords.addAll(other.rawMethodCallRecords);
+        rawConstructorCallRecords.addAll(other.rawConstructorCallRecords);
+        rawMethodReferenceRecords.addAll(other.rawMethodReferenceRecords);
+        rawConstructorReferenceRecords.addAll(other.rawConstructorReferenceRecords);
+        rawReferencedClassObjects.addAll(other.rawReferencedClassObjects);
+        rawInstanceofChecks.addAll(other.rawInstanceofChecks);
+        rawTryCatchBlocks.addAll(other.rawTryCatchBlocks);
+        syntheticLambdaAccessRecorder.addAll(other.syntheticLambdaAccessRecorder);
+        syntheticPrivateAccessRecorder.addAll(other.syntheticPrivateAccessRecorder);
+    }
+
     private static final Function<RawAccessRecord, RawAccessRecord.Builder> COPY_RAW_ACCESS_RECORD =
             access -> copyInto(new RawAccessRecord.Builder(), access);
 
@@ -391,6 +415,11 @@ class ClassFileImportRecord {
             innerClassNameToEnclosingCodeUnit.put(innerName, codeUnit);
         }
 
+        void addAll(EnclosingDeclarationsByInnerClasses other) {
+            other.innerClassNameToEnclosingClassName.forEach(this::registerEnclosingClass);
+            other.innerClassNameToEnclosingCodeUnit.forEach(this::registerEnclosingCodeUnit);
+        }
+
         Optional<String> getEnclosingClassName(String ownerName) {
             return Optional.ofNullable(innerClassNameToEnclosingClassName.get(ownerName));
         }
@@ -417,11 +446,19 @@ class ClassFileImportRecord {
             rawSyntheticMethodInvocationRecordsByTarget.put(getMemberKey(record.getTarget()), record);
         }
 
+        void addAll(SyntheticAccessRecorder other) {
+            rawSyntheticMethodInvocationRecordsByTarget.putAll(other.rawSyntheticMethodInvocationRecordsByTarget);
+        }
+
+        boolean hasSyntheticOrigin(HasRawCodeUnitOrigin access) {
+            return isSyntheticOrigin.test(access.getOrigin());
+        }
+
         <ACCESS extends HasRawCodeUnitOrigin> Set<ACCESS> fixSyntheticAccess(
                 ACCESS access,
                 Function<ACCESS, ? extends HasRawCodeUnitOrigin.Builder<ACCESS>> copyAccess
         ) {
-            return isSyntheticOrigin.test(access.getOrigin())
+            return hasSyntheticOrigin(access)
                     ? replaceOriginByFixedOrigin(access, copyAccess)
                     : singleton(access);
         }
@@ -460,6 +497,10 @@ class ClassFileImportRecord {
                 Function<HAS_RAW_CODE_UNIT_ORIGIN, ? extends HasRawCodeUnitOrigin.Builder<HAS_RAW_CODE_UNIT_ORIGIN>> createWithNewOrigin,
                 SyntheticAccessRecorder... syntheticAccessRecorders
         ) {
+            // nothing to resolve, so there is no need to remember this access (in particular since most accesses don't have a synthetic origin)
+            if (Arrays.stream(syntheticAccessRecorders).noneMatch(recorder -> recorder.hasSyntheticOrigin(hasRawCodeUnitOrigin))) {
+                return Stream.of(hasRawCodeUnitOrigin);
+            }
             ResolvedAccesses<HAS_RAW_CODE_UNIT_ORIGIN> resolvedAccesses = this.<HAS_RAW_CODE_UNIT_ORIGIN>getResolvedAccessRecordsTyped()
                     .computeIfAbsent(hasRawCodeUnitOrigin, it -> fixSyntheticAccesses(it, createWithNewOrigin, syntheticAccessRecorders));
             return resolvedAccesses.areUnchanged() ? Stream.of(hasRawCodeUnitOrigin) : resolvedAccesses.stream();
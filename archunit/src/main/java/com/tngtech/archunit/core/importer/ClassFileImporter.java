@@ -23,7 +23,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.jar.JarFile;
 
 import com.google.common.collect.ImmutableList;
@@ -38,8 +42,12 @@ import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.DescribedPredicate.describe;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.SCAN_LOCATIONS;
 import static java.util.Arrays.stream;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
@@ -82,7 +90,17 @@ import static java.util.stream.Collectors.toSet;
 public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
+    /**
+     * The default number of class files to import per batch by {@link #importStreaming(Collection, Consumer)}
+     */
+    @PublicAPI(usage = ACCESS)
+    public static final int DEFAULT_STREAMING_BATCH_SIZE = 1000;
+
     private final ImportOptions importOptions;
+    private final Optional<Integer> parallelism;
+    private final Optional<ImportDetail> importDetail;
+    private final Optional<ClassCompletion> classCompletion;
+    private final List<ImportListener> importListeners;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -95,7 +113,21 @@ public final class ClassFileImporter {
     }
 
     private ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, Optional.empty(), Optional.empty(), Optional.empty(), ImmutableList.of());
+    }
+
+    private ClassFileImporter(
+            ImportOptions importOptions,
+            Optional<Integer> parallelism,
+            Optional<ImportDetail> importDetail,
+            Optional<ClassCompletion> classCompletion,
+            List<ImportListener> importListeners) {
+
         this.importOptions = importOptions;
+        this.parallelism = parallelism;
+        this.importDetail = importDetail;
+        this.classCompletion = classCompletion;
+        this.importListeners = importListeners;
     }
 
     /**
@@ -107,7 +139,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), parallelism, importDetail, classCompletion, importListeners);
     }
 
     /**
@@ -115,7 +147,87 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOptions(Collection<ImportOption> options) {
-        return new ClassFileImporter(importOptions.with(options));
+        return new ClassFileImporter(importOptions.with(options), parallelism, importDetail, classCompletion, importListeners);
+    }
+
+    /**
+     * Allows to parse the imported class files concurrently, using the given number of threads.
+     * The imported {@link JavaClasses} will be the same as for a sequential import, but for big code bases
+     * the import can be considerably faster on machines with multiple cores.
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * If not specified, the parallelism can also be configured globally via
+     * <pre><code>import.parallelism=4</code></pre>
+     * within your {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+     * By default, class files are parsed sequentially (i.e. with parallelism {@code 1}).
+     * <br><br>
+     * Note that for a parallel import the directories of the imported locations are also walked concurrently,
+     * thus the configured {@link ImportOption ImportOptions} must then be safe to be evaluated by multiple threads at the same time.
+     *
+     * @param parallelism The number of threads to parse class files with, must be positive
+     * @return A {@link ClassFileImporter} which parses class files with the given parallelism
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        return new ClassFileImporter(importOptions, Optional.of(parallelism), importDetail, classCompletion, importListeners);
+    }
+
+    /**
+     * Allows to define how detailed the imported class files are analyzed. If only the structure of the classes is
+     * relevant for the rules to evaluate (e.g. naming, annotations, supertypes or the types of fields), then
+     * {@link ImportDetail#STRUCTURE_ONLY} can make the import considerably faster and lighter, since the bodies
+     * of methods and constructors will not be analyzed at all (compare {@link ImportDetail}).
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * If not specified, the import detail can also be configured globally via
+     * <pre><code>import.detail=STRUCTURE_ONLY</code></pre>
+     * within your {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+     * By default, class files are imported with {@link ImportDetail#FULL}.
+     *
+     * @param importDetail Defines how detailed the class files are analyzed
+     * @return A {@link ClassFileImporter} which analyzes class files with the given {@link ImportDetail}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withImportDetail(ImportDetail importDetail) {
+        return new ClassFileImporter(importOptions, parallelism, Optional.of(checkNotNull(importDetail)), classCompletion, importListeners);
+    }
+
+    /**
+     * Allows to complete the imported classes on demand, i.e. the first time any information is queried that needs the completion
+     * (compare {@link ClassCompletion#LAZY}). If the rules to evaluate only touch a small part of the imported classes
+     * (e.g. if the whole classpath is imported to check only a few classes), this can make the import considerably faster.
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * If not specified, the class completion can also be configured globally via
+     * <pre><code>import.classCompletion=LAZY</code></pre>
+     * within your {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}.
+     * By default, classes are completed with {@link ClassCompletion#EAGER}.
+     *
+     * @param classCompletion Defines when the imported classes are completed
+     * @return A {@link ClassFileImporter} which completes the imported classes as defined by the given {@link ClassCompletion}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withClassCompletion(ClassCompletion classCompletion) {
+        return new ClassFileImporter(importOptions, parallelism, importDetail, Optional.of(checkNotNull(classCompletion)), importListeners);
+    }
+
+    /**
+     * Registers an {@link ImportListener} that will be notified with the {@link ImportMetrics} of every import
+     * of the returned {@link ClassFileImporter}, e.g. how long each phase of the import took.
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     * <br><br>
+     * To simply log a summary of every import, it is also possible to configure
+     * <pre><code>import.logMetrics=true</code></pre>
+     * within your {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} (compare {@link ImportListener.LogSummary}).
+     *
+     * @param importListener An {@link ImportListener} to notify about every import
+     * @return A {@link ClassFileImporter} which notifies the given {@link ImportListener} in addition to all listeners registered before
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withImportListener(ImportListener importListener) {
+        List<ImportListener> newImportListeners = ImmutableList.<ImportListener>builder().addAll(importListeners).add(checkNotNull(importListener)).build();
+        return new ClassFileImporter(importOptions, parallelism, importDetail, classCompletion, newImportListeners);
     }
 
     /**
@@ -318,14 +430,124 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        ImportMetricsRecorder metrics = new ImportMetricsRecorder();
+        ClassFileProcessor classFileProcessor = newClassFileProcessor();
         List<ClassFileSource> sources = new ArrayList<>();
+        try {
+            metrics.time(SCAN_LOCATIONS, () -> {
+                ImportOptions compiledImportOptions = importOptions.compile(classFileProcessor.isParallel());
+                for (Location location : locations) {
+                    tryAdd(sources, location, compiledImportOptions);
+                }
+            });
+            return classFileProcessor.process(unify(sources), metrics);
+        } finally {
+            close(sources);
+        }
+    }
+
+    /**
+     * Same as {@link #importStreaming(Collection, int, Consumer)} with a batch size of {@value #DEFAULT_STREAMING_BATCH_SIZE}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void importStreaming(Collection<Location> locations, Consumer<JavaClasses> batchConsumer) {
+        importStreaming(locations, DEFAULT_STREAMING_BATCH_SIZE, batchConsumer);
+    }
+
+    /**
+     * Imports the classes of the given {@link Location locations} (compare {@link #importLocations(Collection)})
+     * batch by batch instead of all at once. Each batch is passed to the {@code batchConsumer} as soon as it is imported
+     * and can be garbage collected afterwards, so the memory needed is bounded by the batch size
+     * and not by the size of the whole code base. E.g.
+     * <pre><code>
+     * new ClassFileImporter().importStreaming(locations, classes -&gt; rule.check(classes));
+     * </code></pre>
+     * A batch always contains whole packages of a single {@link Location}, thus it can contain more
+     * classes than {@code batchSize}, if a single package contains more classes. Just like for a regular import,
+     * each class is only contained in a single batch, even if the locations overlap.
+     * <br><br>
+     * Note that each batch is imported independently, i.e. classes of other batches are treated like any
+     * class missing from the import (compare {@link ClassResolver}) and are by no means the same objects.
+     * Thus, this is only suitable to evaluate rules that check classes on their own
+     * (e.g. naming conventions, annotations, modifiers or members),
+     * but not rules that need the complete class graph (e.g. rules about dependencies or cycles).
+     *
+     * @param locations The locations to import classes from
+     * @param batchSize The number of class files that should at least be imported per batch (unless no further class files are left)
+     * @param batchConsumer Receives each batch of imported classes
+     */
+    @PublicAPI(usage = ACCESS)
+    public void importStreaming(Collection<Location> locations, int batchSize, Consumer<JavaClasses> batchConsumer) {
+        checkArgument(batchSize > 0, "Batch size must be positive, but was %s", batchSize);
+        ClassFileProcessor classFileProcessor = newClassFileProcessor();
+        ImportOptions compiledImportOptions = importOptions.compile(classFileProcessor.isParallel());
+        DuplicateClassFiles duplicateClassFiles = new DuplicateClassFiles();
+        Set<String> importedClassNames = new HashSet<>();
         for (Location location : locations) {
-            tryAdd(sources, location);
+            // the metrics of the first batch of each location include scanning the whole location
+            ImportMetricsRecorder metrics = new ImportMetricsRecorder();
+            List<ClassFileSource> sources = new ArrayList<>();
+            try {
+                List<List<ClassFileLocation>> batches = metrics.time(SCAN_LOCATIONS, () -> {
+                    tryAdd(sources, location, compiledImportOptions);
+                    return partitionIntoBatchesOfPackages(location, unify(sources), batchSize, duplicateClassFiles, importedClassNames);
+                });
+                for (List<ClassFileLocation> batch : batches) {
+                    batchConsumer.accept(withoutPreviouslyImportedClasses(classFileProcessor.process(batch::iterator, metrics), importedClassNames));
+                    metrics = new ImportMetricsRecorder();
+                }
+            } finally {
+                close(sources);
+            }
+        }
+    }
+
+    // duplicate class files of all locations are dropped just like for a regular import (compare DuplicateClassFiles),
+    // i.e. without even opening them, if they have the same URI or the same entry name within an archive as a preceding class file
+    private static List<List<ClassFileLocation>> partitionIntoBatchesOfPackages(
+            Location location, ClassFileSource source, int batchSize, DuplicateClassFiles duplicateClassFiles, Set<String> importedClassNames) {
+
+        String locationUri = location.asURI().toString();
+        SortedMap<String, List<ClassFileLocation>> classFilesByPackage = new TreeMap<>();
+        for (ClassFileLocation classFile : source) {
+            if (!duplicateClassFiles.isDuplicate(classFile, importedClassNames::contains)) {
+                String classFileUri = Location.of(classFile.getUri()).asURI().toString();
+                String relativePath = classFileUri.startsWith(locationUri) ? classFileUri.substring(locationUri.length()) : classFileUri;
+                String packagePath = relativePath.substring(0, relativePath.lastIndexOf('/') + 1);
+                classFilesByPackage.computeIfAbsent(packagePath, __ -> new ArrayList<>()).add(classFile);
+            }
+        }
+
+        List<List<ClassFileLocation>> result = new ArrayList<>();
+        List<ClassFileLocation> currentBatch = new ArrayList<>();
+        for (List<ClassFileLocation> classFilesOfPackage : classFilesByPackage.values()) {
+            currentBatch.addAll(classFilesOfPackage);
+            if (currentBatch.size() >= batchSize) {
+                result.add(currentBatch);
+                currentBatch = new ArrayList<>();
+            }
         }
-        return new ClassFileProcessor().process(unify(sources));
+        if (!currentBatch.isEmpty()) {
+            result.add(currentBatch);
+        }
+        return result;
+    }
+
+    // class files within directories can only be identified as duplicates once they have been parsed,
+    // in which case the class of the preceding batch wins, just like the first class file wins for a regular import
+    private static JavaClasses withoutPreviouslyImportedClasses(JavaClasses batch, Set<String> importedClassNames) {
+        Set<String> previouslyImported = new HashSet<>();
+        for (JavaClass javaClass : batch) {
+            if (!importedClassNames.add(javaClass.getName())) {
+                previouslyImported.add(javaClass.getName());
+            }
+        }
+        return previouslyImported.isEmpty()
+                ? batch
+                : batch.that(describe("not imported by a previous batch", javaClass -> !previouslyImported.contains(javaClass.getName())));
     }
 
-    private void tryAdd(List<ClassFileSource> sources, Location location) {
+    private static void tryAdd(List<ClassFileSource> sources, Location location, ImportOptions importOptions) {
         try {
             sources.add(location.asClassFileSource(importOptions));
         } catch (Exception e) {
@@ -334,6 +556,14 @@ public final class ClassFileImporter {
         }
     }
 
+    private static void close(List<ClassFileSource> sources) {
+        sources.forEach(ClassFileSource::close);
+    }
+
+    private ClassFileProcessor newClassFileProcessor() {
+        return new ClassFileProcessor(parallelism, importDetail, classCompletion, importListeners);
+    }
+
     private ClassFileSource unify(List<ClassFileSource> sources) {
         return Iterables.concat(sources)::iterator;
     }
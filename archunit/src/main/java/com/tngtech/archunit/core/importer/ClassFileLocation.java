@@ -15,11 +15,24 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 
+import com.tngtech.archunit.core.importer.ClassFileBuffers.ClassFileBytes;
+
 interface ClassFileLocation {
     InputStream openStream();
 
+    /**
+     * Reads the whole class file into a pooled buffer (compare {@link ClassFileBuffers}). By default, the stream
+     * of {@link #openStream()} is read until its end, locations that know the bytes up front can avoid the stream.
+     */
+    default ClassFileBytes readClassFile() throws IOException {
+        try (InputStream inputStream = openStream()) {
+            return ClassFileBuffers.read(inputStream);
+        }
+    }
+
     URI getUri();
 }
@@ -16,25 +16,39 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.InputStream;
+import java.math.RoundingMode;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaStaticInitializerBuilder;
+import com.tngtech.archunit.core.importer.ImportedClasses.BatchResolver;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
+import com.tngtech.archunit.core.importer.JavaClassSignatureImporter.JavaClassSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.TryCatchRecorder.TryCatchBlocksFinishedListener;
@@ -45,7 +59,12 @@ import org.objectweb.asm.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.PARSE_CLASS_FILES;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.SCAN_LOCATIONS;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.objectweb.asm.Opcodes.ASM9;
 
@@ -54,25 +73,302 @@ class ClassFileProcessor {
 
     static final int ASM_API_VERSION = ASM9;
 
-    private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    static final String PARALLELISM_PROPERTY_NAME = "import.parallelism";
+    static final int PARALLELISM_DEFAULT_VALUE = 1;
+    // we split the class files into more partitions than threads to balance partitions that take longer to parse
+    static final int PARTITIONS_PER_THREAD = 4;
+
+    static final String IMPORT_DETAIL_PROPERTY_NAME = "import.detail";
+    static final ImportDetail IMPORT_DETAIL_DEFAULT_VALUE = ImportDetail.FULL;
+
+    static final String CLASS_COMPLETION_PROPERTY_NAME = "import.classCompletion";
+    static final ClassCompletion CLASS_COMPLETION_DEFAULT_VALUE = ClassCompletion.EAGER;
+
+    static final String LOG_METRICS_PROPERTY_NAME = "import.logMetrics";
+    static final boolean LOG_METRICS_DEFAULT_VALUE = false;
+
+    static final String CLASS_FILE_FINGERPRINT_PROPERTY_NAME = "import.classFileFingerprint";
+
+    private final SourceDescriptor.Factory sourceDescriptorFactory =
+            new SourceDescriptor.Factory(ArchConfiguration.get().md5InClassSourcesEnabled(), getConfiguredClassFileFingerprint());
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final int parallelism;
+    private final ImportDetail importDetail;
+    private final ClassCompletion classCompletion;
+    private final List<ImportListener> importListeners;
+
+    ClassFileProcessor() {
+        this(Optional.empty(), Optional.empty(), Optional.empty(), emptyList());
+    }
+
+    /**
+     * @param parallelism The number of threads to parse class files with, if empty the configured value is used
+     * @param importDetail The {@link ImportDetail} to parse class files with, if empty the configured value is used
+     * @param classCompletion The {@link ClassCompletion} to complete the imported classes with, if empty the configured value is used
+     * @param importListeners The {@link ImportListener ImportListeners} to notify about every import
+     */
+    ClassFileProcessor(
+            Optional<Integer> parallelism,
+            Optional<ImportDetail> importDetail,
+            Optional<ClassCompletion> classCompletion,
+            List<ImportListener> importListeners) {
+
+        this.parallelism = parallelism.orElseGet(ClassFileProcessor::getConfiguredParallelism);
+        this.importDetail = importDetail.orElseGet(ClassFileProcessor::getConfiguredImportDetail);
+        this.classCompletion = classCompletion.orElseGet(ClassFileProcessor::getConfiguredClassCompletion);
+        this.importListeners = logMetricsEnabled()
+                ? ImmutableList.<ImportListener>builder().addAll(importListeners).add(new ImportListener.LogSummary()).build()
+                : ImmutableList.copyOf(importListeners);
+        checkArgument(this.parallelism > 0, "Parallelism must be positive, but was %s", this.parallelism);
+    }
+
+    boolean isParallel() {
+        return parallelism > 1;
+    }
 
     JavaClasses process(ClassFileSource source) {
-        ClassFileImportRecord importRecord = new ClassFileImportRecord();
-        DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
-        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
-        for (ClassFileLocation location : source) {
-            try (InputStream s = location.openStream()) {
+        return process(source, new ImportMetricsRecorder());
+    }
+
+    /**
+     * @param metrics Records the {@link ImportMetrics} of this import, possibly including phases that have
+     *                been executed before (like deriving the {@link ClassFileSource} from a {@link Location})
+     */
+    JavaClasses process(ClassFileSource source, ImportMetricsRecorder metrics) {
+        long scanNanosBeforeParsing = metrics.getNanos(SCAN_LOCATIONS);
+        long parsingStart = System.nanoTime();
+        ImportShard importShard = parallelism > 1
+                ? processInParallel(metrics.time(SCAN_LOCATIONS, () -> ImmutableList.copyOf(source)), metrics)
+                : processSequentially(metrics.timeIteration(SCAN_LOCATIONS, source), metrics);
+        metrics.recordDuration(PARSE_CLASS_FILES, System.nanoTime() - parsingStart - (metrics.getNanos(SCAN_LOCATIONS) - scanNanosBeforeParsing));
+
+        JavaClasses result = completeClassGraph(importShard, metrics);
+        if (!importListeners.isEmpty()) {
+            ImportMetrics importMetrics = metrics.finish(result.size());
+            importListeners.forEach(listener -> listener.onImportFinished(importMetrics));
+        }
+        return result;
+    }
+
+    private JavaClasses completeClassGraph(ImportShard importShard, ImportMetricsRecorder metrics) {
+        ClassResolver classResolver = getClassResolver(importShard.classDetailsRecorder, metrics);
+        if (parallelism == 1) {
+            return new ClassGraphCreator(importShard.importRecord, importShard.dependencyResolutionProcess, classResolver, BatchResolver.NONE, classCompletion, Optional.empty(), metrics).complete();
+        }
+
+        ForkJoinPool pool = newForkJoinPool();
+        try {
+            ParallelBatchResolver batchResolver = new ParallelBatchResolver(importShard, pool, metrics);
+            return new ClassGraphCreator(importShard.importRecord, importShard.dependencyResolutionProcess, classResolver, batchResolver, classCompletion, Optional.of(pool), metrics).complete();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ImportShard processSequentially(Iterable<ClassFileLocation> locations, ImportMetricsRecorder metrics) {
+        ImportShard importShard = new ImportShard(sourceDescriptorFactory, importDetail, metrics);
+        importShard.processAll(locations);
+        return importShard;
+    }
+
+    /**
+     * Parses the class files on a {@link ForkJoinPool} with one {@link ImportShard} per partition of class files.
+     * The shards are then combined in the original order of the partitions, thus the result is the same as
+     * if all class files had been processed sequentially. In particular, if the same class is contained
+     * in multiple partitions, the first occurrence wins. For this rare case the later partition is processed
+     * a second time on top of the combined result, just like a sequential import would have done it.
+     * Class files that are certainly duplicates of preceding class files (compare {@link DuplicateClassFiles})
+     * are dropped before partitioning, so they are not even opened.
+     */
+    private ImportShard processInParallel(List<ClassFileLocation> allLocations, ImportMetricsRecorder metrics) {
+        DuplicateClassFiles duplicateClassFiles = new DuplicateClassFiles();
+        List<ClassFileLocation> locations = allLocations.stream()
+                .filter(location -> !duplicateClassFiles.isDuplicate(location, __ -> false))
+                .collect(toList());
+        if (locations.isEmpty()) {
+            return new ImportShard(sourceDescriptorFactory, importDetail, metrics);
+        }
+
+        int partitionSize = IntMath.divide(locations.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING);
+        List<List<ClassFileLocation>> partitions = Lists.partition(locations, partitionSize);
+        // the shards must be created within the calling thread to pick up a possibly thread local ArchConfiguration
+        List<ImportShard> shards = partitions.stream().map(__ -> new ImportShard(sourceDescriptorFactory, importDetail, metrics)).collect(toList());
+
+        ForkJoinPool pool = newForkJoinPool();
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < partitions.size(); i++) {
+                List<ClassFileLocation> partition = partitions.get(i);
+                ImportShard shard = shards.get(i);
+                tasks.add(pool.submit(() -> shard.processAll(partition)));
+            }
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+
+        ImportShard result = shards.get(0);
+        for (int i = 1; i < shards.size(); i++) {
+            ImportShard shard = shards.get(i);
+            if (result.containsAnyClassOf(shard)) {
+                LOG.debug("Found classes that have already been imported from another location, processing {} class files again", partitions.get(i).size());
+                result.processAll(partitions.get(i));
+            } else {
+                result.addAll(shard);
+            }
+        }
+        return result;
+    }
+
+    private ForkJoinPool newForkJoinPool() {
+        return new ForkJoinPool(parallelism, new ContextClassLoaderPreservingThreadFactory(), null, false);
+    }
+
+    private static int getConfiguredParallelism() {
+        String configuredParallelism = ArchConfiguration.get().getPropertyOrDefault(PARALLELISM_PROPERTY_NAME, String.valueOf(PARALLELISM_DEFAULT_VALUE));
+        return Integer.parseInt(configuredParallelism.trim());
+    }
+
+    private static ImportDetail getConfiguredImportDetail() {
+        String configuredImportDetail = ArchConfiguration.get().getPropertyOrDefault(IMPORT_DETAIL_PROPERTY_NAME, IMPORT_DETAIL_DEFAULT_VALUE.name());
+        return ImportDetail.valueOf(configuredImportDetail.trim());
+    }
+
+    private static ClassCompletion getConfiguredClassCompletion() {
+        String configuredClassCompletion = ArchConfiguration.get().getPropertyOrDefault(CLASS_COMPLETION_PROPERTY_NAME, CLASS_COMPLETION_DEFAULT_VALUE.name());
+        return ClassCompletion.valueOf(configuredClassCompletion.trim());
+    }
+
+    private static Optional<ClassFileFingerprint> getConfiguredClassFileFingerprint() {
+        ArchConfiguration configuration = ArchConfiguration.get();
+        return configuration.containsProperty(CLASS_FILE_FINGERPRINT_PROPERTY_NAME)
+                ? Optional.of(ClassFileFingerprint.valueOf(configuration.getProperty(CLASS_FILE_FINGERPRINT_PROPERTY_NAME).trim()))
+                : Optional.empty();
+    }
+
+    private static boolean logMetricsEnabled() {
+        return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(
+                LOG_METRICS_PROPERTY_NAME, String.valueOf(LOG_METRICS_DEFAULT_VALUE)));
+    }
+
+    /**
+     * By default, threads of a {@link ForkJoinPool} use the system {@link ClassLoader} as context {@link ClassLoader}.
+     * However, the class files might only be accessible via the context {@link ClassLoader} of the importing thread.
+     */
+    private static class ContextClassLoaderPreservingThreadFactory implements ForkJoinWorkerThreadFactory {
+        private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }
+    }
+
+    /**
+     * Resolves the types of a single run of the {@link DependencyResolutionProcess} on a {@link ForkJoinPool},
+     * partitioned the same way as {@link #processInParallel(List, ImportMetricsRecorder)}. The partitions are processed by one task
+     * per thread, each with its own {@link ClassResolver}, taking the next unprocessed partition until none is left. The details of
+     * the resolved classes are recorded into one {@link ClassFileImportRecord} per partition. These records are merged into the
+     * {@link ImportShard} in the order of the partitions once all types of the run have been resolved, so neither the
+     * {@link ClassResolver} nor the {@link ClassFileImportRecord} need to be thread-safe.
+     */
+    private class ParallelBatchResolver implements BatchResolver {
+        private final ImportShard importShard;
+        private final ImportMetricsRecorder metrics;
+        // the resolvers must be created within the calling thread to pick up a possibly thread local ArchConfiguration
+        private final List<ClassResolver> threadResolvers;
+        private final ForkJoinPool pool;
+
+        ParallelBatchResolver(ImportShard importShard, ForkJoinPool pool, ImportMetricsRecorder metrics) {
+            this.importShard = importShard;
+            this.pool = pool;
+            this.metrics = metrics;
+            this.threadResolvers = IntStream.range(0, parallelism)
+                    .mapToObj(__ -> classResolverFactory.create())
+                    .collect(toList());
+        }
+
+        @Override
+        public Map<String, Optional<JavaClass>> tryResolveAll(List<String> typeNames) {
+            int partitionSize = IntMath.divide(typeNames.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING);
+            List<List<String>> partitions = Lists.partition(typeNames, partitionSize);
+            List<ClassFileImportRecord> partitionRecords = partitions.stream().map(__ -> new ClassFileImportRecord()).collect(toList());
+            AtomicInteger nextPartition = new AtomicInteger();
+
+            List<ForkJoinTask<Map<String, Optional<JavaClass>>>> tasks = new ArrayList<>();
+            for (ClassResolver resolver : threadResolvers.subList(0, Math.min(threadResolvers.size(), partitions.size()))) {
+                tasks.add(pool.submit(() -> tryResolvePartitions(resolver, partitions, partitionRecords, nextPartition)));
+            }
+
+            Map<String, Optional<JavaClass>> result = new HashMap<>();
+            tasks.forEach(task -> result.putAll(task.join()));
+            partitionRecords.forEach(importShard.importRecord::addAll);
+            return result;
+        }
+
+        private Map<String, Optional<JavaClass>> tryResolvePartitions(
+                ClassResolver resolver, List<List<String>> partitions, List<ClassFileImportRecord> partitionRecords, AtomicInteger nextPartition) {
+
+            Map<String, Optional<JavaClass>> result = new HashMap<>();
+            for (int i = nextPartition.getAndIncrement(); i < partitions.size(); i = nextPartition.getAndIncrement()) {
+                ClassDetailsRecorder recorder = new ClassDetailsRecorder(partitionRecords.get(i), importShard.dependencyResolutionProcess);
+                resolver.setClassUriImporter(new UriImporterOfProcessor(recorder, sourceDescriptorFactory, importDetail, metrics));
+                for (String typeName : partitions.get(i)) {
+                    result.put(typeName, resolver.tryResolve(typeName));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class ImportShard {
+        private final ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        private final DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
+        private final RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
+        private final ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
+        private final DuplicateClassFiles duplicateClassFiles = new DuplicateClassFiles();
+        private final SourceDescriptor.Factory sourceDescriptorFactory;
+        private final ImportDetail importDetail;
+        private final ImportMetricsRecorder metrics;
+
+        ImportShard(SourceDescriptor.Factory sourceDescriptorFactory, ImportDetail importDetail, ImportMetricsRecorder metrics) {
+            this.sourceDescriptorFactory = sourceDescriptorFactory;
+            this.importDetail = importDetail;
+            this.metrics = metrics;
+        }
+
+        void processAll(Iterable<ClassFileLocation> locations) {
+            for (ClassFileLocation location : locations) {
+                process(location);
+            }
+        }
+
+        private void process(ClassFileLocation location) {
+            if (duplicateClassFiles.isDuplicate(location, className -> !classDetailsRecorder.isNew(className))) {
+                return;
+            }
+
+            try (ClassFileBuffers.ClassFileBytes classFile = location.readClassFile()) {
+                metrics.recordBytesRead(classFile.length());
                 JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
+                        new JavaClassProcessor(sourceDescriptorFactory.create(location.getUri(), classFile), classDetailsRecorder, accessHandler);
+                new ClassReader(classFile.buffer(), 0, classFile.length()).accept(javaClassProcessor, importDetail.getClassReaderParsingOptions());
                 javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder)).complete();
+
+        boolean containsAnyClassOf(ImportShard other) {
+            return !Collections.disjoint(importRecord.getClasses().keySet(), other.importRecord.getClasses().keySet());
+        }
+
+        void addAll(ImportShard other) {
+            importRecord.addAll(other.importRecord);
+            dependencyResolutionProcess.addAll(other.dependencyResolutionProcess);
+        }
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -102,18 +398,8 @@ class ClassFileProcessor {
         }
 
         @Override
-        public void onDeclaredTypeParameters(JavaClassTypeParametersBuilder typeParametersBuilder) {
-            importRecord.addTypeParameters(ownerName, typeParametersBuilder);
-        }
-
-        @Override
-        public void onGenericSuperclass(JavaParameterizedTypeBuilder<JavaClass> genericSuperclassBuilder) {
-            importRecord.addGenericSuperclass(ownerName, genericSuperclassBuilder);
-        }
-
-        @Override
-        public void onGenericInterfaces(List<JavaParameterizedTypeBuilder<JavaClass>> genericInterfaceBuilders) {
-            importRecord.addGenericInterfaces(ownerName, genericInterfaceBuilders);
+        public void onDeclaredClassSignature(JavaClassSignature classSignature) {
+            importRecord.setClassSignature(ownerName, classSignature);
         }
 
         @Override
@@ -235,10 +521,9 @@ class ClassFileProcessor {
             AccessType accessType = AccessType.forOpCode(opcode);
             LOG.trace("Found {} access to field {}.{}:{} in line {}", accessType, owner, name, desc, lineNumber);
             TargetInfo target = new TargetInfo(owner, name, desc);
-            RawAccessRecord.ForField accessRecord = filled(new RawAccessRecord.ForField.Builder(), target)
+            RawAccessRecord.ForField accessRecord = importRecord.registerFieldAccess(filled(new RawAccessRecord.ForField.Builder(), target)
                     .withAccessType(accessType)
-                    .build();
-            importRecord.registerFieldAccess(accessRecord);
+                    .build());
             tryCatchRecorder.registerAccess(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
@@ -247,12 +532,10 @@ class ClassFileProcessor {
         public void handleMethodInstruction(String owner, String name, String desc) {
             LOG.trace("Found call of method {}.{}:{} in line {}", owner, name, desc, lineNumber);
             TargetInfo target = new TargetInfo(owner, name, desc);
-            RawAccessRecord accessRecord = filled(new RawAccessRecord.Builder(), target).build();
-            if (CONSTRUCTOR_NAME.equals(name)) {
-                importRecord.registerConstructorCall(accessRecord);
-            } else {
-                importRecord.registerMethodCall(accessRecord);
-            }
+            RawAccessRecord record = filled(new RawAccessRecord.Builder(), target).build();
+            RawAccessRecord accessRecord = CONSTRUCTOR_NAME.equals(name)
+                    ? importRecord.registerConstructorCall(record)
+                    : importRecord.registerMethodCall(record);
             tryCatchRecorder.registerAccess(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
@@ -261,12 +544,10 @@ class ClassFileProcessor {
         public void handleMethodReferenceInstruction(String owner, String name, String desc) {
             LOG.trace("Found method reference {}.{}:{} in line {}", owner, name, desc, lineNumber);
             TargetInfo target = new TargetInfo(owner, name, desc);
-            RawAccessRecord accessRecord = filled(new RawAccessRecord.Builder(), target).build();
-            if (CONSTRUCTOR_NAME.equals(name)) {
-                importRecord.registerConstructorReference(accessRecord);
-            } else {
-                importRecord.registerMethodReference(accessRecord);
-            }
+            RawAccessRecord record = filled(new RawAccessRecord.Builder(), target).build();
+            RawAccessRecord accessRecord = CONSTRUCTOR_NAME.equals(name)
+                    ? importRecord.registerConstructorReference(record)
+                    : importRecord.registerMethodReference(record);
             tryCatchRecorder.registerAccess(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
@@ -328,26 +609,49 @@ class ClassFileProcessor {
         }
     }
 
-    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
+    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder, ImportMetricsRecorder metrics) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, sourceDescriptorFactory, importDetail, metrics));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
-        private final boolean md5InClassSourcesEnabled;
+        private final SourceDescriptor.Factory sourceDescriptorFactory;
+        private final ImportDetail importDetail;
+        private final ImportMetricsRecorder metrics;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, SourceDescriptor.Factory sourceDescriptorFactory, ImportDetail importDetail, ImportMetricsRecorder metrics) {
             this.declarationHandler = declarationHandler;
-            this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.sourceDescriptorFactory = sourceDescriptorFactory;
+            this.importDetail = importDetail;
+            this.metrics = metrics;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+            JdkClassFiles jdkClassFiles = JdkClassFiles.get();
+            if (jdkClassFiles.contains(uri) && !sourceDescriptorFactory.requiresClassFileBytes()) {
+                return tryImportSkeleton(jdkClassFiles, uri);
+            }
+
+            try (InputStream inputStream = jdkClassFiles.openStream(uri); ClassFileBuffers.ClassFileBytes classFile = ClassFileBuffers.read(inputStream)) {
+                metrics.recordBytesRead(classFile.length());
+                JavaClassProcessor classProcessor = new JavaClassProcessor(sourceDescriptorFactory.create(uri, classFile), declarationHandler);
+                new ClassReader(classFile.buffer(), 0, classFile.length()).accept(classProcessor, importDetail.getClassReaderParsingOptions());
+                return classProcessor.createJavaClass();
+            } catch (Exception e) {
+                LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
+                return Optional.empty();
+            }
+        }
+
+        private Optional<JavaClass> tryImportSkeleton(JdkClassFiles jdkClassFiles, URI uri) {
+            try {
+                byte[] skeleton = jdkClassFiles.getSkeleton(uri);
+                metrics.recordBytesRead(skeleton.length);
+                JavaClassProcessor classProcessor = new JavaClassProcessor(sourceDescriptorFactory.create(uri), declarationHandler);
+                new ClassReader(skeleton).accept(classProcessor, importDetail.getClassReaderParsingOptions());
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
@@ -15,65 +15,175 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URL;
-import java.nio.file.FileVisitResult;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 
+import com.google.common.collect.AbstractIterator;
 import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.core.importer.ClassFileBuffers.ClassFileBytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 @Internal
-interface ClassFileSource extends Iterable<ClassFileLocation> {
+interface ClassFileSource extends Iterable<ClassFileLocation>, AutoCloseable {
+    /**
+     * Releases the resources needed to read the class files of this source (e.g. an open file).
+     * Called as soon as all class files of the import have been read, so the {@link ClassFileLocation ClassFileLocations}
+     * of this source must not be read anymore afterwards.
+     */
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Walks the directory tree beneath a path on the local file system. For parallel imports
+     * (compare {@link ImportOptions#isConcurrentEvaluationAllowed()}) directories are listed concurrently and ahead of the iteration,
+     * thus the class files found so far can already be parsed while the walk continues. Otherwise, each directory is only listed
+     * on the thread iterating this source once the iteration reaches it. Either way, the class files
+     * are always iterated in the same order (depth first, sorted by file name within each directory).
+     * <br><br>
+     * Directories that no {@link ImportOptions} could include any location beneath (compare
+     * {@link ImportOption#mayIncludeLocationsBeneath(Location)}) are not walked at all. Only entries that are no class files
+     * need to be checked for being a directory, so the file attributes of each class file are only read
+     * to create its {@link URI}. Just like {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)}, symbolic links
+     * to directories are not followed. Directories that cannot be read are skipped.
+     */
     @Internal
-    class FromFilePath extends SimpleFileVisitor<Path> implements ClassFileSource {
-        private final Set<ClassFileLocation> classFileLocations = new HashSet<>();
+    class FromFilePath implements ClassFileSource {
+        private static final Logger LOG = LoggerFactory.getLogger(FromFilePath.class);
+
+        // listing directories is dominated by I/O, thus there is no point in tying the number of threads to the parallelism of the import
+        private static final ForkJoinPool DIRECTORY_LISTING_POOL = new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+
         private final ImportOptions importOptions;
+        private final Optional<URI> importedDirectory;
+        private final Optional<Supplier<DirectoryListing>> rootListing;
+        private final Optional<ClassFileLocation> singleClassFile;
 
         FromFilePath(Path path, ImportOptions importOptions) {
             this.importOptions = importOptions;
-            if (path.toFile().exists()) {
-                try {
-                    Files.walkFileTree(path, this);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+            if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+                importedDirectory = Optional.of(path.toUri());
+                rootListing = mayIncludeLocationsBeneath(path)
+                        ? Optional.of(listingOfRoot(path))
+                        : Optional.empty();
+                singleClassFile = Optional.empty();
+            } else {
+                importedDirectory = Optional.empty();
+                rootListing = Optional.empty();
+                singleClassFile = Files.exists(path, NOFOLLOW_LINKS) ? tryCreateClassFileLocation(path) : Optional.empty();
             }
         }
 
+        private Supplier<DirectoryListing> listingOfRoot(Path path) {
+            return importOptions.isConcurrentEvaluationAllowed()
+                    ? DIRECTORY_LISTING_POOL.submit(new ListDirectory(path))::join
+                    : listLazily(path);
+        }
+
+        private Supplier<DirectoryListing> listLazily(Path directory) {
+            return () -> list(directory, this::listLazily);
+        }
+
         @Override
         public Iterator<ClassFileLocation> iterator() {
-            return classFileLocations.iterator();
+            if (!rootListing.isPresent()) {
+                return singleClassFile.map(Collections::singleton).orElse(emptySet()).iterator();
+            }
+
+            Deque<Iterator<Supplier<DirectoryListing>>> pendingDirectories = new ArrayDeque<>();
+            pendingDirectories.push(singletonList(rootListing.get()).iterator());
+            return new AbstractIterator<ClassFileLocation>() {
+                private Iterator<ClassFileLocation> classFilesOfCurrentDirectory = emptyIterator();
+
+                @Override
+                protected ClassFileLocation computeNext() {
+                    while (!classFilesOfCurrentDirectory.hasNext()) {
+                        while (!pendingDirectories.isEmpty() && !pendingDirectories.peek().hasNext()) {
+                            pendingDirectories.pop();
+                        }
+                        if (pendingDirectories.isEmpty()) {
+                            return endOfData();
+                        }
+                        DirectoryListing listing = pendingDirectories.peek().next().get();
+                        classFilesOfCurrentDirectory = listing.classFiles.iterator();
+                        pendingDirectories.push(listing.subdirectories.iterator());
+                    }
+                    return classFilesOfCurrentDirectory.next();
+                }
+            };
         }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            if (shouldBeConsidered(file)) {
-                classFileLocations.add(new InputStreamSupplierClassFileLocation(file.toUri(), newInputStreamSupplierFor(file)));
+        private DirectoryListing list(Path directory, Function<Path, Supplier<DirectoryListing>> listingOfSubdirectory) {
+            List<ClassFileLocation> classFiles = new ArrayList<>();
+            List<Supplier<DirectoryListing>> subdirectories = new ArrayList<>();
+            for (Path entry : sortedEntriesOf(directory)) {
+                if (FileToImport.isRelevant(entry.getFileName().toString())) {
+                    tryCreateClassFileLocation(entry).ifPresent(classFiles::add);
+                } else if (Files.isDirectory(entry, NOFOLLOW_LINKS) && mayIncludeLocationsBeneath(entry)) {
+                    subdirectories.add(listingOfSubdirectory.apply(entry));
+                }
             }
-            return FileVisitResult.CONTINUE;
+            return new DirectoryListing(classFiles, subdirectories);
         }
 
-        private boolean shouldBeConsidered(Path file) {
+        private static List<Path> sortedEntriesOf(Path directory) {
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                List<Path> result = new ArrayList<>();
+                entries.forEach(result::add);
+                result.sort(comparing(entry -> entry.getFileName().toString()));
+                return result;
+            } catch (IOException | DirectoryIteratorException e) {
+                LOG.warn(String.format("Couldn't list directory %s, skipping it", directory), e);
+                return emptyList();
+            }
+        }
+
+        private boolean mayIncludeLocationsBeneath(Path directory) {
+            return importOptions.mayIncludeLocationsBeneath(Location.of(directory));
+        }
+
+        private Optional<ClassFileLocation> tryCreateClassFileLocation(Path file) {
             Path fileName = file.getFileName();
-            return fileName != null
-                    && FileToImport.isRelevant(fileName.toString())
-                    && importOptions.include(Location.of(file));
+            if (fileName == null || !FileToImport.isRelevant(fileName.toString())) {
+                return Optional.empty();
+            }
+
+            URI uri = file.toUri();
+            return importOptions.include(uri, importedDirectory)
+                    ? Optional.of(new InputStreamSupplierClassFileLocation(uri, newInputStreamSupplierFor(file)))
+                    : Optional.empty();
         }
 
         private Supplier<InputStream> newInputStreamSupplierFor(Path file) {
@@ -84,6 +194,29 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
                 }
             };
         }
+
+        private class ListDirectory extends RecursiveTask<DirectoryListing> {
+            private final Path directory;
+
+            ListDirectory(Path directory) {
+                this.directory = directory;
+            }
+
+            @Override
+            protected DirectoryListing compute() {
+                return list(directory, subdirectory -> new ListDirectory(subdirectory).fork()::join);
+            }
+        }
+
+        private static class DirectoryListing {
+            private final List<ClassFileLocation> classFiles;
+            private final List<Supplier<DirectoryListing>> subdirectories;
+
+            DirectoryListing(List<ClassFileLocation> classFiles, List<Supplier<DirectoryListing>> subdirectories) {
+                this.classFiles = classFiles;
+                this.subdirectories = subdirectories;
+            }
+        }
     }
 
     @Internal
@@ -159,11 +292,60 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             }
 
             boolean isIncludedIn(ImportOptions importOptions) {
-                return importOptions.include(Location.of(uri));
+                return importOptions.include(uri);
             }
         }
     }
 
+    /**
+     * Like {@link FromJar}, but reads the JAR file via {@link MappedJarFile} instead of {@link JarURLConnection}.
+     */
+    @Internal
+    class FromMappedJar implements ClassFileSource {
+        private final MappedJarFile jarFile;
+        private final List<ClassFileLocation> classFileLocations;
+
+        private FromMappedJar(MappedJarFile jarFile, String jarRootUri, NormalizedResourceName path, ImportOptions importOptions) {
+            this.jarFile = jarFile;
+            Location jarRoot = Location.of(URI.create(jarRootUri));
+            String prefix = path.toEntryName();
+            classFileLocations = jarFile.getEntries().stream()
+                    .filter(entry -> entry.getName().startsWith(prefix) && FileToImport.isRelevant(entry.getName()))
+                    .map(entry -> new BufferReadingClassFileLocation(jarRoot.append(entry.getName()).asURI()) {
+                        @Override
+                        public ClassFileBytes readClassFile() throws IOException {
+                            return jarFile.read(entry);
+                        }
+                    })
+                    .filter(classFileLocation -> importOptions.include(classFileLocation.getUri()))
+                    .collect(toList());
+        }
+
+        @Override
+        public Iterator<ClassFileLocation> iterator() {
+            return classFileLocations.iterator();
+        }
+
+        @Override
+        public void close() {
+            jarFile.close();
+        }
+
+        /**
+         * @param jarRootUri The root URI of a JAR file on the local file system, e.g. {@code jar:file:/some/lib.jar!/}
+         * @return A {@link ClassFileSource} reading the JAR file via {@link MappedJarFile}, if this is supported
+         *         for the given JAR file, {@link Optional#empty()} otherwise
+         */
+        static Optional<ClassFileSource> tryCreate(String jarRootUri, NormalizedResourceName path, ImportOptions importOptions) throws IOException {
+            URI jarFileUri = URI.create(jarRootUri.substring("jar:".length(), jarRootUri.length() - "!/".length()));
+            if (!"file".equals(jarFileUri.getScheme()) || jarFileUri.toString().contains("!/")) {
+                return Optional.empty();
+            }
+            return MappedJarFile.tryOpen(Paths.get(jarFileUri))
+                    .map(jarFile -> new FromMappedJar(jarFile, jarRootUri, path, importOptions));
+        }
+    }
+
     @Internal
     class InputStreamSupplierClassFileLocation implements ClassFileLocation {
         private final URI uri;
@@ -190,6 +372,41 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
     }
 
+    /**
+     * A {@link ClassFileLocation} that reads the bytes of the class file directly into a pooled buffer
+     * (compare {@link ClassFileLocation#readClassFile()}), the stream is only a copy of these bytes.
+     */
+    @Internal
+    abstract class BufferReadingClassFileLocation implements ClassFileLocation {
+        private final URI uri;
+
+        BufferReadingClassFileLocation(URI uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try (ClassFileBytes classFile = readClassFile()) {
+                return new ByteArrayInputStream(Arrays.copyOf(classFile.buffer(), classFile.length()));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public abstract ClassFileBytes readClassFile() throws IOException;
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+
     @Internal
     abstract class InputStreamSupplier implements Supplier<InputStream> {
         @Override
@@ -15,27 +15,28 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.math.IntMath;
 import com.tngtech.archunit.base.HasDescription;
-import com.tngtech.archunit.core.domain.AccessTarget;
-import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
-import com.tngtech.archunit.core.domain.AccessTarget.ConstructorReferenceTarget;
-import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
-import com.tngtech.archunit.core.domain.AccessTarget.MethodReferenceTarget;
 import com.tngtech.archunit.core.domain.ImportContext;
 import com.tngtech.archunit.core.domain.InstanceofCheck;
-import com.tngtech.archunit.core.domain.JavaAccess;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -52,62 +53,154 @@ import com.tngtech.archunit.core.domain.JavaMethodReference;
 import com.tngtech.archunit.core.domain.JavaStaticInitializer;
 import com.tngtech.archunit.core.domain.JavaType;
 import com.tngtech.archunit.core.domain.JavaTypeVariable;
+import com.tngtech.archunit.core.domain.LazyClassCompletion;
 import com.tngtech.archunit.core.domain.ReferencedClassObject;
-import com.tngtech.archunit.core.importer.AccessRecord.FieldAccessRecord;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorCallBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorReferenceBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldAccessBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodCallBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodReferenceBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
+import com.tngtech.archunit.core.importer.ImportedClasses.BatchResolver;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeAnnotations;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchy;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeCreatedClass;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeEnclosingDeclaration;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeGenericInterfaces;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeGenericSuperclass;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeMembers;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeTypeParameters;
-import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createInstanceofCheck;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
-import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createReferencedClassObject;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createLazyClassCompletion;
+import static com.tngtech.archunit.core.importer.ClassCompletion.LAZY;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.COMPLETE_CLASSES;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.CREATE_DEPENDENCIES;
+import static com.tngtech.archunit.core.importer.ImportMetrics.Phase.RESOLVE_DEPENDENCIES;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isLambdaMethodName;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isSyntheticAccessMethodName;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
 
 class ClassGraphCreator implements ImportContext {
     private final ImportedClasses classes;
 
     private final ClassFileImportRecord importRecord;
     private final DependencyResolutionProcess dependencyResolutionProcess;
+    private final ClassCompletion classCompletion;
+    private final ImportMetricsRecorder metrics;
+
+    // if present, the code unit dependencies of an eager completion are processed in parallel
+    private final Optional<ForkJoinPool> pool;
+    private final ProcessedCodeUnitDependencies processedCodeUnitDependencies;
+    // only used for a parallel completion, the processed code unit dependencies of each partition of origin classes by class name
+    private final Map<String, ProcessedCodeUnitDependencies> processedCodeUnitDependenciesByOwner = new HashMap<>();
+    // only used for a lazy completion, the raw code unit dependencies of all classes that have not been completed yet
+    private Map<String, RawCodeUnitDependencies> unprocessedCodeUnitDependenciesByOwner;
+
+    ClassGraphCreator(
+            ClassFileImportRecord importRecord,
+            DependencyResolutionProcess dependencyResolutionProcess,
+            ClassResolver classResolver,
+            BatchResolver batchResolver,
+            ClassCompletion classCompletion,
+            Optional<ForkJoinPool> pool,
+            ImportMetricsRecorder metrics) {
 
-    private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorCallTarget>> processedConstructorCallRecords = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, AccessRecord<MethodReferenceTarget>> processedMethodReferenceRecords = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorReferenceTarget>> processedConstructorReferenceRecords = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, ReferencedClassObject> processedReferencedClassObjects = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, InstanceofCheck> processedInstanceofChecks = HashMultimap.create();
-    private final SetMultimap<JavaCodeUnit, TryCatchBlockBuilder> processedTryCatchBlocks = HashMultimap.create();
-
-    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver) {
         this.importRecord = importRecord;
         this.dependencyResolutionProcess = dependencyResolutionProcess;
-        classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType);
+        this.classCompletion = classCompletion;
+        this.pool = pool;
+        this.metrics = metrics;
+        classes = new ImportedClasses(importRecord.getClasses(), classResolver, batchResolver, this::getMethodReturnType, metrics);
+        processedCodeUnitDependencies = new ProcessedCodeUnitDependencies(classes);
     }
 
     JavaClasses complete() {
-        dependencyResolutionProcess.resolve(classes);
-        completeClasses();
-        completeCodeUnitDependencies();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        metrics.time(RESOLVE_DEPENDENCIES, () -> dependencyResolutionProcess.resolve(classes, metrics));
+        return classCompletion == LAZY ? completeLazily() : completeEagerly();
+    }
+
+    private JavaClasses completeEagerly() {
+        if (pool.isPresent()) {
+            return completeEagerlyInParallel(pool.get());
+        }
+
+        metrics.time(COMPLETE_CLASSES, () -> {
+            completeClasses();
+            completeCodeUnitDependencies();
+        });
+        return metrics.time(CREATE_DEPENDENCIES,
+                () -> createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this));
+    }
+
+    /**
+     * Like {@link #completeEagerly()}, but processes the code unit dependencies and creates the accesses on the given {@link ForkJoinPool},
+     * partitioned by the classes the dependencies originate from. Each partition has its own {@link ProcessedCodeUnitDependencies},
+     * and all dependencies of one origin class are processed within one partition in their original order,
+     * thus the result is the same as for a sequential completion.
+     * <br><br>
+     * The accesses are created only after all classes to complete have been determined, since the sequential completion
+     * also only resolves the access targets (possibly creating further classes) while completing these classes.
+     */
+    private JavaClasses completeEagerlyInParallel(ForkJoinPool pool) {
+        Map<ProcessedCodeUnitDependencies, List<JavaClass>> ownersByPartition = metrics.time(COMPLETE_CLASSES, () -> {
+            completeClasses();
+            return processCodeUnitDependenciesInParallel(pool);
+        });
+        return metrics.time(CREATE_DEPENDENCIES, () -> {
+            Collection<JavaClass> allClasses = classes.getAllWithOuterClassesSortedBeforeInnerClasses();
+            runInParallel(pool, ownersByPartition.entrySet().stream()
+                    .map(partition -> (Runnable) () -> partition.getValue().forEach(partition.getKey()::createAccessesAheadOf))
+                    .collect(toList()));
+            return createJavaClasses(classes.getDirectlyImported(), allClasses, this);
+        });
+    }
+
+    private Map<ProcessedCodeUnitDependencies, List<JavaClass>> processCodeUnitDependenciesInParallel(ForkJoinPool pool) {
+        Map<String, RawCodeUnitDependencies> dependenciesByOwner = groupRawCodeUnitDependenciesByOwner();
+        List<String> ownerNames = dependenciesByOwner.keySet().stream().sorted().collect(toList());
+        if (ownerNames.isEmpty()) {
+            return emptyMap();
+        }
+
+        int partitionSize = IntMath.divide(ownerNames.size(), pool.getParallelism() * ClassFileProcessor.PARTITIONS_PER_THREAD, RoundingMode.CEILING);
+        Map<ProcessedCodeUnitDependencies, List<JavaClass>> ownersByPartition = new LinkedHashMap<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (List<String> partition : Lists.partition(ownerNames, partitionSize)) {
+            ProcessedCodeUnitDependencies processed = new ProcessedCodeUnitDependencies(classes);
+            partition.forEach(ownerName -> processedCodeUnitDependenciesByOwner.put(ownerName, processed));
+            List<JavaClass> owners = new ArrayList<>();
+            ownersByPartition.put(processed, owners);
+            tasks.add(() -> partition.forEach(ownerName -> {
+                dependenciesByOwner.get(ownerName).processInto(processed);
+                owners.add(classes.getOrResolve(ownerName));
+            }));
+        }
+        runInParallel(pool, tasks);
+        return ownersByPartition;
+    }
+
+    private void runInParallel(ForkJoinPool pool, List<Runnable> tasks) {
+        tasks.stream().map(pool::submit).collect(toList()).forEach(ForkJoinTask::join);
+    }
+
+    /**
+     * Only completes the class hierarchy eagerly, since e.g. the subclasses of a class can only be known after all classes
+     * have been completed. All further completion happens on demand, compare {@link LazyClassCompletion}.
+     * Classes that are only created while completing classes on demand are completed as far as
+     * {@link #completeEagerly()} would have completed them.
+     */
+    private JavaClasses completeLazily() {
+        return metrics.time(COMPLETE_CLASSES, () -> {
+            classes.getAllWithOuterClassesSortedBeforeInnerClasses().forEach(javaClass -> completeClassHierarchy(javaClass, this));
+            LazyClassCompletion lazyClassCompletion = createLazyClassCompletion(this);
+            JavaClasses result = createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), lazyClassCompletion);
+            classes.onClassCreated(javaClass -> completeCreatedClass(javaClass, lazyClassCompletion));
+            return result;
+        });
     }
 
     private void completeClasses() {
@@ -123,134 +216,62 @@ class ClassGraphCreator implements ImportContext {
     }
 
     private void completeCodeUnitDependencies() {
-        importRecord.forEachRawFieldAccessRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords));
-        importRecord.forEachRawMethodCallRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords));
-        importRecord.forEachRawConstructorCallRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords));
-        importRecord.forEachRawMethodReferenceRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forMethodReferenceRecord(), processedMethodReferenceRecords));
-        importRecord.forEachRawConstructorReferenceRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forConstructorReferenceRecord(), processedConstructorReferenceRecords));
-        importRecord.forEachRawReferencedClassObject(this::processReferencedClassObject);
-        importRecord.forEachRawInstanceofCheck(this::processInstanceofCheck);
-        importRecord.forEachRawTryCatchBlock(this::processTryCatchBlock);
-    }
-
-    private <T extends AccessRecord<?>, B extends RawAccessRecord> void tryProcess(
-            B rawRecord,
-            AccessRecord.Factory<B, T> factory,
-            Multimap<JavaCodeUnit, T> processedAccessRecords) {
-
-        T processed = factory.create(rawRecord, classes);
-        processedAccessRecords.put(processed.getOrigin(), processed);
-    }
-
-    private void processReferencedClassObject(RawReferencedClassObject rawReferencedClassObject) {
-        JavaCodeUnit origin = rawReferencedClassObject.getOrigin().resolveFrom(classes);
-        ReferencedClassObject referencedClassObject = createReferencedClassObject(
-                origin,
-                classes.getOrResolve(rawReferencedClassObject.getClassName()),
-                rawReferencedClassObject.getLineNumber(),
-                rawReferencedClassObject.isDeclaredInLambda()
-        );
-        processedReferencedClassObjects.put(origin, referencedClassObject);
-    }
-
-    private void processInstanceofCheck(RawInstanceofCheck rawInstanceofCheck) {
-        JavaCodeUnit origin = rawInstanceofCheck.getOrigin().resolveFrom(classes);
-        InstanceofCheck instanceofCheck = createInstanceofCheck(
-                origin,
-                classes.getOrResolve(rawInstanceofCheck.getTarget().getFullyQualifiedClassName()),
-                rawInstanceofCheck.getLineNumber(),
-                rawInstanceofCheck.isDeclaredInLambda()
-        );
-        processedInstanceofChecks.put(origin, instanceofCheck);
-    }
-
-    private void processTryCatchBlock(RawTryCatchBlock rawTryCatchBlock) {
-        JavaCodeUnit declaringCodeUnit = rawTryCatchBlock.getDeclaringCodeUnit().resolveFrom(classes);
-        TryCatchBlockBuilder tryCatchBlockBuilder = new TryCatchBlockBuilder()
-                .withCaughtThrowables(
-                        rawTryCatchBlock.getCaughtThrowables().stream()
-                                .map(it -> classes.getOrResolve(it.getFullyQualifiedClassName()))
-                                .collect(toImmutableSet())
-                )
-                .withLineNumber(rawTryCatchBlock.getLineNumber())
-                .withRawAccessesContainedInTryBlock(rawTryCatchBlock.getAccessesInTryBlock())
-                .withDeclaredInLambda(rawTryCatchBlock.isDeclaredInLambda());
-        processedTryCatchBlocks.put(declaringCodeUnit, tryCatchBlockBuilder);
+        importRecord.forEachRawFieldAccessRecord(processedCodeUnitDependencies::processFieldAccessRecord);
+        importRecord.forEachRawMethodCallRecord(processedCodeUnitDependencies::processMethodCallRecord);
+        importRecord.forEachRawConstructorCallRecord(processedCodeUnitDependencies::processConstructorCallRecord);
+        importRecord.forEachRawMethodReferenceRecord(processedCodeUnitDependencies::processMethodReferenceRecord);
+        importRecord.forEachRawConstructorReferenceRecord(processedCodeUnitDependencies::processConstructorReferenceRecord);
+        importRecord.forEachRawReferencedClassObject(processedCodeUnitDependencies::processReferencedClassObject);
+        importRecord.forEachRawInstanceofCheck(processedCodeUnitDependencies::processInstanceofCheck);
+        importRecord.forEachRawTryCatchBlock(processedCodeUnitDependencies::processTryCatchBlock);
+    }
+
+    /**
+     * Groups the raw code unit dependencies by the class declaring their origin once synthetic origins (like lambdas) have been resolved.
+     * All dependencies must be grouped at once, since accesses within try blocks must be resolved identically to the accesses themselves.
+     */
+    private Map<String, RawCodeUnitDependencies> groupRawCodeUnitDependenciesByOwner() {
+        Map<String, RawCodeUnitDependencies> result = new HashMap<>();
+        Function<HasRawCodeUnitOrigin, RawCodeUnitDependencies> dependenciesOfOwner = hasOrigin ->
+                result.computeIfAbsent(hasOrigin.getOrigin().getDeclaringClassName(), __ -> new RawCodeUnitDependencies());
+        importRecord.forEachRawFieldAccessRecord(record -> dependenciesOfOwner.apply(record).fieldAccessRecords.add(record));
+        importRecord.forEachRawMethodCallRecord(record -> dependenciesOfOwner.apply(record).methodCallRecords.add(record));
+        importRecord.forEachRawConstructorCallRecord(record -> dependenciesOfOwner.apply(record).constructorCallRecords.add(record));
+        importRecord.forEachRawMethodReferenceRecord(record -> dependenciesOfOwner.apply(record).methodReferenceRecords.add(record));
+        importRecord.forEachRawConstructorReferenceRecord(record -> dependenciesOfOwner.apply(record).constructorReferenceRecords.add(record));
+        importRecord.forEachRawReferencedClassObject(record -> dependenciesOfOwner.apply(record).referencedClassObjects.add(record));
+        importRecord.forEachRawInstanceofCheck(record -> dependenciesOfOwner.apply(record).instanceofChecks.add(record));
+        importRecord.forEachRawTryCatchBlock(record -> dependenciesOfOwner.apply(record).tryCatchBlocks.add(record));
+        return result;
+    }
+
+    private ProcessedCodeUnitDependencies processedCodeUnitDependenciesOf(JavaCodeUnit codeUnit) {
+        return processedCodeUnitDependenciesByOwner.getOrDefault(codeUnit.getOwner().getName(), processedCodeUnitDependencies);
     }
 
     @Override
     public Set<JavaFieldAccess> createFieldAccessesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
-        ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
-        for (FieldAccessRecord record : processedFieldAccessRecords.get(codeUnit)) {
-            JavaFieldAccess access = accessBuilderFrom(new JavaFieldAccessBuilder(), record)
-                    .withAccessType(record.getAccessType())
-                    .build();
-            result.add(access);
-            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, access);
-        }
-        return result.build();
+        return processedCodeUnitDependenciesOf(codeUnit).createFieldAccessesFor(codeUnit, tryCatchBlockBuilders);
     }
 
     @Override
     public Set<JavaMethodCall> createMethodCallsFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
-        ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
-        for (AccessRecord<MethodCallTarget> record : processedMethodCallRecords.get(codeUnit)) {
-            JavaMethodCall call = accessBuilderFrom(new JavaMethodCallBuilder(), record).build();
-            result.add(call);
-            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, call);
-        }
-        return result.build();
+        return processedCodeUnitDependenciesOf(codeUnit).createMethodCallsFor(codeUnit, tryCatchBlockBuilders);
     }
 
     @Override
     public Set<JavaConstructorCall> createConstructorCallsFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
-        ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-        for (AccessRecord<ConstructorCallTarget> record : processedConstructorCallRecords.get(codeUnit)) {
-            JavaConstructorCall call = accessBuilderFrom(new JavaConstructorCallBuilder(), record).build();
-            result.add(call);
-            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, call);
-        }
-        return result.build();
+        return processedCodeUnitDependenciesOf(codeUnit).createConstructorCallsFor(codeUnit, tryCatchBlockBuilders);
     }
 
     @Override
     public Set<JavaMethodReference> createMethodReferencesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
-        ImmutableSet.Builder<JavaMethodReference> result = ImmutableSet.builder();
-        for (AccessRecord<MethodReferenceTarget> record : processedMethodReferenceRecords.get(codeUnit)) {
-            JavaMethodReference methodReference = accessBuilderFrom(new JavaMethodReferenceBuilder(), record).build();
-            result.add(methodReference);
-            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, methodReference);
-        }
-        return result.build();
+        return processedCodeUnitDependenciesOf(codeUnit).createMethodReferencesFor(codeUnit, tryCatchBlockBuilders);
     }
 
     @Override
     public Set<JavaConstructorReference> createConstructorReferencesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
-        ImmutableSet.Builder<JavaConstructorReference> result = ImmutableSet.builder();
-        for (AccessRecord<ConstructorReferenceTarget> record : processedConstructorReferenceRecords.get(codeUnit)) {
-            JavaConstructorReference constructorReference = accessBuilderFrom(new JavaConstructorReferenceBuilder(), record).build();
-            result.add(constructorReference);
-            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, constructorReference);
-        }
-        return result.build();
-    }
-
-    private void handlePossibleTryBlockAccess(Set<TryCatchBlockBuilder> tryCatchBlockBuilders, AccessRecord<?> record, JavaAccess<?> access) {
-        tryCatchBlockBuilders.forEach(builder -> builder.addIfContainedInTryBlock(record.getRaw(), access));
-    }
-
-    private <T extends AccessTarget, B extends DomainBuilders.JavaAccessBuilder<T, B>>
-    B accessBuilderFrom(B builder, AccessRecord<T> record) {
-        return builder
-                .withOrigin(record.getOrigin())
-                .withTarget(record.getTarget())
-                .withLineNumber(record.getLineNumber())
-                .withDeclaredInLambda(record.isDeclaredInLambda());
+        return processedCodeUnitDependenciesOf(codeUnit).createConstructorReferencesFor(codeUnit, tryCatchBlockBuilders);
     }
 
     @Override
@@ -376,19 +397,34 @@ class ClassGraphCreator implements ImportContext {
         return enclosingClass.tryGetCodeUnitWithParameterTypeNames(codeUnit.getName(), codeUnit.getRawParameterTypeNames());
     }
 
+    @Override
+    public void completeCodeUnitDependenciesOf(JavaClass owner) {
+        if (classCompletion != LAZY) {
+            return;
+        }
+
+        if (unprocessedCodeUnitDependenciesByOwner == null) {
+            unprocessedCodeUnitDependenciesByOwner = groupRawCodeUnitDependenciesByOwner();
+        }
+        RawCodeUnitDependencies dependencies = unprocessedCodeUnitDependenciesByOwner.remove(owner.getName());
+        if (dependencies != null) {
+            dependencies.processInto(processedCodeUnitDependencies);
+        }
+    }
+
     @Override
     public Set<TryCatchBlockBuilder> createTryCatchBlockBuilders(JavaCodeUnit codeUnit) {
-        return processedTryCatchBlocks.get(codeUnit);
+        return processedCodeUnitDependenciesOf(codeUnit).getTryCatchBlockBuilders(codeUnit);
     }
 
     @Override
     public Set<ReferencedClassObject> createReferencedClassObjectsFor(JavaCodeUnit codeUnit) {
-        return ImmutableSet.copyOf(processedReferencedClassObjects.get(codeUnit));
+        return processedCodeUnitDependenciesOf(codeUnit).getReferencedClassObjectsFor(codeUnit);
     }
 
     @Override
     public Set<InstanceofCheck> createInstanceofChecksFor(JavaCodeUnit codeUnit) {
-        return ImmutableSet.copyOf(processedInstanceofChecks.get(codeUnit));
+        return processedCodeUnitDependenciesOf(codeUnit).getInstanceofChecksFor(codeUnit);
     }
 
     @Override
@@ -404,4 +440,26 @@ class ClassGraphCreator implements ImportContext {
         }
         return Optional.empty();
     }
+
+    private static class RawCodeUnitDependencies {
+        private final List<RawAccessRecord.ForField> fieldAccessRecords = new ArrayList<>();
+        private final List<RawAccessRecord> methodCallRecords = new ArrayList<>();
+        private final List<RawAccessRecord> constructorCallRecords = new ArrayList<>();
+        private final List<RawAccessRecord> methodReferenceRecords = new ArrayList<>();
+        private final List<RawAccessRecord> constructorReferenceRecords = new ArrayList<>();
+        private final List<RawReferencedClassObject> referencedClassObjects = new ArrayList<>();
+        private final List<RawInstanceofCheck> instanceofChecks = new ArrayList<>();
+        private final List<RawTryCatchBlock> tryCatchBlocks = new ArrayList<>();
+
+        void processInto(ProcessedCodeUnitDependencies processed) {
+            fieldAccessRecords.forEach(processed::processFieldAccessRecord);
+            methodCallRecords.forEach(processed::processMethodCallRecord);
+            constructorCallRecords.forEach(processed::processConstructorCallRecord);
+            methodReferenceRecords.forEach(processed::processMethodReferenceRecord);
+            constructorReferenceRecords.forEach(processed::processConstructorReferenceRecord);
+            referencedClassObjects.forEach(processed::processReferencedClassObject);
+            instanceofChecks.forEach(processed::processInstanceofCheck);
+            tryCatchBlocks.forEach(processed::processTryCatchBlock);
+        }
+    }
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparing;
+
+/**
+ * An index of all class files within the classpath (including the JDK), mapping the fully qualified class name
+ * to the {@link URI} of the respective class file. The index is created once per classpath and shared
+ * within the JVM, so looking up the class file of a type is a simple hash lookup instead of asking the
+ * {@link ClassLoader} to scan the whole classpath.
+ * <br><br>
+ * Optionally the entries of archives (JAR files and the JDK) can be persisted within an index file,
+ * so further JVMs only need to scan those locations that have changed in the meantime.
+ * The entries of directories are always scanned, since these are typically the ones that are changed frequently.
+ */
+@Internal
+public final class ClasspathIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private static final int MAGIC_NUMBER = 0x41554349;
+    private static final int FORMAT_VERSION = 1;
+    private static final String MODULE_INFO_CLASS_NAME = "module-info";
+    private static final String CLASS_PATH_PROPERTY_NAME = "java.class.path";
+    private static final String BOOT_CLASS_PATH_PROPERTY_NAME = "sun.boot.class.path";
+
+    // the classpath (compare Locations.inClassPath()) is derived from the context ClassLoader and the classpath properties,
+    // thus it only needs to be resolved once the index for such a combination is created
+    private static final Cache<ClassLoader, Cache<IndexKey, ClasspathIndex>> sharedIndexesByContextClassLoader =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    private final Map<String, URI> classFileUrisByClassName;
+
+    private ClasspathIndex(Map<String, URI> classFileUrisByClassName) {
+        this.classFileUrisByClassName = classFileUrisByClassName;
+    }
+
+    /**
+     * @param className The fully qualified name of a class, e.g. {@code java.lang.String}
+     * @return The {@link URI} of the class file of this class within the classpath, if any
+     */
+    public Optional<URI> findClassFile(String className) {
+        return Optional.ofNullable(classFileUrisByClassName.get(className));
+    }
+
+    /**
+     * @return The index of the current classpath (compare {@link Locations#inClassPath()}), created on first access
+     */
+    public static ClasspathIndex ofCurrentClasspath() {
+        return ofCurrentClasspath(Optional.empty());
+    }
+
+    /**
+     * @param indexFile A file to read the entries of archives from and write them to, so they do not need
+     *                  to be scanned again by another JVM
+     * @return The index of the current classpath (compare {@link Locations#inClassPath()}), created on first access
+     */
+    public static ClasspathIndex ofCurrentClasspath(Optional<Path> indexFile) {
+        ClassLoader contextClassLoader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(ClasspathIndex.class.getClassLoader());
+        IndexKey key = new IndexKey(System.getProperty(CLASS_PATH_PROPERTY_NAME, ""), System.getProperty(BOOT_CLASS_PATH_PROPERTY_NAME, ""), indexFile);
+        try {
+            return sharedIndexesByContextClassLoader.get(contextClassLoader, () -> CacheBuilder.newBuilder().softValues().<IndexKey, ClasspathIndex>build())
+                    .get(key, () -> create(sortedByLookupPriority(Locations.inClassPath()), indexFile));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    // A ClassLoader looks up the JDK classes first, before consulting the classpath
+    private static List<Location> sortedByLookupPriority(Iterable<Location> locations) {
+        String javaHome = Paths.get(System.getProperty("java.home")).toUri().toString().replaceAll(":/+", ":/");
+        return ImmutableList.sortedCopyOf(comparing(location -> !isJdkLocation(location, javaHome)), locations);
+    }
+
+    private static boolean isJdkLocation(Location location, String javaHomeUri) {
+        String uri = location.asURI().toString();
+        return "jrt".equals(location.asURI().getScheme()) || uri.replaceFirst("^jar:", "").startsWith(javaHomeUri);
+    }
+
+    private static ClasspathIndex create(List<Location> classpath, Optional<Path> indexFile) {
+        long start = System.nanoTime();
+        Map<String, IndexedArchive> persistedArchives = indexFile.map(ClasspathIndex::readArchives).orElse(new HashMap<>());
+        Map<String, IndexedArchive> archivesToPersist = new LinkedHashMap<>();
+        Map<String, URI> classFileUrisByClassName = new HashMap<>();
+        for (Location location : classpath) {
+            String rootUri = location.asURI().toString();
+            List<String> entries = location.isArchive()
+                    ? getArchiveEntries(location, persistedArchives, archivesToPersist)
+                    : readEntries(location);
+            for (String entry : entries) {
+                String className = DuplicateClassFiles.classNameOfEntry(entry);
+                if (isIndexed(className)) {
+                    classFileUrisByClassName.putIfAbsent(className, URI.create(rootUri + entry));
+                }
+            }
+        }
+        indexFile.ifPresent(file -> writeArchives(file, archivesToPersist));
+        LOG.debug("Indexed {} classes of {} locations in {} ms", classFileUrisByClassName.size(), classpath.size(), (System.nanoTime() - start) / 1_000_000);
+        return new ClasspathIndex(classFileUrisByClassName);
+    }
+
+    private static List<String> getArchiveEntries(Location location, Map<String, IndexedArchive> persistedArchives, Map<String, IndexedArchive> archivesToPersist) {
+        String rootUri = location.asURI().toString();
+        String fingerprint = LocationEntryCache.fingerprintOf(location);
+        IndexedArchive archive = persistedArchives.get(rootUri);
+        if (archive == null || !archive.fingerprint.equals(fingerprint)) {
+            archive = new IndexedArchive(fingerprint, readEntries(location));
+        }
+        archivesToPersist.put(rootUri, archive);
+        return archive.entries;
+    }
+
+    private static List<String> readEntries(Location location) {
+        String rootUri = location.asURI().toString();
+        try (ClassFileSource classFileSource = location.asClassFileSource(new ImportOptions())) {
+            List<String> result = new ArrayList<>();
+            for (ClassFileLocation classFileLocation : classFileSource) {
+                String classFileUri = Location.of(classFileLocation.getUri()).asURI().toString();
+                if (classFileUri.startsWith(rootUri)) {
+                    result.add(classFileUri.substring(rootUri.length()));
+                }
+            }
+            return result;
+        } catch (RuntimeException e) {
+            LOG.warn(String.format("Couldn't index class files of %s", location), e);
+            return ImmutableList.of();
+        }
+    }
+
+    // module descriptors and class files within META-INF (e.g. left over by shading) can never be the target of a dependency
+    private static boolean isIndexed(String className) {
+        return !className.equals(MODULE_INFO_CLASS_NAME) && !className.startsWith("META-INF.");
+    }
+
+    private static Map<String, IndexedArchive> readArchives(Path indexFile) {
+        Map<String, IndexedArchive> result = new HashMap<>();
+        if (!Files.isRegularFile(indexFile)) {
+            return result;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION) {
+                return result;
+            }
+            int numberOfArchives = in.readInt();
+            for (int i = 0; i < numberOfArchives; i++) {
+                String rootUri = in.readUTF();
+                String fingerprint = in.readUTF();
+                int numberOfEntries = in.readInt();
+                List<String> entries = new ArrayList<>(numberOfEntries);
+                for (int j = 0; j < numberOfEntries; j++) {
+                    entries.add(in.readUTF());
+                }
+                result.put(rootUri, new IndexedArchive(fingerprint, entries));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Ignoring unreadable classpath index {}", indexFile, e);
+            result.clear();
+        }
+        return result;
+    }
+
+    private static void writeArchives(Path indexFile, Map<String, IndexedArchive> archives) {
+        try {
+            Path directory = indexFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC_NUMBER);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(archives.size());
+                    for (Map.Entry<String, IndexedArchive> archive : archives.entrySet()) {
+                        out.writeUTF(archive.getKey());
+                        out.writeUTF(archive.getValue().fingerprint);
+                        out.writeInt(archive.getValue().entries.size());
+                        for (String entry : archive.getValue().entries) {
+                            out.writeUTF(entry);
+                        }
+                    }
+                }
+                moveAtomically(tempFile, indexFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            LOG.warn(String.format("Couldn't write classpath index %s", indexFile), e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private static class IndexKey {
+        private final String classPath;
+        private final String bootClassPath;
+        private final Optional<Path> indexFile;
+
+        IndexKey(String classPath, String bootClassPath, Optional<Path> indexFile) {
+            this.classPath = classPath;
+            this.bootClassPath = bootClassPath;
+            this.indexFile = indexFile.map(Path::toAbsolutePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classPath, bootClassPath, indexFile);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            IndexKey other = (IndexKey) obj;
+            return classPath.equals(other.classPath) && bootClassPath.equals(other.bootClassPath) && indexFile.equals(other.indexFile);
+        }
+    }
+
+    private static class IndexedArchive {
+        private final String fingerprint;
+        private final List<String> entries;
+
+        IndexedArchive(String fingerprint, List<String> entries) {
+            this.fingerprint = fingerprint;
+            this.entries = entries;
+        }
+    }
+}
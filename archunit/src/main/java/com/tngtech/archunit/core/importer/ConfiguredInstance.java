@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Holds a single instance created from settings of the {@link ArchConfiguration}, e.g. a cache bounded by a configured size,
+ * that should be shared by all imports. The settings are read from the {@link ArchConfiguration} in place on every access,
+ * i.e. they are also read from a thread local configuration (compare {@link ArchConfiguration#withThreadLocalScope(java.util.function.Consumer)}).
+ * As long as the settings do not change the same instance is returned, otherwise a new instance is created from the new settings
+ * and replaces the old one.
+ *
+ * @param <SETTINGS> The settings the instance is created from, must implement {@link Object#equals(Object)}
+ * @param <T> The type of the instance
+ */
+class ConfiguredInstance<SETTINGS, T> {
+    private final Supplier<SETTINGS> readSettings;
+    private final Function<SETTINGS, T> create;
+    private final AtomicReference<Current<SETTINGS, T>> current = new AtomicReference<>();
+
+    ConfiguredInstance(Supplier<SETTINGS> readSettings, Function<SETTINGS, T> create) {
+        this.readSettings = checkNotNull(readSettings);
+        this.create = checkNotNull(create);
+    }
+
+    T get() {
+        SETTINGS settings = readSettings.get();
+        Current<SETTINGS, T> result = current.get();
+        if (result == null || !result.settings.equals(settings)) {
+            Current<SETTINGS, T> created = new Current<>(settings, create.apply(settings));
+            result = current.accumulateAndGet(created, (old, updated) -> old != null && old.settings.equals(updated.settings) ? old : updated);
+        }
+        return result.instance;
+    }
+
+    private static class Current<SETTINGS, T> {
+        private final SETTINGS settings;
+        private final T instance;
+
+        Current(SETTINGS settings, T instance) {
+            this.settings = settings;
+            this.instance = instance;
+        }
+    }
+}
@@ -20,18 +20,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import com.tngtech.archunit.core.domain.JavaClass;
-
 interface DeclarationHandler {
     boolean isNew(String className);
 
     void onNewClass(String className, Optional<String> superclassName, List<String> interfaceNames);
 
-    void onDeclaredTypeParameters(DomainBuilders.JavaClassTypeParametersBuilder typeParametersBuilder);
-
-    void onGenericSuperclass(DomainBuilders.JavaParameterizedTypeBuilder<JavaClass> genericSuperclassBuilder);
-
-    void onGenericInterfaces(List<DomainBuilders.JavaParameterizedTypeBuilder<JavaClass>> genericInterfaceBuilders);
+    void onDeclaredClassSignature(JavaClassSignatureImporter.JavaClassSignature classSignature);
 
     void onDeclaredField(DomainBuilders.JavaFieldBuilder fieldBuilder, String fieldTypeName);
 
@@ -16,15 +16,16 @@
 package com.tngtech.archunit.core.importer;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.HAD_TO_BE_IMPORTED;
 import static java.lang.System.lineSeparator;
 
@@ -64,7 +65,8 @@ class DependencyResolutionProcess {
     private final int maxRunsForGenericSignatureTypes = getConfiguredIterations(
             MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_PROPERTY_NAME, MAX_ITERATIONS_FOR_GENERIC_SIGNATURE_TYPES_DEFAULT_VALUE);
 
-    private Set<String> currentTypeNames = new HashSet<>();
+    // type names might be registered concurrently while resolving the types of a run in parallel (compare ImportedClasses.resolveAhead(..))
+    private Set<String> currentTypeNames = ConcurrentHashMap.newKeySet();
     private int runNumber = 1;
     private boolean shouldContinue;
 
@@ -116,10 +118,19 @@ class DependencyResolutionProcess {
         }
     }
 
-    void resolve(ImportedClasses classes) {
+    /**
+     * Adds all type names registered within {@code other} to this process.
+     * Both processes must not have started to resolve any types yet.
+     */
+    void addAll(DependencyResolutionProcess other) {
+        checkState(runNumber == 1 && other.runNumber == 1, "Can only combine dependency resolution processes before the resolution has started");
+        currentTypeNames.addAll(other.currentTypeNames);
+    }
+
+    void resolve(ImportedClasses classes, ImportMetricsRecorder metrics) {
         logConfiguration();
         do {
-            executeRun(classes);
+            executeRun(classes, metrics);
         } while (shouldContinue);
     }
 
@@ -137,15 +148,21 @@ class DependencyResolutionProcess {
         return lineSeparator() + DEPENDENCY_RESOLUTION_PROCESS_PROPERTY_PREFIX + "." + propertyName + " = " + number;
     }
 
-    private void executeRun(ImportedClasses classes) {
+    private void executeRun(ImportedClasses classes, ImportMetricsRecorder metrics) {
         runNumber++;
         Set<String> typeNamesToResolve = this.currentTypeNames;
-        currentTypeNames = new HashSet<>();
+        currentTypeNames = ConcurrentHashMap.newKeySet();
         shouldContinue = false;
+        classes.resolveAhead(typeNamesToResolve);
+        int numberOfResolvedTypes = 0;
         for (String typeName : typeNamesToResolve) {
             ImportedClassState classState = classes.ensurePresent(typeName);
-            shouldContinue = shouldContinue || (classState == HAD_TO_BE_IMPORTED);
+            if (classState == HAD_TO_BE_IMPORTED) {
+                numberOfResolvedTypes++;
+                shouldContinue = true;
+            }
         }
+        metrics.recordResolutionRun(numberOfResolvedTypes);
     }
 
     private boolean runNumberHasNotExceeded(int maxRuns) {
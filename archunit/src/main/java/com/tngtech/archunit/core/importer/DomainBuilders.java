@@ -71,6 +71,7 @@ import com.tngtech.archunit.core.domain.SourceCodeLocation;
 import com.tngtech.archunit.core.domain.ThrowsClause;
 import com.tngtech.archunit.core.domain.TryCatchBlock;
 import com.tngtech.archunit.core.domain.properties.HasTypeParameters;
+import com.tngtech.archunit.core.importer.JavaCodeUnitSignatureImporter.JavaCodeUnitSignature;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -86,6 +87,7 @@ import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.creat
 import static com.tngtech.archunit.core.domain.Formatters.ensureCanonicalArrayTypeName;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static com.tngtech.archunit.core.domain.properties.HasName.Utils.namesOf;
+import static com.tngtech.archunit.core.importer.CanonicalStrings.canonicalize;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 
@@ -239,25 +241,26 @@ public final class DomainBuilders {
 
     @Internal
     public abstract static class JavaCodeUnitBuilder<OUTPUT, SELF extends JavaCodeUnitBuilder<OUTPUT, SELF>> extends JavaMemberBuilder<OUTPUT, SELF> {
-        private Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType;
+        private JavaCodeUnitSignature signature = JavaCodeUnitSignature.ABSENT;
         private JavaClassDescriptor rawReturnType;
-        private List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypes;
         private List<JavaClassDescriptor> rawParameterTypes;
         private SetMultimap<Integer, JavaAnnotationBuilder> parameterAnnotationsByIndex;
-        private JavaCodeUnitTypeParametersBuilder typeParametersBuilder;
         private List<JavaClassDescriptor> throwsDeclarations;
 
         private JavaCodeUnitBuilder() {
         }
 
-        SELF withReturnType(Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType, JavaClassDescriptor rawReturnType) {
-            this.genericReturnType = genericReturnType;
+        SELF withSignature(JavaCodeUnitSignature signature) {
+            this.signature = checkNotNull(signature);
+            return self();
+        }
+
+        SELF withReturnType(JavaClassDescriptor rawReturnType) {
             this.rawReturnType = rawReturnType;
             return self();
         }
 
-        SELF withParameterTypes(List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypes, List<JavaClassDescriptor> rawParameterTypes) {
-            this.genericParameterTypes = genericParameterTypes;
+        SELF withParameterTypes(List<JavaClassDescriptor> rawParameterTypes) {
             this.rawParameterTypes = rawParameterTypes;
             return self();
         }
@@ -267,11 +270,6 @@ public final class DomainBuilders {
             return self();
         }
 
-        SELF withTypeParameters(List<JavaTypeParameterBuilder<JavaCodeUnit>> typeParameterBuilders) {
-            this.typeParametersBuilder = new JavaCodeUnitTypeParametersBuilder(typeParameterBuilders);
-            return self();
-        }
-
         SELF withThrowsClause(List<JavaClassDescriptor> throwsDeclarations) {
             this.throwsDeclarations = throwsDeclarations;
             return self();
@@ -290,6 +288,7 @@ public final class DomainBuilders {
         }
 
         public JavaType getGenericReturnType(JavaCodeUnit codeUnit) {
+            Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType = signature.getReturnType();
             return genericReturnType.isPresent()
                     ? genericReturnType.get().finish(codeUnit, allTypeParametersInContextOf(codeUnit), importedClasses)
                     : getRawReturnType();
@@ -304,7 +303,7 @@ public final class DomainBuilders {
         }
 
         public List<JavaType> getGenericParameterTypes(JavaCodeUnit codeUnit) {
-            return build(genericParameterTypes, codeUnit);
+            return build(signature.getParameterTypes(), codeUnit);
         }
 
         private List<JavaType> build(List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypeBuilders, JavaCodeUnit codeUnit) {
@@ -316,7 +315,7 @@ public final class DomainBuilders {
         }
 
         public List<JavaTypeVariable<JavaCodeUnit>> getTypeParameters(JavaCodeUnit owner) {
-            return typeParametersBuilder.build(owner, importedClasses);
+            return new JavaCodeUnitTypeParametersBuilder(signature.getTypeParameterBuilders()).build(owner, importedClasses);
         }
 
         public <CODE_UNIT extends JavaCodeUnit> ThrowsClause<CODE_UNIT> getThrowsClause(CODE_UNIT codeUnit) {
@@ -468,7 +467,7 @@ public final class DomainBuilders {
         }
 
         public Optional<Source> getSource() {
-            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.isMd5InClassSourcesEnabled()));
+            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.getMd5sum(), value.getFingerprint()));
         }
 
         public JavaClassDescriptor getDescriptor() {
@@ -550,12 +549,23 @@ public final class DomainBuilders {
 
         public <T extends HasDescription> JavaAnnotation<T> build(T owner, ImportedClasses importedClasses) {
             this.importedClasses = importedClasses;
+            resolveValueTypes(importedClasses);
             return DomainObjectCreationContext.createJavaAnnotation(owner, this);
         }
 
+        // The values are only built once they are queried, but all classes must already be present by then
+        private void resolveValueTypes(ImportedClasses importedClasses) {
+            for (ValueBuilder valueBuilder : values.values()) {
+                valueBuilder.resolveTypes(importedClasses);
+            }
+        }
+
         abstract static class ValueBuilder {
             abstract <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses);
 
+            void resolveTypes(ImportedClasses importedClasses) {
+            }
+
             static ValueBuilder fromPrimitiveProperty(Object value) {
                 return new ValueBuilder() {
                     @Override
@@ -567,6 +577,11 @@ public final class DomainBuilders {
 
             public static ValueBuilder fromEnumProperty(JavaClassDescriptor enumType, String value) {
                 return new ValueBuilder() {
+                    @Override
+                    void resolveTypes(ImportedClasses importedClasses) {
+                        importedClasses.getOrResolve(enumType.getFullyQualifiedClassName());
+                    }
+
                     @Override
                     <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
                         return Optional.of(
@@ -580,6 +595,11 @@ public final class DomainBuilders {
 
             static ValueBuilder fromClassProperty(JavaClassDescriptor value) {
                 return new ValueBuilder() {
+                    @Override
+                    void resolveTypes(ImportedClasses importedClasses) {
+                        importedClasses.getOrResolve(value.getFullyQualifiedClassName());
+                    }
+
                     @Override
                     <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
                         return Optional.of(importedClasses.getOrResolve(value.getFullyQualifiedClassName()));
@@ -589,6 +609,12 @@ public final class DomainBuilders {
 
             static ValueBuilder fromAnnotationProperty(JavaAnnotationBuilder builder) {
                 return new ValueBuilder() {
+                    @Override
+                    void resolveTypes(ImportedClasses importedClasses) {
+                        importedClasses.getOrResolve(builder.getFullyQualifiedClassName());
+                        builder.resolveValueTypes(importedClasses);
+                    }
+
                     @Override
                     <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
                         return Optional.of(builder.build(owner, importedClasses));
@@ -601,8 +627,8 @@ public final class DomainBuilders {
     @Internal
     public static final class JavaStaticInitializerBuilder extends JavaCodeUnitBuilder<JavaStaticInitializer, JavaStaticInitializerBuilder> {
         JavaStaticInitializerBuilder() {
-            withReturnType(Optional.empty(), JavaClassDescriptor.From.name(void.class.getName()));
-            withParameterTypes(emptyList(), emptyList());
+            withReturnType(JavaClassDescriptor.From.name(void.class.getName()));
+            withParameterTypes(emptyList());
             withName(JavaStaticInitializer.STATIC_INITIALIZER_NAME);
             withDescriptor("()V");
             withModifiers(Collections.emptySet());
@@ -1141,7 +1167,7 @@ public final class DomainBuilders {
 
         @Override
         public String getFullName() {
-            return getOwner().getName() + "." + getName();
+            return canonicalize(getOwner().getName() + "." + getName());
         }
     }
 
@@ -1174,7 +1200,7 @@ public final class DomainBuilders {
         }
 
         public String getFullName() {
-            return Formatters.formatMethod(getOwner().getName(), getName(), namesOf(parameters));
+            return canonicalize(Formatters.formatMethod(getOwner().getName(), getName(), namesOf(parameters)));
         }
     }
 
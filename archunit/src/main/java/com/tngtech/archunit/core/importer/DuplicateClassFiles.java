@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Detects class files that are certainly duplicates of class files seen before, without opening them.
+ * This happens for overlapping {@link Location locations}, e.g. a package together with its parent package,
+ * or the same classes contained within multiple JAR files.
+ * <br><br>
+ * A class file is a duplicate, if either its {@link ClassFileLocation#getUri() URI} has been seen before,
+ * or if it resides within an archive (a JAR file or the JDK) and the class name derived from its entry name has been seen
+ * (or imported) before. Just like for the import itself, the first class file wins, i.e. the precedence is given by the
+ * order of the {@link Location locations} and the order of the class files within each {@link Location}.
+ * Class files within directories can only be identified by their URI, since the class name can't be derived from
+ * the path without knowing the root of the classpath.
+ */
+class DuplicateClassFiles {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final Pattern MULTI_RELEASE_VERSION_PREFIX = Pattern.compile("^META-INF/versions/\\d+/");
+
+    private final Set<String> uris = new HashSet<>();
+    private final Set<String> classNames = new HashSet<>();
+
+    /**
+     * @param location A class file about to be imported
+     * @param alreadyImported Tells if a class with the given fully qualified name has already been imported by other means
+     * @return {@code true}, if the class file is certainly a duplicate and thus does not need to be opened at all,
+     *         {@code false} otherwise, in which case the class file is remembered for further calls
+     */
+    boolean isDuplicate(ClassFileLocation location, Predicate<String> alreadyImported) {
+        String uri = normalize(location.getUri().toString());
+        Optional<String> className = classNameOf(uri);
+        if (uris.contains(uri) || (className.isPresent() && (classNames.contains(className.get()) || alreadyImported.test(className.get())))) {
+            return true;
+        }
+        uris.add(uri);
+        className.ifPresent(classNames::add);
+        return false;
+    }
+
+    // this is how Location normalizes URIs as well, see NormalizedUri
+    private static String normalize(String uri) {
+        return uri.replaceAll(":/+", ":/");
+    }
+
+    /**
+     * @param uri The URI of a class file, e.g. {@code jar:file:/some/lib.jar!/com/example/Foo.class} or {@code jrt:/java.base/java/lang/String.class}
+     * @return The fully qualified name of the class derived from the entry name, if the class file resides within an archive
+     */
+    static Optional<String> classNameOf(String uri) {
+        if (!uri.endsWith(CLASS_FILE_SUFFIX)) {
+            return Optional.empty();
+        }
+        return entryNameOf(uri).map(DuplicateClassFiles::classNameOfEntry);
+    }
+
+    /**
+     * @param entryName The name of a class file relative to the root of its {@link Location}, e.g. {@code META-INF/versions/11/com/example/Foo.class}
+     * @return The fully qualified name of the class, where class files of multi-release archives are mapped to their base name, e.g. {@code com.example.Foo}
+     */
+    static String classNameOfEntry(String entryName) {
+        String baseName = MULTI_RELEASE_VERSION_PREFIX.matcher(entryName).replaceFirst("");
+        return baseName.substring(0, baseName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+    }
+
+    private static Optional<String> entryNameOf(String uri) {
+        if (uri.startsWith("jar:")) {
+            return Optional.of(uri.substring(uri.lastIndexOf("!/") + 2));
+        }
+        if (uri.startsWith("jrt:/")) {
+            int moduleEndIndex = uri.indexOf('/', "jrt:/".length());
+            return moduleEndIndex >= 0 ? Optional.of(uri.substring(moduleEndIndex + 1)) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+}
@@ -29,14 +29,12 @@ import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERS
 import static com.tngtech.archunit.core.importer.DomainBuilders.JavaTypeCreationProcess.JavaTypeFinisher.ARRAY_CREATOR;
 
 class GenericMemberTypeProcessor<T extends HasDescription> extends SignatureVisitor {
-    private final DeclarationHandler declarationHandler;
     private JavaParameterizedTypeBuilder<T> parameterizedType;
     private JavaTypeCreationProcess<T> typeCreationProcess;
     private JavaTypeFinisher typeFinisher = JavaTypeFinisher.IDENTITY;
 
-    GenericMemberTypeProcessor(DeclarationHandler declarationHandler) {
+    GenericMemberTypeProcessor() {
         super(ASM_API_VERSION);
-        this.declarationHandler = declarationHandler;
     }
 
     Optional<JavaTypeCreationProcess<T>> getType() {
@@ -65,7 +63,7 @@ class GenericMemberTypeProcessor<T extends HasDescription> extends SignatureVisi
 
     @Override
     public SignatureVisitor visitTypeArgument(char wildcard) {
-        return SignatureTypeArgumentProcessor.create(wildcard, parameterizedType, JavaTypeFinisher.IDENTITY, declarationHandler);
+        return SignatureTypeArgumentProcessor.create(wildcard, parameterizedType, JavaTypeFinisher.IDENTITY);
     }
 
     @Override
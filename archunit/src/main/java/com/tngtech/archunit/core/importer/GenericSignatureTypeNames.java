@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.function.Consumer;
+
+/**
+ * Finds the names of all types referenced by a generic signature (as defined by JVMS 4.7.9.1) that need to be
+ * resolved in addition to the raw types, i.e. the types of type arguments and type parameter bounds.
+ * The top level types (e.g. the superclass or the parameter types of a method) are not reported,
+ * since these are already known from the descriptor.<br>
+ * This is a lot cheaper than parsing the signature into type builders, which only happens once the generic types are queried.
+ */
+class GenericSignatureTypeNames {
+    private final String signature;
+    private final Consumer<String> typeNameConsumer;
+    private int position = 0;
+
+    private GenericSignatureTypeNames(String signature, Consumer<String> typeNameConsumer) {
+        this.signature = signature;
+        this.typeNameConsumer = typeNameConsumer;
+    }
+
+    /**
+     * @param signature A class, method or field signature, may be {@code null} if there is no signature
+     * @param typeNameConsumer Will be called with the fully qualified name of each type to resolve
+     */
+    static void forEachIn(String signature, Consumer<String> typeNameConsumer) {
+        if (signature != null) {
+            new GenericSignatureTypeNames(signature, typeNameConsumer).scan();
+        }
+    }
+
+    // follows the structure of org.objectweb.asm.signature.SignatureReader
+    private void scan() {
+        if (current() == '<') {
+            scanFormalTypeParameters();
+        }
+        if (current() == '(') {
+            position++;
+            while (current() != ')') {
+                scanType(false);
+            }
+            position++;
+            scanType(false);
+            while (position < signature.length()) {
+                position++; // '^' of an exception type
+                scanType(false);
+            }
+        } else {
+            while (position < signature.length()) {
+                scanType(false);
+            }
+        }
+    }
+
+    private void scanFormalTypeParameters() {
+        position++;
+        char next;
+        do {
+            position = signature.indexOf(':', position) + 1;
+            if (startsReferenceType()) {
+                scanType(true);
+            }
+            while ((next = signature.charAt(position++)) == ':') {
+                scanType(true);
+            }
+        } while (next != '>');
+    }
+
+    private boolean startsReferenceType() {
+        char c = current();
+        return c == 'L' || c == '[' || c == 'T';
+    }
+
+    private void scanType(boolean report) {
+        char c = current();
+        if (c == 'L') {
+            scanClassType(report);
+        } else if (c == 'T') {
+            position = signature.indexOf(';', position) + 1;
+        } else if (c == '[') {
+            position++;
+            scanType(report);
+        } else {
+            // base type, which can only be reported as component type of an array type argument
+            position++;
+            if (report) {
+                report(String.valueOf(c));
+            }
+        }
+    }
+
+    private void scanClassType(boolean report) {
+        position++;
+        int start = position;
+        skipIdentifier();
+        if (report) {
+            report(signature.substring(start, position));
+        }
+        while (true) {
+            char c = current();
+            position++;
+            if (c == ';') {
+                return;
+            } else if (c == '<') {
+                scanTypeArguments();
+            } else if (c == '.') {
+                // inner class types are not resolved separately, only their type arguments
+                skipIdentifier();
+            }
+        }
+    }
+
+    private void scanTypeArguments() {
+        while (current() != '>') {
+            char c = current();
+            if (c == '*') {
+                position++;
+            } else {
+                if (c == '+' || c == '-') {
+                    position++;
+                }
+                scanType(true);
+            }
+        }
+        position++;
+    }
+
+    private void skipIdentifier() {
+        while (";<.".indexOf(current()) < 0) {
+            position++;
+        }
+    }
+
+    private char current() {
+        return signature.charAt(position);
+    }
+
+    private void report(String asmObjectTypeName) {
+        typeNameConsumer.accept(JavaClassDescriptorImporter.createFromAsmObjectTypeName(asmObjectTypeName).getFullyQualifiedClassName());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static org.objectweb.asm.ClassReader.SKIP_CODE;
+import static org.objectweb.asm.ClassReader.SKIP_FRAMES;
+
+/**
+ * Defines how detailed the {@link ClassFileImporter} analyzes the imported class files.
+ *
+ * @see ClassFileImporter#withImportDetail(ImportDetail)
+ */
+@PublicAPI(usage = ACCESS)
+public enum ImportDetail {
+    /**
+     * Imports the complete information of the class files, including all accesses and other dependencies
+     * from within the bodies of methods, constructors and static initializers.
+     */
+    @PublicAPI(usage = ACCESS)
+    FULL(0),
+    /**
+     * Imports only the structure of the class files, i.e. the declarations of classes and their members,
+     * including modifiers, annotations, supertypes and (generic) types of members.
+     * The bodies of methods, constructors and static initializers are not analyzed at all, thus the import is
+     * considerably faster and needs less memory. However, all information derived from these bodies will be missing,
+     * like accesses (e.g. {@link JavaClass#getAccessesFromSelf()}), referenced class objects, {@code instanceof} checks,
+     * try-catch blocks or the source code location of {@link JavaCodeUnit code units}.
+     * In particular, all dependencies originating from such accesses will be missing,
+     * so this should only be used if the rules to evaluate only check the structure of the classes.
+     */
+    @PublicAPI(usage = ACCESS)
+    STRUCTURE_ONLY(SKIP_CODE | SKIP_FRAMES);
+
+    private final int classReaderParsingOptions;
+
+    ImportDetail(int classReaderParsingOptions) {
+        this.classReaderParsingOptions = classReaderParsingOptions;
+    }
+
+    int getClassReaderParsingOptions() {
+        return classReaderParsingOptions;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Will be notified about every import of a {@link ClassFileImporter} it has been registered with
+ * (compare {@link ClassFileImporter#withImportListener(ImportListener)}).
+ * This can for example be used to track down which part of a slow import takes the most time.
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface ImportListener {
+    /**
+     * Called once the import has finished, i.e. right before the imported classes are returned.
+     * For {@link ClassFileImporter#importStreaming(java.util.Collection, java.util.function.Consumer) streaming imports}
+     * this is called once per batch.
+     *
+     * @param metrics The {@link ImportMetrics} of the finished import
+     */
+    void onImportFinished(ImportMetrics metrics);
+
+    /**
+     * Logs a summary of the {@link ImportMetrics} of every import on level {@code INFO}.
+     * <br><br>
+     * Instead of registering this listener explicitly, it can also be activated for all imports via
+     * <pre><code>import.logMetrics=true</code></pre>
+     * within your {@code archunit.properties}.
+     */
+    @PublicAPI(usage = ACCESS)
+    final class LogSummary implements ImportListener {
+        private static final Logger LOG = LoggerFactory.getLogger(ImportListener.class);
+
+        @Override
+        public void onImportFinished(ImportMetrics metrics) {
+            LOG.info("{}", metrics);
+        }
+    }
+}
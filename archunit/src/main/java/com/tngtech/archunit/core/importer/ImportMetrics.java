@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Metrics about a single import of the {@link ClassFileImporter}, e.g. how long each {@link Phase} of the import took
+ * or how many classes had to be resolved from the classpath.
+ *
+ * @see ImportListener
+ */
+@PublicAPI(usage = ACCESS)
+public final class ImportMetrics {
+    private final Duration totalDuration;
+    private final Map<Phase, Duration> durationsByPhase;
+    private final int numberOfImportedClasses;
+    private final long numberOfBytesRead;
+    private final int numberOfClassesResolvedFromClasspath;
+    private final int numberOfStubbedClasses;
+    private final List<Integer> numberOfTypesResolvedPerRun;
+
+    ImportMetrics(
+            Duration totalDuration,
+            Map<Phase, Duration> durationsByPhase,
+            int numberOfImportedClasses,
+            long numberOfBytesRead,
+            int numberOfClassesResolvedFromClasspath,
+            int numberOfStubbedClasses,
+            List<Integer> numberOfTypesResolvedPerRun) {
+
+        this.totalDuration = totalDuration;
+        this.durationsByPhase = ImmutableMap.copyOf(durationsByPhase);
+        this.numberOfImportedClasses = numberOfImportedClasses;
+        this.numberOfBytesRead = numberOfBytesRead;
+        this.numberOfClassesResolvedFromClasspath = numberOfClassesResolvedFromClasspath;
+        this.numberOfStubbedClasses = numberOfStubbedClasses;
+        this.numberOfTypesResolvedPerRun = ImmutableList.copyOf(numberOfTypesResolvedPerRun);
+    }
+
+    /**
+     * @return The wall time of the whole import
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @param phase A {@link Phase} of the import
+     * @return The wall time spent within this {@link Phase}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Duration getDuration(Phase phase) {
+        return durationsByPhase.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * @return The number of classes imported from the given locations,
+     * i.e. not counting any classes that have been resolved as dependencies of these classes
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfImportedClasses() {
+        return numberOfImportedClasses;
+    }
+
+    /**
+     * @return The number of bytes of all class files that have been read,
+     * including the class files of classes resolved from the classpath
+     */
+    @PublicAPI(usage = ACCESS)
+    public long getNumberOfBytesRead() {
+        return numberOfBytesRead;
+    }
+
+    /**
+     * @return The number of classes missing from the import that have been resolved by the configured {@link ClassResolver}
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfClassesResolvedFromClasspath() {
+        return numberOfClassesResolvedFromClasspath;
+    }
+
+    /**
+     * @return The number of classes missing from the import that could not be resolved by the configured {@link ClassResolver}
+     * (or were not supposed to be resolved) and have thus been created as stubs
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getNumberOfStubbedClasses() {
+        return numberOfStubbedClasses;
+    }
+
+    /**
+     * @return For each run of the automatic resolution of missing dependencies (in order)
+     * the number of types that had to be resolved within this run
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<Integer> getNumberOfTypesResolvedPerRun() {
+        return numberOfTypesResolvedPerRun;
+    }
+
+    /**
+     * @return A summary of these metrics, e.g.
+     * <pre><code>
+     * Imported 920 classes in 1520 ms (3 MB read, 412 classes resolved from classpath, 35 stubbed, resolution runs [380, 67]):
+     * scanning locations 120 ms, parsing class files 610 ms, ...
+     * </code></pre>
+     */
+    @Override
+    public String toString() {
+        return String.format("Imported %d classes in %d ms (%d MB read, %d classes resolved from classpath, %d stubbed, resolution runs %s): %s",
+                numberOfImportedClasses, totalDuration.toMillis(), numberOfBytesRead / (1024 * 1024),
+                numberOfClassesResolvedFromClasspath, numberOfStubbedClasses, numberOfTypesResolvedPerRun,
+                stream(Phase.values())
+                        .map(phase -> phase.description + " " + getDuration(phase).toMillis() + " ms")
+                        .collect(joining(", ")));
+    }
+
+    /**
+     * The phases of an import, in the order they are executed.
+     * Note that scanning the locations and parsing the class files is interleaved for a sequential import,
+     * in this case the time spent within each of the two phases is reported.
+     */
+    @PublicAPI(usage = ACCESS)
+    public enum Phase {
+        /**
+         * Finding the class files within the imported {@link Location locations}
+         */
+        @PublicAPI(usage = ACCESS)
+        SCAN_LOCATIONS("scanning locations"),
+        /**
+         * Reading and parsing the class files found within the imported {@link Location locations}
+         */
+        @PublicAPI(usage = ACCESS)
+        PARSE_CLASS_FILES("parsing class files"),
+        /**
+         * Automatically resolving missing dependencies of the imported classes (compare {@link ClassResolver})
+         */
+        @PublicAPI(usage = ACCESS)
+        RESOLVE_DEPENDENCIES("resolving dependencies"),
+        /**
+         * Completing the imported {@link JavaClass classes}, e.g. their hierarchy, members, annotations and accesses
+         */
+        @PublicAPI(usage = ACCESS)
+        COMPLETE_CLASSES("completing classes"),
+        /**
+         * Creating the dependencies between all classes, including the reverse dependencies
+         * (e.g. {@link JavaClass#getDirectDependenciesToSelf()})
+         */
+        @PublicAPI(usage = ACCESS)
+        CREATE_DEPENDENCIES("creating dependencies");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.core.importer.ImportMetrics.Phase;
+
+/**
+ * Records the {@link ImportMetrics} of a single import. Class files might be read concurrently,
+ * so all methods can be called from multiple threads.
+ */
+class ImportMetricsRecorder {
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray nanosByPhase = new AtomicLongArray(Phase.values().length);
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder classesResolvedFromClasspath = new LongAdder();
+    private final LongAdder stubbedClasses = new LongAdder();
+    private final List<Integer> typesResolvedPerRun = new ArrayList<>();
+
+    void recordDuration(Phase phase, long nanos) {
+        nanosByPhase.addAndGet(phase.ordinal(), nanos);
+    }
+
+    long getNanos(Phase phase) {
+        return nanosByPhase.get(phase.ordinal());
+    }
+
+    void time(Phase phase, Runnable runnable) {
+        time(phase, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    <T> T time(Phase phase, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordDuration(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return An {@link Iterable} that records the time spent to iterate over {@code iterable} as {@link Phase phase},
+     * e.g. to separate scanning the locations from parsing the class files, if both are interleaved
+     */
+    <T> Iterable<T> timeIteration(Phase phase, Iterable<T> iterable) {
+        return () -> {
+            Iterator<T> delegate = time(phase, iterable::iterator);
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return time(phase, delegate::hasNext);
+                }
+
+                @Override
+                public T next() {
+                    return time(phase, delegate::next);
+                }
+            };
+        };
+    }
+
+    void recordBytesRead(long numberOfBytes) {
+        bytesRead.add(numberOfBytes);
+    }
+
+    void recordResolvedFromClasspath() {
+        classesResolvedFromClasspath.increment();
+    }
+
+    void recordStubbed() {
+        stubbedClasses.increment();
+    }
+
+    synchronized void recordResolutionRun(int numberOfResolvedTypes) {
+        typesResolvedPerRun.add(numberOfResolvedTypes);
+    }
+
+    synchronized ImportMetrics finish(int numberOfImportedClasses) {
+        Map<Phase, Duration> durationsByPhase = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            durationsByPhase.put(phase, Duration.ofNanos(getNanos(phase)));
+        }
+        return new ImportMetrics(
+                Duration.ofNanos(System.nanoTime() - startNanos),
+                durationsByPhase,
+                numberOfImportedClasses,
+                bytesRead.sum(),
+                classesResolvedFromClasspath.intValue(),
+                stubbedClasses.intValue(),
+                typesResolvedPerRun);
+    }
+}
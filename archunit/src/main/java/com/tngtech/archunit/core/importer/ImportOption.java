@@ -15,14 +15,23 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Suppliers;
+import com.tngtech.archunit.core.domain.PackageMatchers;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 import static com.tngtech.archunit.core.importer.ImportOption.Predefined.NO_TEST_LOCATION;
 import static com.tngtech.archunit.core.importer.ImportOption.Predefined.TEST_LOCATION;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Will be evaluated for every class location, to determine if the class should be imported.<br><br>
@@ -33,12 +42,28 @@ import static com.tngtech.archunit.core.importer.ImportOption.Predefined.TEST_LO
  * In other words, if you for example create a custom implementation of {@link ImportOption},
  * where you look at some test specific file, if a certain class should be imported, this will
  * cause wrong caching (i.e. the second run will assume, the classes are already cached, because it can't
- * be determined that the {@link ImportOption} would choose different classes to be selected for this run)
+ * be determined that the {@link ImportOption} would choose different classes to be selected for this run)<br><br>
+ * For parallel imports (compare {@link ClassFileImporter#withParallelism(int)}) {@link #includes(Location)} and
+ * {@link #mayIncludeLocationsBeneath(Location)} may be called by multiple threads concurrently, thus any implementation
+ * must then be thread-safe.
  */
 @PublicAPI(usage = INHERITANCE)
 public interface ImportOption {
     boolean includes(Location location);
 
+    /**
+     * Allows to skip whole directories when scanning the file system for class files to import.
+     * Implementations should only return {@code false}, if {@link #includes(Location)} is {@code false}
+     * for every location beneath the given directory.<br>
+     * By default, any location beneath any directory might be included.
+     *
+     * @param directory The {@link Location} of a directory on the file system (its {@link Location#asURI() URI} ends with '/')
+     * @return {@code false}, if this option does not include any location beneath the given directory, {@code true} otherwise
+     */
+    default boolean mayIncludeLocationsBeneath(Location directory) {
+        return true;
+    }
+
     enum Predefined implements ImportOption {
         DO_NOT_INCLUDE_TESTS {
             private final DoNotIncludeTests doNotIncludeTests = new DoNotIncludeTests();
@@ -47,6 +72,11 @@ public interface ImportOption {
             public boolean includes(Location location) {
                 return doNotIncludeTests.includes(location);
             }
+
+            @Override
+            public boolean mayIncludeLocationsBeneath(Location directory) {
+                return doNotIncludeTests.mayIncludeLocationsBeneath(directory);
+            }
         },
         ONLY_INCLUDE_TESTS {
             private final OnlyIncludeTests onlyIncludeTests = new OnlyIncludeTests();
@@ -66,6 +96,11 @@ public interface ImportOption {
             public boolean includes(Location location) {
                 return doNotIncludeGradleTestFixtures.includes(location);
             }
+
+            @Override
+            public boolean mayIncludeLocationsBeneath(Location directory) {
+                return doNotIncludeGradleTestFixtures.mayIncludeLocationsBeneath(directory);
+            }
         },
         DO_NOT_INCLUDE_JARS {
             private final DoNotIncludeJars doNotIncludeJars = new DoNotIncludeJars();
@@ -130,6 +165,14 @@ public interface ImportOption {
         public boolean includes(Location location) {
             return NO_TEST_LOCATION.test(location);
         }
+
+        /**
+         * All test location patterns end with an arbitrary suffix, thus if a directory matches, so does every location beneath it
+         */
+        @Override
+        public boolean mayIncludeLocationsBeneath(Location directory) {
+            return includes(directory);
+        }
     }
 
     /**
@@ -158,6 +201,11 @@ public interface ImportOption {
         public boolean includes(Location location) {
             return !location.matches(TEST_FIXTURES_FILE_PATH_PATTERN) && !location.matches(TEST_FIXTURES_JAR_PATH_PATTERN);
         }
+
+        @Override
+        public boolean mayIncludeLocationsBeneath(Location directory) {
+            return !directory.matches(TEST_FIXTURES_FILE_PATH_PATTERN);
+        }
     }
 
     final class DoNotIncludeJars implements ImportOption {
@@ -185,4 +233,117 @@ public interface ImportOption {
             return !location.matches(PACKAGE_INFO_PATTERN);
         }
     }
+
+    /**
+     * Only includes class files residing within the given packages, so all other class files are skipped before
+     * they are even read. This keeps importing broad {@link Location locations} (e.g. the whole classpath) cheap,
+     * if only a few packages are of interest. Classes from other packages referenced by the included classes are
+     * still resolved as configured (compare {@link com.tngtech.archunit.core.importer.resolvers.ClassResolver ClassResolver}).
+     * E.g.
+     * <pre><code>
+     * new ClassFileImporter()
+     *     .withImportOption(new OnlyIncludePackages("com.mycompany.."))
+     *     .importLocations(Locations.inClassPath())
+     * </code></pre>
+     * The package of a class file within an archive (e.g. a JAR file) is determined by its entry name.
+     * The package of a class file within a directory is determined relative to the directory of the {@link Locations#inClassPath() classpath}
+     * containing it or, if the class file is not on the classpath, relative to the directory being imported.
+     * Class files within directories, where neither is known (i.e. if this option is evaluated on its own outside an import
+     * of a directory), are included, since their package cannot be determined.
+     * Locations that are no class files (e.g. directories) are always included.
+     */
+    final class OnlyIncludePackages implements ImportOption {
+        private static final Pattern MULTI_RELEASE_VERSION_PREFIX = Pattern.compile("^META-INF/versions/\\d+/");
+
+        private final PackageMatchers packageMatchers;
+        private final Supplier<Set<String>> classpathDirectories = Suppliers.memoize(OnlyIncludePackages::findClasspathDirectories);
+
+        /**
+         * @param packageIdentifiers Package identifiers as accepted by {@link PackageMatchers}, e.g. {@code com.mycompany..}
+         */
+        public OnlyIncludePackages(String... packageIdentifiers) {
+            checkArgument(packageIdentifiers.length > 0, "At least one package identifier must be given");
+            this.packageMatchers = PackageMatchers.of(packageIdentifiers);
+        }
+
+        @Override
+        public boolean includes(Location location) {
+            return includes(location, Optional.empty());
+        }
+
+        boolean includes(Location location, Optional<URI> importedDirectory) {
+            String uri = location.asURI().toString();
+            return !uri.endsWith(".class") || includesClassFilesWithin(uri.substring(0, uri.lastIndexOf('/') + 1), importedDirectory);
+        }
+
+        /**
+         * @param containerUri The URI of the directory (or directory within an archive) containing class files, ending with '/'
+         * @param importedDirectory The directory being imported, if the class files have been found by walking a directory
+         */
+        boolean includesClassFilesWithin(String containerUri, Optional<URI> importedDirectory) {
+            int archiveEntryStartIndex = archiveEntryStartIndexOf(containerUri);
+            if (archiveEntryStartIndex >= 0) {
+                String entryDirectory = MULTI_RELEASE_VERSION_PREFIX.matcher(containerUri.substring(archiveEntryStartIndex)).replaceFirst("");
+                return packageMatchers.test(toPackageName(entryDirectory));
+            }
+
+            Optional<String> containerPath = filePathOf(URI.create(containerUri));
+            if (!containerPath.isPresent()) {
+                return true;
+            }
+            Optional<String> packageRoot = packageRootOf(containerPath.get(), importedDirectory.flatMap(OnlyIncludePackages::filePathOf));
+            return !packageRoot.isPresent() || packageMatchers.test(toPackageName(containerPath.get().substring(packageRoot.get().length())));
+        }
+
+        private Optional<String> packageRootOf(String containerPath, Optional<String> importedDirectoryPath) {
+            // for nested classpath directories the innermost one is the most specific root
+            Optional<String> classpathDirectory = classpathDirectories.get().stream()
+                    .filter(containerPath::startsWith)
+                    .max(comparingInt(String::length));
+            return classpathDirectory.isPresent()
+                    ? classpathDirectory
+                    : importedDirectoryPath.filter(containerPath::startsWith);
+        }
+
+        private static Set<String> findClasspathDirectories() {
+            return Locations.inClassPath().stream()
+                    .map(location -> filePathOf(location.asURI()))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(toSet());
+        }
+
+        /**
+         * @return The decoded path of a directory on the local file system ending with '/', since URIs of the same
+         *         directory may differ in their form (e.g. {@code file:/some/dir/} and {@code file:///some/dir/})
+         */
+        private static Optional<String> filePathOf(URI uri) {
+            if (!"file".equals(uri.getScheme()) || uri.getPath() == null) {
+                return Optional.empty();
+            }
+            String path = uri.getPath();
+            return Optional.of(path.endsWith("/") ? path : path + "/");
+        }
+
+        private static int archiveEntryStartIndexOf(String uri) {
+            if (uri.startsWith("jar:")) {
+                return uri.lastIndexOf("!/") + 2;
+            }
+            if (uri.startsWith("jrt:/")) {
+                int moduleEndIndex = uri.indexOf('/', "jrt:/".length());
+                return moduleEndIndex >= 0 ? moduleEndIndex + 1 : uri.length();
+            }
+            return -1;
+        }
+
+        private static String toPackageName(String directory) {
+            String withoutTrailingSlash = directory.endsWith("/") ? directory.substring(0, directory.length() - 1) : directory;
+            return withoutTrailingSlash.replace('/', '.');
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{" + packageMatchers.getDescription() + "}";
+        }
+    }
 }
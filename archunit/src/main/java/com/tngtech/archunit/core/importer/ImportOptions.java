@@ -15,24 +15,45 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.net.URI;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeArchives;
+import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeGradleTestFixtures;
+import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeJars;
+import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludePackageInfos;
+import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeTests;
+import com.tngtech.archunit.core.importer.ImportOption.OnlyIncludePackages;
+import com.tngtech.archunit.core.importer.ImportOption.OnlyIncludeTests;
+import com.tngtech.archunit.core.importer.ImportOption.Predefined;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.core.importer.ImportOption.Predefined.DO_NOT_INCLUDE_PACKAGE_INFOS;
 import static java.util.Collections.emptySet;
 
 final class ImportOptions {
     private final Set<ImportOption> options;
+    private final Optional<CompiledImportOptions> compiled;
+    private final boolean concurrentEvaluationAllowed;
 
     ImportOptions() {
         this(emptySet());
     }
 
     private ImportOptions(Set<ImportOption> options) {
+        this(options, Optional.empty(), false);
+    }
+
+    private ImportOptions(Set<ImportOption> options, Optional<CompiledImportOptions> compiled, boolean concurrentEvaluationAllowed) {
         this.options = checkNotNull(options);
+        this.compiled = checkNotNull(compiled);
+        this.concurrentEvaluationAllowed = concurrentEvaluationAllowed;
     }
 
     ImportOptions with(ImportOption option) {
@@ -43,7 +64,130 @@ final class ImportOptions {
         return new ImportOptions(Sets.union(this.options, ImmutableSet.copyOf(options)));
     }
 
+    /**
+     * @return {@link ImportOptions} including the same locations, but evaluating all options that only depend on the
+     * container of a class file (i.e. the directory or the JAR file) once per container instead of once per class file.
+     * The decisions are cached within the returned instance, so it should only be used for one import.
+     */
+    ImportOptions compile() {
+        return compile(false);
+    }
+
+    /**
+     * @param concurrentEvaluationAllowed Whether the {@link ImportOption ImportOptions} may be evaluated by multiple threads concurrently,
+     *                                    which is only the case for parallel imports (compare {@link ClassFileImporter#withParallelism(int)})
+     * @return Same as {@link #compile()}
+     */
+    ImportOptions compile(boolean concurrentEvaluationAllowed) {
+        return new ImportOptions(options, Optional.of(new CompiledImportOptions(options)), concurrentEvaluationAllowed);
+    }
+
+    boolean isConcurrentEvaluationAllowed() {
+        return concurrentEvaluationAllowed;
+    }
+
     boolean include(Location location) {
         return options.stream().allMatch(option -> option.includes(location));
     }
+
+    boolean include(URI uri) {
+        return include(uri, Optional.empty());
+    }
+
+    /**
+     * @param importedDirectory The directory being walked to find the class file, which is needed to determine the package of the class file,
+     *                          if it is not on the classpath (compare {@link OnlyIncludePackages})
+     */
+    boolean include(URI uri, Optional<URI> importedDirectory) {
+        if (compiled.isPresent()) {
+            return compiled.get().include(uri, importedDirectory);
+        }
+        Location location = Location.of(uri);
+        return options.stream().allMatch(option -> option instanceof OnlyIncludePackages
+                ? ((OnlyIncludePackages) option).includes(location, importedDirectory)
+                : option.includes(location));
+    }
+
+    boolean mayIncludeLocationsBeneath(Location directory) {
+        return options.stream().allMatch(option -> option.mayIncludeLocationsBeneath(directory));
+    }
+
+    private static class CompiledImportOptions {
+        private static final Set<Class<?>> CONTAINER_BASED_OPTION_TYPES = ImmutableSet.of(
+                DoNotIncludeTests.class,
+                OnlyIncludeTests.class,
+                DoNotIncludeGradleTestFixtures.class,
+                DoNotIncludeJars.class,
+                DoNotIncludeArchives.class);
+        private static final String PACKAGE_INFO_FILE_NAME = "package-info.class";
+
+        private final Set<ImportOption> containerBasedOptions;
+        private final Set<OnlyIncludePackages> packageFilters;
+        private final boolean excludePackageInfos;
+        private final Set<ImportOption> otherOptions;
+        // the decision for a directory may depend on the directory being imported, if the directory is not on the classpath
+        private final Map<Optional<URI>, Map<String, Boolean>> includedContainersByImportedDirectory = new ConcurrentHashMap<>();
+
+        CompiledImportOptions(Set<ImportOption> options) {
+            ImmutableSet.Builder<ImportOption> containerBasedOptions = ImmutableSet.builder();
+            ImmutableSet.Builder<OnlyIncludePackages> packageFilters = ImmutableSet.builder();
+            ImmutableSet.Builder<ImportOption> otherOptions = ImmutableSet.builder();
+            boolean excludePackageInfos = false;
+            for (ImportOption option : options) {
+                if (isPackageInfoOption(option)) {
+                    excludePackageInfos = true;
+                } else if (option instanceof OnlyIncludePackages) {
+                    packageFilters.add((OnlyIncludePackages) option);
+                } else if (isContainerBased(option)) {
+                    containerBasedOptions.add(option);
+                } else {
+                    otherOptions.add(option);
+                }
+            }
+            this.containerBasedOptions = containerBasedOptions.build();
+            this.packageFilters = packageFilters.build();
+            this.excludePackageInfos = excludePackageInfos;
+            this.otherOptions = otherOptions.build();
+        }
+
+        private static boolean isPackageInfoOption(ImportOption option) {
+            return option == DO_NOT_INCLUDE_PACKAGE_INFOS || option instanceof DoNotIncludePackageInfos;
+        }
+
+        // All predefined path patterns end with '/.*' or '!.*' and never look at the file name
+        private static boolean isContainerBased(ImportOption option) {
+            return option instanceof Predefined || CONTAINER_BASED_OPTION_TYPES.contains(option.getClass());
+        }
+
+        boolean include(URI uri, Optional<URI> importedDirectory) {
+            String uriString = uri.toString();
+            if (excludePackageInfos && uriString.endsWith(PACKAGE_INFO_FILE_NAME)) {
+                return false;
+            }
+            if ((!containerBasedOptions.isEmpty() || !packageFilters.isEmpty()) && !includeContainerOf(uriString, importedDirectory)) {
+                return false;
+            }
+            if (otherOptions.isEmpty()) {
+                return true;
+            }
+            Location location = Location.of(uri);
+            return otherOptions.stream().allMatch(option -> option.includes(location));
+        }
+
+        private boolean includeContainerOf(String uriString, Optional<URI> importedDirectory) {
+            return includedContainersByImportedDirectory.computeIfAbsent(importedDirectory, __ -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(uriString.substring(0, uriString.lastIndexOf('/') + 1), container -> includeContainer(container, importedDirectory));
+        }
+
+        private boolean includeContainer(String container, Optional<URI> importedDirectory) {
+            if (!packageFilters.stream().allMatch(filter -> filter.includesClassFilesWithin(container, importedDirectory))) {
+                return false;
+            }
+            if (containerBasedOptions.isEmpty()) {
+                return true;
+            }
+            Location location = Location.of(URI.create(container));
+            return containerBasedOptions.stream().allMatch(option -> option.includes(location));
+        }
+    }
 }
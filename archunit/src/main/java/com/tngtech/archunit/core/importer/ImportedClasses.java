@@ -17,9 +17,12 @@ package com.tngtech.archunit.core.importer;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -39,7 +42,12 @@ import static com.tngtech.archunit.core.domain.JavaModifier.PROTECTED;
 import static com.tngtech.archunit.core.domain.JavaModifier.PUBLIC;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.HAD_TO_BE_IMPORTED;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.WAS_ALREADY_PRESENT;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * Holds all classes of an import, resolving missing classes on demand. Looking up classes via {@link #getOrResolve(String)}
+ * is thread-safe, missing classes are resolved one at a time.
+ */
 class ImportedClasses {
     private static final ImmutableSet<JavaModifier> PRIMITIVE_TYPE_MODIFIERS =
             immutableEnumSet(PUBLIC, ABSTRACT, FINAL);
@@ -47,15 +55,27 @@ class ImportedClasses {
             immutableEnumSet(PUBLIC, PROTECTED, PRIVATE);
 
     private final ImmutableMap<String, JavaClass> directlyImported;
-    private final Map<String, JavaClass> allClasses = new HashMap<>();
+    private final Map<String, JavaClass> allClasses = new ConcurrentHashMap<>();
+    private final Map<String, Optional<JavaClass>> resolvedAhead = new HashMap<>();
     private final ClassResolver resolver;
+    private final BatchResolver batchResolver;
     private final MethodReturnTypeGetter getMethodReturnType;
+    private final ImportMetricsRecorder metrics;
+    private Consumer<JavaClass> onClassCreated = javaClass -> {};
+
+    ImportedClasses(
+            Map<String, JavaClass> directlyImported,
+            ClassResolver resolver,
+            BatchResolver batchResolver,
+            MethodReturnTypeGetter methodReturnTypeGetter,
+            ImportMetricsRecorder metrics) {
 
-    ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, MethodReturnTypeGetter methodReturnTypeGetter) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
         allClasses.putAll(directlyImported);
         this.resolver = resolver;
+        this.batchResolver = batchResolver;
         this.getMethodReturnType = methodReturnTypeGetter;
+        this.metrics = metrics;
     }
 
     Map<String, JavaClass> getDirectlyImported() {
@@ -76,16 +96,51 @@ class ImportedClasses {
         return HAD_TO_BE_IMPORTED;
     }
 
-    private JavaClass resolve(String typeName) {
-        Optional<JavaClass> resolved = resolver.tryResolve(typeName);
+    /**
+     * Hands all given types that are not present yet to the {@link BatchResolver} at once.
+     * Subsequent calls of {@link #ensurePresent(String)} or {@link #getOrResolve(String)} will then
+     * use these results instead of asking the {@link ClassResolver} for each type one by one.
+     */
+    void resolveAhead(Collection<String> typeNames) {
+        List<String> missingTypeNames = typeNames.stream()
+                .filter(typeName -> !allClasses.containsKey(typeName) && !resolvedAhead.containsKey(typeName))
+                .collect(toList());
+        if (!missingTypeNames.isEmpty()) {
+            resolvedAhead.putAll(batchResolver.tryResolveAll(missingTypeNames));
+        }
+    }
+
+    private synchronized JavaClass resolve(String typeName) {
+        JavaClass present = allClasses.get(typeName);
+        if (present != null) {
+            // resolved concurrently by another thread in the meantime
+            return present;
+        }
+
+        Optional<JavaClass> resolved = resolvedAhead.containsKey(typeName)
+                ? resolvedAhead.remove(typeName)
+                : resolver.tryResolve(typeName);
+        if (resolved.isPresent()) {
+            metrics.recordResolvedFromClasspath();
+        } else {
+            metrics.recordStubbed();
+        }
         JavaClass javaClass = resolved.isPresent() ? resolved.get() : stubClassOf(typeName);
         if (javaClass.isArray()) {
             ensureAllComponentTypesPresent(javaClass);
         }
         allClasses.put(typeName, javaClass);
+        onClassCreated.accept(javaClass);
         return javaClass;
     }
 
+    /**
+     * @param onClassCreated Will be called for every class that is resolved or stubbed from now on
+     */
+    void onClassCreated(Consumer<JavaClass> onClassCreated) {
+        this.onClassCreated = onClassCreated;
+    }
+
     private void ensureAllComponentTypesPresent(JavaClass javaClass) {
         JavaClassDescriptor current = JavaClassDescriptor.From.javaClass(javaClass);
         while (current.tryGetComponentType().isPresent()) {
@@ -133,6 +188,16 @@ class ImportedClasses {
         return getMethodReturnType.getReturnType(declaringClassName, methodName);
     }
 
+    interface BatchResolver {
+        BatchResolver NONE = typeNames -> ImmutableMap.of();
+
+        /**
+         * @param typeNames The names of the types to resolve
+         * @return The result of {@link ClassResolver#tryResolve(String)} for (possibly a subset of) the given types
+         */
+        Map<String, Optional<JavaClass>> tryResolveAll(List<String> typeNames);
+    }
+
     interface MethodReturnTypeGetter {
         Optional<JavaClass> getReturnType(String declaringClassName, String methodName);
     }
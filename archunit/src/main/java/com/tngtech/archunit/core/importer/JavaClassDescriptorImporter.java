@@ -18,6 +18,9 @@ package com.tngtech.archunit.core.importer;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import org.objectweb.asm.Handle;
@@ -28,12 +31,16 @@ class JavaClassDescriptorImporter {
     private static final Pattern LAMBDA_METHOD_PATTERN = Pattern.compile("lambda\\$.*\\$\\d+");
     private static final Pattern ACCESS_METHOD_PATTERN = Pattern.compile("access\\$\\d+");
 
+    // owners of accesses are referenced by their internal name over and over again, so we avoid converting the same name each time
+    private static final LoadingCache<String, JavaClassDescriptor> descriptorsByAsmObjectTypeName =
+            CacheBuilder.newBuilder().build(CacheLoader.from(objectTypeName -> JavaClassDescriptor.From.name(Type.getObjectType(objectTypeName).getClassName())));
+
     /**
      * Takes an 'internal' ASM object type name, i.e. the class name but with slashes instead of periods,
      * i.e. java/lang/Object (note that this is not a descriptor like Ljava/lang/Object;)
      */
     static JavaClassDescriptor createFromAsmObjectTypeName(String objectTypeName) {
-        return JavaClassDescriptor.From.name(Type.getObjectType(objectTypeName).getClassName());
+        return descriptorsByAsmObjectTypeName.getUnchecked(objectTypeName);
     }
 
     static JavaClassDescriptor importAsmType(Object type) {
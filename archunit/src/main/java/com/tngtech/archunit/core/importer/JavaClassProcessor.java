@@ -65,6 +65,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.nullToEmpty;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static com.tngtech.archunit.core.domain.JavaStaticInitializer.STATIC_INITIALIZER_NAME;
+import static com.tngtech.archunit.core.importer.CanonicalStrings.canonicalize;
 import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isAsmMethodHandle;
 import static com.tngtech.archunit.core.importer.JavaClassDescriptorImporter.isLambdaMetafactory;
@@ -226,10 +227,10 @@ class JavaClassProcessor extends ClassVisitor {
         JavaClassDescriptor rawType = JavaClassDescriptorImporter.importAsmTypeFromDescriptor(desc);
         Optional<JavaTypeCreationProcess<JavaField>> genericType = JavaFieldTypeSignatureImporter.parseAsmFieldTypeSignature(signature, declarationHandler);
         DomainBuilders.JavaFieldBuilder fieldBuilder = new DomainBuilders.JavaFieldBuilder()
-                .withName(name)
+                .withName(canonicalize(name))
                 .withType(genericType, rawType)
                 .withModifiers(JavaModifier.getModifiersForField(access))
-                .withDescriptor(desc);
+                .withDescriptor(canonicalize(desc));
         declarationHandler.onDeclaredField(fieldBuilder, rawType.getFullyQualifiedClassName());
         return new FieldProcessor(fieldBuilder, declarationHandler);
     }
@@ -249,12 +250,12 @@ class JavaClassProcessor extends ClassVisitor {
         JavaCodeUnitSignature codeUnitSignature = JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, declarationHandler);
         List<JavaClassDescriptor> throwsDeclarations = typesFrom(exceptions);
         codeUnitBuilder
-                .withName(name)
+                .withName(canonicalize(name))
                 .withModifiers(JavaModifier.getModifiersForMethod(access))
-                .withTypeParameters(codeUnitSignature.getTypeParameterBuilders())
-                .withParameterTypes(codeUnitSignature.getParameterTypes(), codeUnit.getRawParameterTypes())
-                .withReturnType(codeUnitSignature.getReturnType(), rawReturnType)
-                .withDescriptor(desc)
+                .withSignature(codeUnitSignature)
+                .withParameterTypes(codeUnit.getRawParameterTypes())
+                .withReturnType(rawReturnType)
+                .withDescriptor(canonicalize(desc))
                 .withThrowsClause(throwsDeclarations);
         declarationHandler.onDeclaredThrowsClause(fullyQualifiedClassNamesOf(throwsDeclarations));
 
@@ -729,10 +730,20 @@ class JavaClassProcessor extends ClassVisitor {
         }
 
         private class ArrayValueBuilder extends ValueBuilder {
+            private Optional<Class<?>> componentType;
+
             @Override
-            public <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importContext) {
-                return determineComponentType(importContext).map(aClass -> toArray(aClass, buildValues(owner, importContext)));
+            void resolveTypes(ImportedClasses importContext) {
+                values.forEach(value -> value.resolveTypes(importContext));
+                componentType = determineComponentType(importContext);
+            }
 
+            @Override
+            public <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importContext) {
+                if (componentType == null) {
+                    componentType = determineComponentType(importContext);
+                }
+                return componentType.map(aClass -> toArray(aClass, buildValues(owner, importContext)));
             }
 
             @SuppressWarnings({"unchecked", "rawtypes"}) // NOTE: We assume the component type matches the list
@@ -18,7 +18,9 @@ package com.tngtech.archunit.core.importer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
@@ -33,23 +35,45 @@ import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERS
 class JavaClassSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaClassSignatureImporter.class);
 
+    /**
+     * Registers all types referenced by the signature to be resolved. The signature itself is only parsed,
+     * once the type parameters or generic supertypes of the class are created.
+     */
     static void parseAsmTypeSignature(String signature, DeclarationHandler declarationHandler) {
         if (signature == null) {
             return;
         }
 
-        log.trace("Analyzing signature: {}", signature);
+        GenericSignatureTypeNames.forEachIn(signature, declarationHandler::onDeclaredGenericSignatureType);
+        declarationHandler.onDeclaredClassSignature(new JavaClassSignature(signature));
+    }
+
+    static class JavaClassSignature {
+        private final Supplier<SignatureProcessor> parsedSignature;
+
+        private JavaClassSignature(String signature) {
+            parsedSignature = Suppliers.memoize(() -> parse(signature));
+        }
+
+        private static SignatureProcessor parse(String signature) {
+            log.trace("Analyzing signature: {}", signature);
 
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
-        new SignatureReader(signature).accept(signatureProcessor);
-        declarationHandler.onDeclaredTypeParameters(new JavaClassTypeParametersBuilder(signatureProcessor.getTypeParameterBuilders()));
+            SignatureProcessor signatureProcessor = new SignatureProcessor();
+            new SignatureReader(signature).accept(signatureProcessor);
+            return signatureProcessor;
+        }
 
-        Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclass = signatureProcessor.getGenericSuperclass();
-        if (genericSuperclass.isPresent()) {
-            declarationHandler.onGenericSuperclass(genericSuperclass.get());
+        JavaClassTypeParametersBuilder getTypeParametersBuilder() {
+            return new JavaClassTypeParametersBuilder(parsedSignature.get().getTypeParameterBuilders());
         }
 
-        declarationHandler.onGenericInterfaces(signatureProcessor.getGenericInterfaces());
+        Optional<JavaParameterizedTypeBuilder<JavaClass>> getGenericSuperclass() {
+            return parsedSignature.get().getGenericSuperclass();
+        }
+
+        List<JavaParameterizedTypeBuilder<JavaClass>> getGenericInterfaces() {
+            return parsedSignature.get().getGenericInterfaces();
+        }
     }
 
     private static class SignatureProcessor extends SignatureVisitor {
@@ -57,11 +81,11 @@ class JavaClassSignatureImporter {
         private final GenericSuperclassProcessor superclassProcessor;
         private final GenericInterfacesProcessor interfacesProcessor;
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor() {
             super(ASM_API_VERSION);
-            typeParameterProcessor = new SignatureTypeParameterProcessor<>(declarationHandler);
-            superclassProcessor = new GenericSuperclassProcessor(declarationHandler);
-            interfacesProcessor = new GenericInterfacesProcessor(declarationHandler);
+            typeParameterProcessor = new SignatureTypeParameterProcessor<>();
+            superclassProcessor = new GenericSuperclassProcessor();
+            interfacesProcessor = new GenericInterfacesProcessor();
         }
 
         List<JavaTypeParameterBuilder<JavaClass>> getTypeParameterBuilders() {
@@ -103,12 +127,10 @@ class JavaClassSignatureImporter {
         }
 
         private static class GenericSuperclassProcessor extends SignatureVisitor {
-            private final DeclarationHandler declarationHandler;
             private JavaParameterizedTypeBuilder<JavaClass> superclass;
 
-            GenericSuperclassProcessor(DeclarationHandler declarationHandler) {
+            GenericSuperclassProcessor() {
                 super(ASM_API_VERSION);
-                this.declarationHandler = declarationHandler;
             }
 
             @Override
@@ -123,18 +145,16 @@ class JavaClassSignatureImporter {
 
             @Override
             public SignatureVisitor visitTypeArgument(char wildcard) {
-                return SignatureTypeArgumentProcessor.create(wildcard, superclass, declarationHandler);
+                return SignatureTypeArgumentProcessor.create(wildcard, superclass);
             }
         }
 
         private static class GenericInterfacesProcessor extends SignatureVisitor {
-            private final DeclarationHandler declarationHandler;
             private final List<JavaParameterizedTypeBuilder<JavaClass>> interfaces = new ArrayList<>();
             private JavaParameterizedTypeBuilder<JavaClass> currentInterface;
 
-            GenericInterfacesProcessor(DeclarationHandler declarationHandler) {
+            GenericInterfacesProcessor() {
                 super(ASM_API_VERSION);
-                this.declarationHandler = declarationHandler;
             }
 
             @Override
@@ -145,7 +165,7 @@ class JavaClassSignatureImporter {
 
             @Override
             public SignatureVisitor visitTypeArgument(char wildcard) {
-                return SignatureTypeArgumentProcessor.create(wildcard, currentInterface, declarationHandler);
+                return SignatureTypeArgumentProcessor.create(wildcard, currentInterface);
             }
         }
     }
@@ -18,8 +18,10 @@ package com.tngtech.archunit.core.importer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaTypeCreationProcess;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaTypeParameterBuilder;
@@ -36,29 +38,36 @@ import static java.util.stream.Collectors.toList;
 class JavaCodeUnitSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaCodeUnitSignatureImporter.class);
 
+    /**
+     * Registers all types referenced by the signature to be resolved. The signature itself is only parsed,
+     * once the type parameters or generic parameter or return types of the code unit are created.
+     */
     public static JavaCodeUnitSignature parseAsmMethodSignature(String signature, DeclarationHandler declarationHandler) {
         if (signature == null) {
             return JavaCodeUnitSignature.ABSENT;
         }
 
+        GenericSignatureTypeNames.forEachIn(signature, declarationHandler::onDeclaredGenericSignatureType);
+        return new JavaCodeUnitSignature(() -> parse(signature));
+    }
+
+    private static ParsedSignature parse(String signature) {
         log.trace("Analyzing method signature: {}", signature);
 
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
+        SignatureProcessor signatureProcessor = new SignatureProcessor();
         new SignatureReader(signature).accept(signatureProcessor);
         return signatureProcessor.getParsedSignature();
     }
 
     private static class SignatureProcessor extends SignatureVisitor {
-        private final DeclarationHandler declarationHandler;
         private final SignatureTypeParameterProcessor<JavaCodeUnit> typeParameterProcessor;
         private final GenericMemberTypeProcessor<JavaCodeUnit> genericMethodReturnTypeProcessor;
         private final List<GenericMemberTypeProcessor<JavaCodeUnit>> genericMethodParameterTypeProcessors = new ArrayList<>();
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor() {
             super(ASM_API_VERSION);
-            this.declarationHandler = declarationHandler;
-            typeParameterProcessor = new SignatureTypeParameterProcessor<>(declarationHandler);
-            genericMethodReturnTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            typeParameterProcessor = new SignatureTypeParameterProcessor<>();
+            genericMethodReturnTypeProcessor = new GenericMemberTypeProcessor<>();
         }
 
         @Override
@@ -79,7 +88,7 @@ class JavaCodeUnitSignatureImporter {
 
         @Override
         public SignatureVisitor visitParameterType() {
-            GenericMemberTypeProcessor<JavaCodeUnit> parameterTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            GenericMemberTypeProcessor<JavaCodeUnit> parameterTypeProcessor = new GenericMemberTypeProcessor<>();
             genericMethodParameterTypeProcessors.add(parameterTypeProcessor);
             return parameterTypeProcessor;
         }
@@ -89,12 +98,12 @@ class JavaCodeUnitSignatureImporter {
             return genericMethodReturnTypeProcessor;
         }
 
-        public JavaCodeUnitSignature getParsedSignature() {
+        ParsedSignature getParsedSignature() {
             List<JavaTypeCreationProcess<JavaCodeUnit>> parameterTypes = genericMethodParameterTypeProcessors.stream()
                     .flatMap(parameterTypeProcessor -> parameterTypeProcessor.getType().map(Stream::of).orElse(Stream.empty()))
                     .collect(toList());
 
-            return new JavaCodeUnitSignature(
+            return new ParsedSignature(
                     typeParameterProcessor.getTypeParameterBuilders(),
                     parameterTypes,
                     genericMethodReturnTypeProcessor.getType());
@@ -102,7 +111,29 @@ class JavaCodeUnitSignatureImporter {
     }
 
     static class JavaCodeUnitSignature {
-        static final JavaCodeUnitSignature ABSENT = new JavaCodeUnitSignature(
+        static final JavaCodeUnitSignature ABSENT = new JavaCodeUnitSignature(() -> ParsedSignature.ABSENT);
+
+        private final Supplier<ParsedSignature> parsedSignature;
+
+        private JavaCodeUnitSignature(Supplier<ParsedSignature> parsedSignature) {
+            this.parsedSignature = Suppliers.memoize(parsedSignature);
+        }
+
+        List<JavaTypeParameterBuilder<JavaCodeUnit>> getTypeParameterBuilders() {
+            return parsedSignature.get().typeParameterBuilders;
+        }
+
+        List<JavaTypeCreationProcess<JavaCodeUnit>> getParameterTypes() {
+            return parsedSignature.get().parameterTypes;
+        }
+
+        Optional<JavaTypeCreationProcess<JavaCodeUnit>> getReturnType() {
+            return parsedSignature.get().returnType;
+        }
+    }
+
+    private static class ParsedSignature {
+        static final ParsedSignature ABSENT = new ParsedSignature(
                 emptyList(),
                 emptyList(),
                 Optional.empty()
@@ -112,7 +143,7 @@ class JavaCodeUnitSignatureImporter {
         private final List<JavaTypeCreationProcess<JavaCodeUnit>> parameterTypes;
         private final Optional<JavaTypeCreationProcess<JavaCodeUnit>> returnType;
 
-        private JavaCodeUnitSignature(
+        private ParsedSignature(
                 List<JavaTypeParameterBuilder<JavaCodeUnit>> typeParameterBuilders,
                 List<JavaTypeCreationProcess<JavaCodeUnit>> parameterTypes,
                 Optional<JavaTypeCreationProcess<JavaCodeUnit>> returnType
@@ -121,17 +152,5 @@ class JavaCodeUnitSignatureImporter {
             this.parameterTypes = parameterTypes;
             this.returnType = checkNotNull(returnType);
         }
-
-        List<JavaTypeParameterBuilder<JavaCodeUnit>> getTypeParameterBuilders() {
-            return typeParameterBuilders;
-        }
-
-        List<JavaTypeCreationProcess<JavaCodeUnit>> getParameterTypes() {
-            return parameterTypes;
-        }
-
-        Optional<JavaTypeCreationProcess<JavaCodeUnit>> getReturnType() {
-            return returnType;
-        }
     }
 }
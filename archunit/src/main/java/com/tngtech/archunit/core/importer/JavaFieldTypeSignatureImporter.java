@@ -18,6 +18,8 @@ package com.tngtech.archunit.core.importer;
 import java.util.Optional;
 
 import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.domain.JavaTypeVariable;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaTypeCreationProcess;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
@@ -29,24 +31,45 @@ import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERS
 class JavaFieldTypeSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaFieldTypeSignatureImporter.class);
 
+    /**
+     * Registers all types referenced by the signature to be resolved. The signature itself is only parsed,
+     * once the generic type of the field is created.
+     */
     static Optional<JavaTypeCreationProcess<JavaField>> parseAsmFieldTypeSignature(String signature, DeclarationHandler declarationHandler) {
         if (signature == null) {
             return Optional.empty();
         }
 
-        log.trace("Analyzing field signature: {}", signature);
+        GenericSignatureTypeNames.forEachIn(signature, declarationHandler::onDeclaredGenericSignatureType);
+        return Optional.of(new LazyFieldTypeCreationProcess(signature));
+    }
+
+    private static class LazyFieldTypeCreationProcess implements JavaTypeCreationProcess<JavaField> {
+        private final String signature;
+
+        LazyFieldTypeCreationProcess(String signature) {
+            this.signature = signature;
+        }
 
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
-        new SignatureReader(signature).accept(signatureProcessor);
-        return signatureProcessor.getFieldType();
+        @Override
+        public JavaType finish(JavaField owner, Iterable<JavaTypeVariable<?>> allTypeParametersInContext, ImportedClasses classes) {
+            log.trace("Analyzing field signature: {}", signature);
+
+            SignatureProcessor signatureProcessor = new SignatureProcessor();
+            new SignatureReader(signature).accept(signatureProcessor);
+            JavaTypeCreationProcess<JavaField> fieldType = signatureProcessor.getFieldType()
+                    .orElseThrow(() -> new IllegalStateException(String.format(
+                            "Couldn't parse type of field %s from signature %s, this is most likely a bug", owner.getFullName(), signature)));
+            return fieldType.finish(owner, allTypeParametersInContext, classes);
+        }
     }
 
     private static class SignatureProcessor extends SignatureVisitor {
         private final GenericMemberTypeProcessor<JavaField> genericFieldTypeProcessor;
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor() {
             super(ASM_API_VERSION);
-            genericFieldTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            genericFieldTypeProcessor = new GenericMemberTypeProcessor<>();
         }
 
         @Override
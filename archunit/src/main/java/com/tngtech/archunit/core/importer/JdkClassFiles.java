@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tngtech.archunit.ArchConfiguration;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+
+/**
+ * Reads the class files of JDK classes (i.e. class files with a URI like {@code jrt:/java.base/java/lang/Object.class})
+ * directly from the jrt file system, which is opened once and then kept open, instead of resolving each URI
+ * via its own {@link java.net.URLConnection}.
+ * <br><br>
+ * Since the JDK cannot change while the JVM is running, JDK classes resolved from the classpath are moreover cached
+ * as skeletons for all further imports within the same JVM. A skeleton is the class file reduced to what the import
+ * of a resolved class needs, i.e. the bodies of methods only retain line numbers, referenced class objects and
+ * {@code instanceof} checks, while all declarations (including annotations and generic signatures) are unchanged.
+ * Thus, importing a skeleton yields the same {@link com.tngtech.archunit.core.domain.JavaClass JavaClass},
+ * but the skeleton is a lot smaller and faster to parse than the original class file.
+ * The cache is bounded by the total size of all skeletons (compare {@value #SKELETON_CACHE_MAX_BYTES_PROPERTY_NAME}),
+ * if the configured size changes, the cache is created anew (compare {@link ConfiguredInstance}).
+ */
+class JdkClassFiles {
+    private static final Logger LOG = LoggerFactory.getLogger(JdkClassFiles.class);
+
+    static final String SKELETON_CACHE_MAX_BYTES_PROPERTY_NAME = "import.jdkClassFileCache.maxBytes";
+    private static final long SKELETON_CACHE_MAX_BYTES_DEFAULT_VALUE = 32 * 1024 * 1024;
+
+    private static final String JRT_SCHEME = "jrt";
+    private static final String JRT_MODULES_DIRECTORY = "/modules";
+
+    private static final ConfiguredInstance<Long, JdkClassFiles> instance = new ConfiguredInstance<>(
+            JdkClassFiles::readMaxSkeletonBytes, maxSkeletonBytes -> new JdkClassFiles(tryGetJrtFileSystem(), maxSkeletonBytes));
+
+    private final Optional<FileSystem> jrtFileSystem;
+    private final Cache<URI, byte[]> skeletons;
+
+    JdkClassFiles(Optional<FileSystem> jrtFileSystem, long maxSkeletonBytes) {
+        this.jrtFileSystem = jrtFileSystem;
+        this.skeletons = CacheBuilder.newBuilder()
+                .maximumWeight(maxSkeletonBytes)
+                .weigher((URI uri, byte[] skeleton) -> skeleton.length)
+                .build();
+    }
+
+    static JdkClassFiles get() {
+        return instance.get();
+    }
+
+    private static long readMaxSkeletonBytes() {
+        return Long.parseLong(ArchConfiguration.get().getPropertyOrDefault(
+                SKELETON_CACHE_MAX_BYTES_PROPERTY_NAME, String.valueOf(SKELETON_CACHE_MAX_BYTES_DEFAULT_VALUE)).trim());
+    }
+
+    // the jrt file system is only available from Java 9 on
+    private static Optional<FileSystem> tryGetJrtFileSystem() {
+        try {
+            return Optional.of(FileSystems.getFileSystem(URI.create(JRT_SCHEME + ":/")));
+        } catch (RuntimeException e) {
+            LOG.debug("No jrt file system available, JDK class files will be read via their URL", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return {@code true}, if the URI refers to a class file of the JDK, which can be read via the jrt file system
+     */
+    boolean contains(URI uri) {
+        return jrtFileSystem.isPresent() && JRT_SCHEME.equals(uri.getScheme());
+    }
+
+    /**
+     * @return A stream of the class file with the given URI, read via the jrt file system if the URI refers to a class file
+     *         of the JDK (compare {@link #contains(URI)}), or via the URL of the URI otherwise
+     */
+    InputStream openStream(URI uri) throws IOException {
+        return contains(uri) ? Files.newInputStream(pathOf(uri)) : uri.toURL().openStream();
+    }
+
+    private Path pathOf(URI uri) {
+        return jrtFileSystem.get().getPath(JRT_MODULES_DIRECTORY + uri.getPath());
+    }
+
+    /**
+     * @param uri The URI of a class file of the JDK (compare {@link #contains(URI)})
+     * @return The skeleton of the class file, which is only read and reduced on the first request within the JVM
+     */
+    byte[] getSkeleton(URI uri) throws IOException {
+        try {
+            return skeletons.get(uri, () -> readSkeleton(uri));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(String.format("Could not read skeleton of JDK class file %s", uri), e.getCause());
+        }
+    }
+
+    private byte[] readSkeleton(URI uri) throws IOException {
+        try (InputStream inputStream = openStream(uri); ClassFileBuffers.ClassFileBytes classFile = ClassFileBuffers.read(inputStream)) {
+            return createSkeleton(classFile.buffer(), classFile.length());
+        }
+    }
+
+    static byte[] createSkeleton(byte[] classFile, int length) {
+        ClassWriter classWriter = new ClassWriter(0);
+        new ClassReader(classFile, 0, length).accept(new SkeletonClassVisitor(classWriter), ClassReader.SKIP_FRAMES);
+        return classWriter.toByteArray();
+    }
+
+    private static class SkeletonClassVisitor extends ClassVisitor {
+        SkeletonClassVisitor(ClassVisitor classWriter) {
+            super(ASM_API_VERSION, classWriter);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            return new SkeletonMethodVisitor(super.visitMethod(access, name, descriptor, signature, exceptions));
+        }
+    }
+
+    /**
+     * Passes on all declarations, but only those instructions of the method body that are relevant for a resolved class
+     * (compare {@link JavaClassProcessor}). Each line number gets a label of its own, so the line numbers are visited
+     * in the same order as within the original class file.
+     */
+    private static class SkeletonMethodVisitor extends MethodVisitor {
+        SkeletonMethodVisitor(MethodVisitor methodWriter) {
+            super(ASM_API_VERSION, methodWriter);
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            Label label = new Label();
+            super.visitLabel(label);
+            super.visitLineNumber(line, label);
+            super.visitInsn(Opcodes.NOP);
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            if (value instanceof Type) {
+                super.visitLdcInsn(value);
+            }
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            if (opcode == Opcodes.INSTANCEOF) {
+                super.visitTypeInsn(opcode, type);
+            }
+        }
+
+        @Override
+        public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        }
+
+        @Override
+        public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+        }
+
+        @Override
+        public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return null;
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+        }
+
+        @Override
+        public AnnotationVisitor visitLocalVariableAnnotation(
+                int typeRef, TypePath typePath, Label[] start, Label[] end, int[] index, String descriptor, boolean visible) {
+            return null;
+        }
+    }
+}
@@ -34,15 +34,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.LocationException;
 import com.tngtech.archunit.base.ArchUnitException.UnsupportedUriSchemeException;
@@ -71,8 +69,6 @@ public abstract class Location {
         ImportPlugin.Loader.loadForCurrentPlatform().plugInLocationFactories(factories);
     }
 
-    private static final Cache<NormalizedUri, Collection<NormalizedResourceName>> ENTRY_CACHE = CacheBuilder.newBuilder().build();
-
     final NormalizedUri uri;
 
     Location(NormalizedUri uri) {
@@ -148,15 +144,15 @@ public abstract class Location {
      * @return A Stream containing all class file names under this location, e.g. relative file names, Jar entry names, ...
      */
     final Stream<NormalizedResourceName> streamEntries() {
-        try {
-            return ENTRY_CACHE.get(uri, this::readResourceEntries).stream();
-        } catch (ExecutionException e) {
-            throw new LocationException(e);
-        }
+        return LocationEntryCache.get().get(this, this::readResourceEntries).stream();
     }
 
     abstract Collection<NormalizedResourceName> readResourceEntries();
 
+    static Locations.EntryCacheStatistics getEntryCacheStatistics() {
+        return LocationEntryCache.get().getStatistics();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(uri);
@@ -245,6 +241,8 @@ public abstract class Location {
 
     private static class JarFileLocation extends Location {
         private static final String SCHEME = "jar";
+        private static final String MEMORY_MAPPED_JARS_PROPERTY_NAME = "import.memoryMappedJars";
+        private static final boolean MEMORY_MAPPED_JARS_DEFAULT_VALUE = false;
 
         private JarFileLocation(NormalizedUri uri) {
             super(uri);
@@ -272,12 +270,24 @@ public abstract class Location {
         ClassFileSource asClassFileSource(ImportOptions importOptions) {
             try {
                 ParsedUri parsedUri = ParsedUri.from(uri);
+                if (memoryMappedJarsEnabled()) {
+                    Optional<ClassFileSource> mappedJarSource =
+                            ClassFileSource.FromMappedJar.tryCreate(parsedUri.base, NormalizedResourceName.from(parsedUri.path), importOptions);
+                    if (mappedJarSource.isPresent()) {
+                        return mappedJarSource.get();
+                    }
+                }
                 return new ClassFileSource.FromJar(new URL(parsedUri.base), parsedUri.path, importOptions);
             } catch (IOException e) {
                 throw new LocationException(e);
             }
         }
 
+        private static boolean memoryMappedJarsEnabled() {
+            return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(
+                    MEMORY_MAPPED_JARS_PROPERTY_NAME, String.valueOf(MEMORY_MAPPED_JARS_DEFAULT_VALUE)));
+        }
+
         @Override
         public boolean isJar() {
             return true;
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Caches the class file entries of {@link Location locations}, i.e. the result of reading all entries of a JAR file
+ * or walking a directory, so e.g. {@link Locations#ofPackage(String)} does not need to scan the whole classpath over and over again.
+ * <br><br>
+ * The cache is bounded by the total number of cached entries (compare {@value #MAX_ENTRIES_PROPERTY_NAME}),
+ * the entries of the least recently used locations are evicted first.
+ * The entries of archives (JAR files and the JDK) are validated by a fingerprint (e.g. the size and the
+ * last modification time of the JAR file), so a changed JAR file is read again.
+ * Optionally the entries of archives can be persisted within a cache directory (compare {@value #DIRECTORY_PROPERTY_NAME}),
+ * so further JVMs do not need to read them again as long as the fingerprint did not change.
+ * The entries of directories are only cached in memory and never validated, since there is no cheap way to detect changes.
+ * The configuration is read on each access, so changing it (e.g. within a thread local scope) takes effect right away
+ * (compare {@link ConfiguredInstance}).
+ */
+class LocationEntryCache {
+    private static final Logger LOG = LoggerFactory.getLogger(LocationEntryCache.class);
+
+    static final String MAX_ENTRIES_PROPERTY_NAME = "import.locationEntryCache.maxEntries";
+    private static final long MAX_ENTRIES_DEFAULT_VALUE = 1_000_000;
+    static final String DIRECTORY_PROPERTY_NAME = "import.locationEntryCache.directory";
+
+    private static final int MAGIC_NUMBER = 0x4155454c;
+    private static final int FORMAT_VERSION = 1;
+    private static final String ENTRIES_FILE_SUFFIX = ".entries";
+    private static final String UNKNOWN_FINGERPRINT = "unknown";
+
+    private static final ConfiguredInstance<Settings, LocationEntryCache> instance = new ConfiguredInstance<>(
+            LocationEntryCache::readSettings, settings -> new LocationEntryCache(settings.maxEntries, settings.cacheDirectory));
+
+    private final Cache<NormalizedUri, CachedEntries> cache;
+    private final Optional<Path> cacheDirectory;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder persistedHitCount = new LongAdder();
+
+    LocationEntryCache(long maxEntries, Optional<Path> cacheDirectory) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((NormalizedUri uri, CachedEntries cachedEntries) -> cachedEntries.entries.size())
+                .recordStats()
+                .build();
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * @return The cache shared by all {@link Location locations}, which is created anew (i.e. empty) as soon as
+     *         the configured maximum number of entries or cache directory changes
+     */
+    static LocationEntryCache get() {
+        return instance.get();
+    }
+
+    private static Settings readSettings() {
+        ArchConfiguration configuration = ArchConfiguration.get();
+        long maxEntries = Long.parseLong(configuration.getPropertyOrDefault(MAX_ENTRIES_PROPERTY_NAME, String.valueOf(MAX_ENTRIES_DEFAULT_VALUE)));
+        Optional<Path> cacheDirectory = configuration.containsProperty(DIRECTORY_PROPERTY_NAME)
+                ? Optional.of(Paths.get(configuration.getProperty(DIRECTORY_PROPERTY_NAME)))
+                : Optional.empty();
+        return new Settings(maxEntries, cacheDirectory);
+    }
+
+    Collection<NormalizedResourceName> get(Location location, Supplier<Collection<NormalizedResourceName>> readEntries) {
+        Optional<String> fingerprint = location.isArchive() ? Optional.of(fingerprintOf(location)) : Optional.empty();
+        CachedEntries cachedEntries = cache.getIfPresent(location.uri);
+        if (cachedEntries != null && cachedEntries.fingerprint.equals(fingerprint)) {
+            hitCount.increment();
+            return cachedEntries.entries;
+        }
+
+        missCount.increment();
+        cachedEntries = new CachedEntries(fingerprint, readPersistedOrCurrentEntries(location, fingerprint, readEntries));
+        cache.put(location.uri, cachedEntries);
+        return cachedEntries.entries;
+    }
+
+    private Collection<NormalizedResourceName> readPersistedOrCurrentEntries(
+            Location location, Optional<String> fingerprint, Supplier<Collection<NormalizedResourceName>> readEntries) {
+
+        Optional<Path> entriesFile = cacheDirectory
+                .filter(__ -> fingerprint.isPresent() && isPersistable(fingerprint.get()))
+                .map(directory -> directory.resolve(entriesFileNameOf(location)));
+        if (!entriesFile.isPresent()) {
+            return readEntries.get();
+        }
+
+        String uri = location.asURI().toString();
+        Optional<List<NormalizedResourceName>> persistedEntries = tryRead(entriesFile.get(), uri, fingerprint.get());
+        if (persistedEntries.isPresent()) {
+            persistedHitCount.increment();
+            return persistedEntries.get();
+        }
+
+        Collection<NormalizedResourceName> entries = readEntries.get();
+        write(entriesFile.get(), uri, fingerprint.get(), entries);
+        return entries;
+    }
+
+    private boolean isPersistable(String fingerprint) {
+        return !fingerprint.equals(UNKNOWN_FINGERPRINT);
+    }
+
+    private static String entriesFileNameOf(Location location) {
+        String uri = location.asURI().toString();
+        String lastSegment = uri.replaceAll("!?/+$", "").replaceAll(".*[/:]", "");
+        return Integer.toHexString(uri.hashCode()) + "-" + lastSegment + ENTRIES_FILE_SUFFIX;
+    }
+
+    /**
+     * @return A fingerprint that changes whenever the archive of the given {@link Location} changes, i.e. the size and the last
+     *         modification time of a JAR file or the Java home and version in case of the JDK. If the archive cannot be accessed
+     *         the fingerprint is {@value #UNKNOWN_FINGERPRINT}.
+     */
+    static String fingerprintOf(Location location) {
+        URI uri = location.asURI();
+        if ("jrt".equals(uri.getScheme())) {
+            return System.getProperty("java.home") + "@" + System.getProperty("java.runtime.version");
+        }
+        try {
+            String fileUri = uri.toString().replaceFirst("^jar:", "").replaceFirst("!/.*", "");
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(URI.create(fileUri)), BasicFileAttributes.class);
+            return attributes.size() + "@" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException | RuntimeException e) {
+            return UNKNOWN_FINGERPRINT;
+        }
+    }
+
+    private static Optional<List<NormalizedResourceName>> tryRead(Path entriesFile, String uri, String fingerprint) {
+        if (!Files.isRegularFile(entriesFile)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entriesFile)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readInt() != FORMAT_VERSION
+                    || !in.readUTF().equals(uri) || !in.readUTF().equals(fingerprint)) {
+                return Optional.empty();
+            }
+            int numberOfEntries = in.readInt();
+            List<NormalizedResourceName> entries = new ArrayList<>(numberOfEntries);
+            for (int i = 0; i < numberOfEntries; i++) {
+                entries.add(NormalizedResourceName.from(in.readUTF()));
+            }
+            return Optional.of(ImmutableList.copyOf(entries));
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Ignoring unreadable location entries {}", entriesFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private static void write(Path entriesFile, String uri, String fingerprint, Collection<NormalizedResourceName> entries) {
+        try {
+            Files.createDirectories(entriesFile.getParent());
+            Path tempFile = Files.createTempFile(entriesFile.getParent(), entriesFile.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(MAGIC_NUMBER);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(uri);
+                    out.writeUTF(fingerprint);
+                    out.writeInt(entries.size());
+                    for (NormalizedResourceName entry : entries) {
+                        out.writeUTF(entry.toString());
+                    }
+                }
+                moveAtomically(tempFile, entriesFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            LOG.warn(String.format("Couldn't write location entries %s", entriesFile), e);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    Locations.EntryCacheStatistics getStatistics() {
+        return new Locations.EntryCacheStatistics(
+                hitCount.sum(), missCount.sum(), persistedHitCount.sum(), cache.stats().evictionCount(), cache.size());
+    }
+
+    private static class Settings {
+        private final long maxEntries;
+        private final Optional<Path> cacheDirectory;
+
+        Settings(long maxEntries, Optional<Path> cacheDirectory) {
+            this.maxEntries = maxEntries;
+            this.cacheDirectory = cacheDirectory;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(maxEntries, cacheDirectory);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Settings other = (Settings) obj;
+            return maxEntries == other.maxEntries
+                    && Objects.equals(cacheDirectory, other.cacheDirectory);
+        }
+    }
+
+    private static class CachedEntries {
+        private final Optional<String> fingerprint;
+        private final Collection<NormalizedResourceName> entries;
+
+        CachedEntries(Optional<String> fingerprint, Collection<NormalizedResourceName> entries) {
+            this.fingerprint = fingerprint;
+            this.entries = entries;
+        }
+    }
+}
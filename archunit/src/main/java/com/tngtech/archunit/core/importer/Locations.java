@@ -105,6 +105,15 @@ public final class Locations {
         return result.build();
     }
 
+    /**
+     * @return Statistics about the cache of the class file entries of {@link Location locations}, which is used to derive
+     * the {@link Location locations} of packages and classes (compare {@link #ofPackage(String)} and {@link #ofClass(Class)})
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EntryCacheStatistics getEntryCacheStatistics() {
+        return Location.getEntryCacheStatistics();
+    }
+
     private static String asResourceName(String qualifiedName) {
         return qualifiedName.replace('.', '/');
     }
@@ -144,4 +153,71 @@ public final class Locations {
     private static boolean containsEntryWithPrefix(Location location, NormalizedResourceName searchedJarEntryPrefix) {
         return location.streamEntries().anyMatch(name -> name.startsWith(searchedJarEntryPrefix));
     }
+
+    /**
+     * Statistics about the cache of the class file entries of {@link Location locations} (i.e. the entries of JAR files,
+     * the JDK or directories), compare {@link #getEntryCacheStatistics()}.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static final class EntryCacheStatistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long persistedHitCount;
+        private final long evictionCount;
+        private final long size;
+
+        EntryCacheStatistics(long hitCount, long missCount, long persistedHitCount, long evictionCount, long size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.persistedHitCount = persistedHitCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        /**
+         * @return The number of times the entries of a {@link Location} were found within the cache and were still up to date
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return The number of times the entries of a {@link Location} were not cached yet, had been evicted or were outdated
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return The number of misses, where the entries could be read from the cache directory instead of the archive itself
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getPersistedHitCount() {
+            return persistedHitCount;
+        }
+
+        /**
+         * @return The number of {@link Location locations} whose entries have been evicted to keep the cache within its bounds
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return The number of {@link Location locations} whose entries are currently cached
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{hitCount=" + hitCount + ", missCount=" + missCount
+                    + ", persistedHitCount=" + persistedHitCount + ", evictionCount=" + evictionCount + ", size=" + size + '}';
+        }
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.tngtech.archunit.core.importer.ClassFileBuffers.ClassFileBytes;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A minimal read only view of a JAR file that memory maps the file and reads the central directory directly
+ * from the mapped buffer. Compared to {@link java.util.jar.JarFile} this creates no {@link java.util.jar.JarEntry} objects
+ * and no intermediate streams, and inflates entries with pooled {@link Inflater Inflaters} and input buffers
+ * (one per thread) directly into the pooled buffers of {@link ClassFileBuffers}, so reading a class file usually
+ * allocates nothing at all.
+ * <br><br>
+ * A mapping is only released once the mapped buffer has been garbage collected. Thus, {@link #close()} drops the reference
+ * to the mapped buffer, so the JAR file is not kept mapped (and on Windows locked) by any leftover reference to this object.
+ * <br><br>
+ * Only the features necessary to read plain class files are supported, i.e. ZIP64 archives, encrypted entries
+ * or compression methods other than STORED and DEFLATED will be rejected by {@link #tryOpen(Path)}.
+ */
+class MappedJarFile {
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_MIN_SIZE = 22;
+    private static final int MAX_ZIP_COMMENT_LENGTH = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int FLAG_ENCRYPTED = 1;
+
+    private static final ThreadLocal<InflationBuffers> inflationBuffers = ThreadLocal.withInitial(InflationBuffers::new);
+
+    private final Path path;
+    private volatile ByteBuffer content;
+    private final List<Entry> entries;
+
+    private MappedJarFile(Path path, ByteBuffer content, List<Entry> entries) {
+        this.path = path;
+        this.content = content;
+        this.entries = entries;
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return The bytes of the entry within a pooled buffer, which must be {@link ClassFileBytes#close() closed} once the bytes are not needed anymore
+     */
+    ClassFileBytes read(Entry entry) throws IOException {
+        ByteBuffer content = this.content;
+        if (content == null) {
+            throw new IOException(String.format("%s has already been closed", path));
+        }
+
+        ByteBuffer buffer = content.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int localHeaderOffset = entry.localHeaderOffset;
+        if (buffer.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException(String.format("Invalid local file header of entry %s in %s", entry.name, path));
+        }
+        int dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE
+                + unsignedShort(buffer, localHeaderOffset + 26) + unsignedShort(buffer, localHeaderOffset + 28);
+        buffer.position(dataOffset);
+
+        ClassFileBytes result = ClassFileBuffers.allocate(entry.uncompressedSize);
+        try {
+            if (entry.method == METHOD_STORED) {
+                buffer.get(result.buffer(), 0, entry.uncompressedSize);
+            } else {
+                inflationBuffers.get().inflate(buffer, entry, result.buffer());
+            }
+            return result;
+        } catch (IOException | RuntimeException e) {
+            result.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the mapped buffer, i.e. no entry can be read anymore afterwards.
+     */
+    void close() {
+        content = null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{path=" + path + '}';
+    }
+
+    /**
+     * @return The {@link MappedJarFile} of the given path, or {@link Optional#empty()}, if the file uses features
+     *         not supported by {@link MappedJarFile} (in which case the file should be read by {@link java.util.jar.JarFile})
+     */
+    static Optional<MappedJarFile> tryOpen(Path path) throws IOException {
+        MappedByteBuffer content;
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        content.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            return readEntries(content).map(entries -> new MappedJarFile(path, content, entries));
+        } catch (IndexOutOfBoundsException e) {
+            return Optional.empty(); // corrupt central directory, let JarFile report the problem
+        }
+    }
+
+    private static Optional<List<Entry>> readEntries(ByteBuffer content) {
+        int endOfCentralDirectory = findEndOfCentralDirectory(content);
+        if (endOfCentralDirectory < 0) {
+            return Optional.empty();
+        }
+
+        int numberOfEntries = unsignedShort(content, endOfCentralDirectory + 10);
+        long centralDirectoryOffset = unsignedInt(content, endOfCentralDirectory + 16);
+        if (numberOfEntries == 0xFFFF || centralDirectoryOffset == 0xFFFFFFFFL) {
+            return Optional.empty(); // ZIP64
+        }
+
+        List<Entry> entries = new ArrayList<>(numberOfEntries);
+        int offset = (int) centralDirectoryOffset;
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (content.getInt(offset) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                return Optional.empty();
+            }
+            int flags = unsignedShort(content, offset + 8);
+            int method = unsignedShort(content, offset + 10);
+            long compressedSize = unsignedInt(content, offset + 20);
+            long uncompressedSize = unsignedInt(content, offset + 24);
+            int nameLength = unsignedShort(content, offset + 28);
+            int extraLength = unsignedShort(content, offset + 30);
+            int commentLength = unsignedShort(content, offset + 32);
+            long localHeaderOffset = unsignedInt(content, offset + 42);
+
+            String name = readName(content, offset + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+            if (!name.endsWith("/")) {
+                if ((flags & FLAG_ENCRYPTED) != 0 || (method != METHOD_STORED && method != METHOD_DEFLATED)
+                        || uncompressedSize == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+                    return Optional.empty();
+                }
+                entries.add(new Entry(name, method, (int) compressedSize, (int) uncompressedSize, (int) localHeaderOffset));
+            }
+            offset += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return Optional.of(entries);
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer content) {
+        int lowestPossibleOffset = Math.max(0, content.limit() - END_OF_CENTRAL_DIRECTORY_MIN_SIZE - MAX_ZIP_COMMENT_LENGTH);
+        for (int offset = content.limit() - END_OF_CENTRAL_DIRECTORY_MIN_SIZE; offset >= lowestPossibleOffset; offset--) {
+            if (content.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private static String readName(ByteBuffer content, int offset, int length) {
+        byte[] name = new byte[length];
+        ByteBuffer buffer = content.duplicate();
+        buffer.position(offset);
+        buffer.get(name);
+        return new String(name, UTF_8);
+    }
+
+    private static int unsignedShort(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    private static long unsignedInt(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset) & 0xFFFFFFFFL;
+    }
+
+    static class Entry {
+        private final String name;
+        private final int method;
+        private final int compressedSize;
+        private final int uncompressedSize;
+        private final int localHeaderOffset;
+
+        private Entry(String name, int method, int compressedSize, int uncompressedSize, int localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.uncompressedSize = uncompressedSize;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    private static class InflationBuffers {
+        private final Inflater inflater = new Inflater(true);
+        private byte[] input = new byte[8192];
+
+        // the target might be larger than the entry, since it is pooled
+        void inflate(ByteBuffer source, Entry entry, byte[] target) throws IOException {
+            if (input.length < entry.compressedSize + 1) {
+                input = new byte[Math.max(entry.compressedSize + 1, 2 * input.length)];
+            }
+            source.get(input, 0, entry.compressedSize);
+            // an additional dummy byte is needed by the inflater for 'nowrap' streams (compare javadoc of Inflater(boolean))
+            input[entry.compressedSize] = 0;
+
+            inflater.reset();
+            inflater.setInput(input, 0, entry.compressedSize + 1);
+            try {
+                int inflated = 0;
+                while (inflated < entry.uncompressedSize && !inflater.finished()) {
+                    int count = inflater.inflate(target, inflated, entry.uncompressedSize - inflated);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+                if (inflated != entry.uncompressedSize) {
+                    throw new ZipException(String.format("Corrupt entry %s: expected %d bytes, but inflated %d", entry.name, entry.uncompressedSize, inflated));
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException(String.format("Corrupt entry %s: %s", entry.name, e.getMessage()));
+            }
+        }
+    }
+}
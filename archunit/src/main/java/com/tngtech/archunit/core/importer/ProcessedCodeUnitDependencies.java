@@ -0,0 +1,283 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.core.domain.AccessTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.ConstructorReferenceTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.MethodReferenceTarget;
+import com.tngtech.archunit.core.domain.InstanceofCheck;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaConstructorCall;
+import com.tngtech.archunit.core.domain.JavaConstructorReference;
+import com.tngtech.archunit.core.domain.JavaFieldAccess;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.domain.JavaMethodReference;
+import com.tngtech.archunit.core.domain.ReferencedClassObject;
+import com.tngtech.archunit.core.importer.AccessRecord.FieldAccessRecord;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorCallBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorReferenceBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldAccessBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodCallBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodReferenceBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createInstanceofCheck;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createReferencedClassObject;
+
+/**
+ * Processes the raw code unit dependencies (like accesses or try-catch-blocks) recorded for the imported class files
+ * and creates the {@link JavaAccess accesses} of each {@link JavaCodeUnit} from them.
+ * <br><br>
+ * All dependencies originating from the same class must be processed by the same instance, since accesses within
+ * try blocks are associated with the try-catch-blocks of their origin. An instance is not thread-safe, but for different
+ * sets of origin classes different instances can be used concurrently (given the {@link ImportedClasses} are thread-safe).
+ */
+class ProcessedCodeUnitDependencies {
+    private final ImportedClasses classes;
+
+    private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorCallTarget>> processedConstructorCallRecords = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, AccessRecord<MethodReferenceTarget>> processedMethodReferenceRecords = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorReferenceTarget>> processedConstructorReferenceRecords = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, ReferencedClassObject> processedReferencedClassObjects = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, InstanceofCheck> processedInstanceofChecks = HashMultimap.create();
+    private final SetMultimap<JavaCodeUnit, TryCatchBlockBuilder> processedTryCatchBlocks = HashMultimap.create();
+    private final Map<JavaCodeUnit, CreatedAccesses> accessesCreatedAhead = new HashMap<>();
+
+    ProcessedCodeUnitDependencies(ImportedClasses classes) {
+        this.classes = classes;
+    }
+
+    void processFieldAccessRecord(RawAccessRecord.ForField record) {
+        tryProcess(record, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
+    }
+
+    void processMethodCallRecord(RawAccessRecord record) {
+        tryProcess(record, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords);
+    }
+
+    void processConstructorCallRecord(RawAccessRecord record) {
+        tryProcess(record, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
+    }
+
+    void processMethodReferenceRecord(RawAccessRecord record) {
+        tryProcess(record, AccessRecord.Factory.forMethodReferenceRecord(), processedMethodReferenceRecords);
+    }
+
+    void processConstructorReferenceRecord(RawAccessRecord record) {
+        tryProcess(record, AccessRecord.Factory.forConstructorReferenceRecord(), processedConstructorReferenceRecords);
+    }
+
+    private <T extends AccessRecord<?>, B extends RawAccessRecord> void tryProcess(
+            B rawRecord,
+            AccessRecord.Factory<B, T> factory,
+            Multimap<JavaCodeUnit, T> processedAccessRecords) {
+
+        T processed = factory.create(rawRecord, classes);
+        processedAccessRecords.put(processed.getOrigin(), processed);
+    }
+
+    void processReferencedClassObject(RawReferencedClassObject rawReferencedClassObject) {
+        JavaCodeUnit origin = rawReferencedClassObject.getOrigin().resolveFrom(classes);
+        ReferencedClassObject referencedClassObject = createReferencedClassObject(
+                origin,
+                classes.getOrResolve(rawReferencedClassObject.getClassName()),
+                rawReferencedClassObject.getLineNumber(),
+                rawReferencedClassObject.isDeclaredInLambda()
+        );
+        processedReferencedClassObjects.put(origin, referencedClassObject);
+    }
+
+    void processInstanceofCheck(RawInstanceofCheck rawInstanceofCheck) {
+        JavaCodeUnit origin = rawInstanceofCheck.getOrigin().resolveFrom(classes);
+        InstanceofCheck instanceofCheck = createInstanceofCheck(
+                origin,
+                classes.getOrResolve(rawInstanceofCheck.getTarget().getFullyQualifiedClassName()),
+                rawInstanceofCheck.getLineNumber(),
+                rawInstanceofCheck.isDeclaredInLambda()
+        );
+        processedInstanceofChecks.put(origin, instanceofCheck);
+    }
+
+    void processTryCatchBlock(RawTryCatchBlock rawTryCatchBlock) {
+        JavaCodeUnit declaringCodeUnit = rawTryCatchBlock.getDeclaringCodeUnit().resolveFrom(classes);
+        TryCatchBlockBuilder tryCatchBlockBuilder = new TryCatchBlockBuilder()
+                .withCaughtThrowables(
+                        rawTryCatchBlock.getCaughtThrowables().stream()
+                                .map(it -> classes.getOrResolve(it.getFullyQualifiedClassName()))
+                                .collect(toImmutableSet())
+                )
+                .withLineNumber(rawTryCatchBlock.getLineNumber())
+                .withRawAccessesContainedInTryBlock(rawTryCatchBlock.getAccessesInTryBlock())
+                .withDeclaredInLambda(rawTryCatchBlock.isDeclaredInLambda());
+        processedTryCatchBlocks.put(declaringCodeUnit, tryCatchBlockBuilder);
+    }
+
+    /**
+     * Creates all accesses of the code units of {@code owner} right away, so the (expensive) resolution of the access targets
+     * can happen concurrently for different owners. The subsequent calls to create the accesses of these code units
+     * will then simply return the accesses created ahead.
+     */
+    void createAccessesAheadOf(JavaClass owner) {
+        for (JavaCodeUnit codeUnit : owner.getCodeUnits()) {
+            Set<TryCatchBlockBuilder> tryCatchBlockBuilders = getTryCatchBlockBuilders(codeUnit);
+            accessesCreatedAhead.put(codeUnit, new CreatedAccesses(
+                    createFieldAccessesFor(codeUnit, tryCatchBlockBuilders),
+                    createMethodCallsFor(codeUnit, tryCatchBlockBuilders),
+                    createConstructorCallsFor(codeUnit, tryCatchBlockBuilders),
+                    createMethodReferencesFor(codeUnit, tryCatchBlockBuilders),
+                    createConstructorReferencesFor(codeUnit, tryCatchBlockBuilders)));
+        }
+    }
+
+    Set<TryCatchBlockBuilder> getTryCatchBlockBuilders(JavaCodeUnit codeUnit) {
+        return processedTryCatchBlocks.get(codeUnit);
+    }
+
+    Set<JavaFieldAccess> createFieldAccessesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
+        CreatedAccesses createdAhead = accessesCreatedAhead.get(codeUnit);
+        if (createdAhead != null) {
+            return createdAhead.fieldAccesses;
+        }
+
+        ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
+        for (FieldAccessRecord record : processedFieldAccessRecords.get(codeUnit)) {
+            JavaFieldAccess access = accessBuilderFrom(new JavaFieldAccessBuilder(), record)
+                    .withAccessType(record.getAccessType())
+                    .build();
+            result.add(access);
+            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, access);
+        }
+        return result.build();
+    }
+
+    Set<JavaMethodCall> createMethodCallsFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
+        CreatedAccesses createdAhead = accessesCreatedAhead.get(codeUnit);
+        if (createdAhead != null) {
+            return createdAhead.methodCalls;
+        }
+
+        ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
+        for (AccessRecord<MethodCallTarget> record : processedMethodCallRecords.get(codeUnit)) {
+            JavaMethodCall call = accessBuilderFrom(new JavaMethodCallBuilder(), record).build();
+            result.add(call);
+            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, call);
+        }
+        return result.build();
+    }
+
+    Set<JavaConstructorCall> createConstructorCallsFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
+        CreatedAccesses createdAhead = accessesCreatedAhead.get(codeUnit);
+        if (createdAhead != null) {
+            return createdAhead.constructorCalls;
+        }
+
+        ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
+        for (AccessRecord<ConstructorCallTarget> record : processedConstructorCallRecords.get(codeUnit)) {
+            JavaConstructorCall call = accessBuilderFrom(new JavaConstructorCallBuilder(), record).build();
+            result.add(call);
+            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, call);
+        }
+        return result.build();
+    }
+
+    Set<JavaMethodReference> createMethodReferencesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
+        CreatedAccesses createdAhead = accessesCreatedAhead.get(codeUnit);
+        if (createdAhead != null) {
+            return createdAhead.methodReferences;
+        }
+
+        ImmutableSet.Builder<JavaMethodReference> result = ImmutableSet.builder();
+        for (AccessRecord<MethodReferenceTarget> record : processedMethodReferenceRecords.get(codeUnit)) {
+            JavaMethodReference methodReference = accessBuilderFrom(new JavaMethodReferenceBuilder(), record).build();
+            result.add(methodReference);
+            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, methodReference);
+        }
+        return result.build();
+    }
+
+    Set<JavaConstructorReference> createConstructorReferencesFor(JavaCodeUnit codeUnit, Set<TryCatchBlockBuilder> tryCatchBlockBuilders) {
+        CreatedAccesses createdAhead = accessesCreatedAhead.get(codeUnit);
+        if (createdAhead != null) {
+            return createdAhead.constructorReferences;
+        }
+
+        ImmutableSet.Builder<JavaConstructorReference> result = ImmutableSet.builder();
+        for (AccessRecord<ConstructorReferenceTarget> record : processedConstructorReferenceRecords.get(codeUnit)) {
+            JavaConstructorReference constructorReference = accessBuilderFrom(new JavaConstructorReferenceBuilder(), record).build();
+            result.add(constructorReference);
+            handlePossibleTryBlockAccess(tryCatchBlockBuilders, record, constructorReference);
+        }
+        return result.build();
+    }
+
+    private void handlePossibleTryBlockAccess(Set<TryCatchBlockBuilder> tryCatchBlockBuilders, AccessRecord<?> record, JavaAccess<?> access) {
+        tryCatchBlockBuilders.forEach(builder -> builder.addIfContainedInTryBlock(record.getRaw(), access));
+    }
+
+    private <T extends AccessTarget, B extends DomainBuilders.JavaAccessBuilder<T, B>>
+    B accessBuilderFrom(B builder, AccessRecord<T> record) {
+        return builder
+                .withOrigin(record.getOrigin())
+                .withTarget(record.getTarget())
+                .withLineNumber(record.getLineNumber())
+                .withDeclaredInLambda(record.isDeclaredInLambda());
+    }
+
+    Set<ReferencedClassObject> getReferencedClassObjectsFor(JavaCodeUnit codeUnit) {
+        return ImmutableSet.copyOf(processedReferencedClassObjects.get(codeUnit));
+    }
+
+    Set<InstanceofCheck> getInstanceofChecksFor(JavaCodeUnit codeUnit) {
+        return ImmutableSet.copyOf(processedInstanceofChecks.get(codeUnit));
+    }
+
+    private static class CreatedAccesses {
+        private final Set<JavaFieldAccess> fieldAccesses;
+        private final Set<JavaMethodCall> methodCalls;
+        private final Set<JavaConstructorCall> constructorCalls;
+        private final Set<JavaMethodReference> methodReferences;
+        private final Set<JavaConstructorReference> constructorReferences;
+
+        CreatedAccesses(
+                Set<JavaFieldAccess> fieldAccesses,
+                Set<JavaMethodCall> methodCalls,
+                Set<JavaConstructorCall> constructorCalls,
+                Set<JavaMethodReference> methodReferences,
+                Set<JavaConstructorReference> constructorReferences) {
+
+            this.fieldAccesses = fieldAccesses;
+            this.methodCalls = methodCalls;
+            this.constructorCalls = constructorCalls;
+            this.methodReferences = methodReferences;
+            this.constructorReferences = constructorReferences;
+        }
+    }
+}
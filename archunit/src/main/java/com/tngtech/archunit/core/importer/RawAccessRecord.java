@@ -24,18 +24,28 @@ import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.core.importer.CanonicalStrings.canonicalize;
 
 class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInfo> {
     private final CodeUnit origin;
     private final TargetInfo target;
     private final int lineNumber;
     private final boolean declaredInLambda;
+    // if the record has been materialized from RawAccessRecords, these point to the stored access
+    private final Object storage;
+    private final int storageRow;
 
     RawAccessRecord(CodeUnit origin, TargetInfo target, int lineNumber, boolean declaredInLambda) {
+        this(origin, target, lineNumber, declaredInLambda, null, -1);
+    }
+
+    RawAccessRecord(CodeUnit origin, TargetInfo target, int lineNumber, boolean declaredInLambda, Object storage, int storageRow) {
         this.origin = checkNotNull(origin);
         this.target = checkNotNull(target);
         this.lineNumber = lineNumber;
         this.declaredInLambda = declaredInLambda;
+        this.storage = storage;
+        this.storageRow = storageRow;
     }
 
     @Override
@@ -58,6 +68,27 @@ class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInf
         return declaredInLambda;
     }
 
+    /**
+     * Records materialized from {@link RawAccessRecords} are equal, if they have been materialized from the same stored access.
+     * All other records are only equal to themselves, since identical accesses within the same line are still distinct accesses.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (storage == null || obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        RawAccessRecord other = (RawAccessRecord) obj;
+        return storage == other.storage && storageRow == other.storageRow;
+    }
+
+    @Override
+    public int hashCode() {
+        return storage != null ? 31 * System.identityHashCode(storage) + storageRow : System.identityHashCode(this);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" + fieldsAsString() + '}';
@@ -84,11 +115,11 @@ class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInf
         private final int hashCode;
 
         CodeUnit(String name, String descriptor, String declaringClassName) {
-            this.name = name;
-            this.descriptor = descriptor;
+            this.name = canonicalize(name);
+            this.descriptor = canonicalize(descriptor);
             this.rawParameterTypes = JavaClassDescriptorImporter.importAsmMethodArgumentTypes(descriptor);
             this.rawParameterTypeNames = namesOf(rawParameterTypes);
-            this.declaringClassName = declaringClassName;
+            this.declaringClassName = canonicalize(declaringClassName);
             this.hashCode = Objects.hash(name, descriptor, declaringClassName);
         }
 
@@ -178,8 +209,8 @@ class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInf
 
         TargetInfo(String owner, String name, String desc) {
             this.owner = JavaClassDescriptorImporter.createFromAsmObjectTypeName(owner);
-            this.name = name;
-            this.desc = desc;
+            this.name = canonicalize(name);
+            this.desc = canonicalize(desc);
             hashCode = Objects.hash(owner, name, desc);
         }
 
@@ -270,7 +301,11 @@ class RawAccessRecord implements RawCodeUnitDependency<RawAccessRecord.TargetInf
         final AccessType accessType;
 
         private ForField(CodeUnit origin, TargetInfo target, int lineNumber, AccessType accessType, boolean declaredInLambda) {
-            super(origin, target, lineNumber, declaredInLambda);
+            this(origin, target, lineNumber, accessType, declaredInLambda, null, -1);
+        }
+
+        ForField(CodeUnit origin, TargetInfo target, int lineNumber, AccessType accessType, boolean declaredInLambda, Object storage, int storageRow) {
+            super(origin, target, lineNumber, declaredInLambda, storage, storageRow);
             this.accessType = accessType;
         }
 
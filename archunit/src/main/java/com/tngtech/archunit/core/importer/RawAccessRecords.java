@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+
+/**
+ * Stores {@link RawAccessRecord}s column by column, instead of keeping one object (plus a hash set entry) per access.
+ * Every distinct origin and target is only held once and referenced by an int id,
+ * line number and further details of each access are held in primitive arrays.
+ * <br><br>
+ * The records are materialized again whenever they are streamed. Such a materialized record is equal to all
+ * other materializations of the same stored access, so it can still be used to look up the access later on
+ * (e.g. within a {@link RawTryCatchBlock}).
+ * Note that identical records are not deduplicated, since identical accesses within the same line
+ * (like {@code target.call().call()}) are still distinct accesses.
+ * <br><br>
+ * Records are appended to segments that are never copied, i.e. {@link #addAll(RawAccessRecords)} just takes over
+ * the segments of the other records, so records materialized before still refer to the same stored access.
+ */
+class RawAccessRecords<RECORD extends RawAccessRecord> {
+    private final ToIntFunction<RECORD> getKind;
+    private final RecordFactory<RECORD> recordFactory;
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment currentSegment;
+
+    private RawAccessRecords(ToIntFunction<RECORD> getKind, RecordFactory<RECORD> recordFactory) {
+        this.getKind = getKind;
+        this.recordFactory = recordFactory;
+    }
+
+    /**
+     * Stores the record.
+     *
+     * @return A record equal to all records later materialized from the stored access
+     */
+    RECORD add(RECORD record) {
+        if (currentSegment == null) {
+            currentSegment = new Segment();
+            segments.add(currentSegment);
+        }
+        int row = currentSegment.add(record, getKind.applyAsInt(record));
+        return currentSegment.materialize(row, recordFactory);
+    }
+
+    void addAll(RawAccessRecords<RECORD> other) {
+        segments.addAll(other.segments);
+    }
+
+    int size() {
+        return segments.stream().mapToInt(segment -> segment.size).sum();
+    }
+
+    Stream<RECORD> stream() {
+        return segments.stream().flatMap(segment -> IntStream.range(0, segment.size).mapToObj(row -> segment.materialize(row, recordFactory)));
+    }
+
+    static RawAccessRecords<RawAccessRecord> ofCodeUnitAccesses() {
+        return new RawAccessRecords<>(
+                record -> 0,
+                (origin, target, lineNumber, kind, declaredInLambda, segment, row) ->
+                        new RawAccessRecord(origin, target, lineNumber, declaredInLambda, segment, row));
+    }
+
+    static RawAccessRecords<RawAccessRecord.ForField> ofFieldAccesses() {
+        AccessType[] accessTypes = AccessType.values();
+        return new RawAccessRecords<>(
+                record -> record.accessType != null ? record.accessType.ordinal() + 1 : 0,
+                (origin, target, lineNumber, kind, declaredInLambda, segment, row) ->
+                        new RawAccessRecord.ForField(origin, target, lineNumber, kind > 0 ? accessTypes[kind - 1] : null, declaredInLambda, segment, row));
+    }
+
+    @FunctionalInterface
+    private interface RecordFactory<RECORD extends RawAccessRecord> {
+        RECORD create(CodeUnit origin, TargetInfo target, int lineNumber, int kind, boolean declaredInLambda, Object segment, int row);
+    }
+
+    private static class Segment {
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int DECLARED_IN_LAMBDA_FLAG = 1;
+
+        private final Map<CodeUnit, Integer> originIds = new HashMap<>();
+        private final List<CodeUnit> origins = new ArrayList<>();
+        private final Map<TargetInfo, Integer> targetIds = new HashMap<>();
+        private final List<TargetInfo> targets = new ArrayList<>();
+
+        private int[] originColumn = new int[INITIAL_CAPACITY];
+        private int[] targetColumn = new int[INITIAL_CAPACITY];
+        private int[] lineNumberColumn = new int[INITIAL_CAPACITY];
+        private byte[] detailsColumn = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        int add(RawAccessRecord record, int kind) {
+            ensureCapacity();
+            originColumn[size] = idOf(record.getOrigin(), originIds, origins);
+            targetColumn[size] = idOf(record.getTarget(), targetIds, targets);
+            lineNumberColumn[size] = record.getLineNumber();
+            detailsColumn[size] = (byte) (kind << 1 | (record.isDeclaredInLambda() ? DECLARED_IN_LAMBDA_FLAG : 0));
+            return size++;
+        }
+
+        private void ensureCapacity() {
+            if (size == originColumn.length) {
+                int newCapacity = size * 2;
+                originColumn = Arrays.copyOf(originColumn, newCapacity);
+                targetColumn = Arrays.copyOf(targetColumn, newCapacity);
+                lineNumberColumn = Arrays.copyOf(lineNumberColumn, newCapacity);
+                detailsColumn = Arrays.copyOf(detailsColumn, newCapacity);
+            }
+        }
+
+        private static <T> int idOf(T value, Map<T, Integer> ids, List<T> values) {
+            return ids.computeIfAbsent(value, it -> {
+                values.add(it);
+                return values.size() - 1;
+            });
+        }
+
+        <RECORD extends RawAccessRecord> RECORD materialize(int row, RecordFactory<RECORD> recordFactory) {
+            byte details = detailsColumn[row];
+            return recordFactory.create(
+                    origins.get(originColumn[row]),
+                    targets.get(targetColumn[row]),
+                    lineNumberColumn[row],
+                    details >> 1,
+                    (details & DECLARED_IN_LAMBDA_FLAG) != 0,
+                    this,
+                    row);
+        }
+    }
+}
@@ -38,20 +38,17 @@ class SignatureTypeArgumentProcessor<TYPE extends HasDescription> extends Signat
     private final TypeArgumentType typeArgumentType;
     private final JavaParameterizedTypeBuilder<TYPE> parameterizedType;
     private final JavaTypeFinisher typeFinisher;
-    private final DeclarationHandler declarationHandler;
 
     private JavaParameterizedTypeBuilder<TYPE> currentTypeArgument;
 
     SignatureTypeArgumentProcessor(
             TypeArgumentType typeArgumentType,
             JavaParameterizedTypeBuilder<TYPE> parameterizedType,
-            JavaTypeFinisher typeFinisher,
-            DeclarationHandler declarationHandler) {
+            JavaTypeFinisher typeFinisher) {
         super(ASM_API_VERSION);
         this.typeArgumentType = typeArgumentType;
         this.parameterizedType = parameterizedType;
         this.typeFinisher = typeFinisher;
-        this.declarationHandler = declarationHandler;
     }
 
     @Override
@@ -60,7 +57,6 @@ class SignatureTypeArgumentProcessor<TYPE extends HasDescription> extends Signat
         log.trace("Encountered {} for {}: Class type {}", typeArgumentType.description, parameterizedType.getTypeName(), type.getFullyQualifiedClassName());
         currentTypeArgument = new JavaParameterizedTypeBuilder<>(type);
         typeArgumentType.addTypeArgumentToBuilder(parameterizedType, new NewJavaTypeCreationProcess<>(this.currentTypeArgument, typeFinisher));
-        declarationHandler.onDeclaredGenericSignatureType(type.getFullyQualifiedClassName());
     }
 
     @Override
@@ -84,31 +80,30 @@ class SignatureTypeArgumentProcessor<TYPE extends HasDescription> extends Signat
 
     @Override
     public SignatureVisitor visitTypeArgument(char wildcard) {
-        return SignatureTypeArgumentProcessor.create(wildcard, currentTypeArgument, JavaTypeFinisher.IDENTITY, declarationHandler);
+        return SignatureTypeArgumentProcessor.create(wildcard, currentTypeArgument, JavaTypeFinisher.IDENTITY);
     }
 
     @Override
     public SignatureVisitor visitArrayType() {
-        return new SignatureTypeArgumentProcessor<>(typeArgumentType, parameterizedType, typeFinisher.after(ARRAY_CREATOR), declarationHandler);
+        return new SignatureTypeArgumentProcessor<>(typeArgumentType, parameterizedType, typeFinisher.after(ARRAY_CREATOR));
     }
 
-    static <TYPE extends HasDescription> SignatureTypeArgumentProcessor<TYPE> create(char identifier, JavaParameterizedTypeBuilder<TYPE> parameterizedType, DeclarationHandler declarationHandler) {
-        return create(identifier, parameterizedType, JavaTypeFinisher.IDENTITY, declarationHandler);
+    static <TYPE extends HasDescription> SignatureTypeArgumentProcessor<TYPE> create(char identifier, JavaParameterizedTypeBuilder<TYPE> parameterizedType) {
+        return create(identifier, parameterizedType, JavaTypeFinisher.IDENTITY);
     }
 
     static <TYPE extends HasDescription> SignatureTypeArgumentProcessor<TYPE> create(
             char identifier,
             JavaParameterizedTypeBuilder<TYPE> parameterizedType,
-            JavaTypeFinisher typeFinisher,
-            DeclarationHandler declarationHandler) {
+            JavaTypeFinisher typeFinisher) {
 
         switch (identifier) {
             case INSTANCEOF:
-                return new SignatureTypeArgumentProcessor<>(PARAMETERIZED_TYPE, parameterizedType, typeFinisher, declarationHandler);
+                return new SignatureTypeArgumentProcessor<>(PARAMETERIZED_TYPE, parameterizedType, typeFinisher);
             case EXTENDS:
-                return new SignatureTypeArgumentProcessor<>(WILDCARD_WITH_UPPER_BOUND, parameterizedType, typeFinisher, declarationHandler);
+                return new SignatureTypeArgumentProcessor<>(WILDCARD_WITH_UPPER_BOUND, parameterizedType, typeFinisher);
             case SUPER:
-                return new SignatureTypeArgumentProcessor<>(WILDCARD_WITH_LOWER_BOUND, parameterizedType, typeFinisher, declarationHandler);
+                return new SignatureTypeArgumentProcessor<>(WILDCARD_WITH_LOWER_BOUND, parameterizedType, typeFinisher);
             default:
                 throw new IllegalStateException(String.format("Cannot handle asm type argument identifier '%s'", identifier));
         }
@@ -35,14 +35,12 @@ class SignatureTypeParameterProcessor<OWNER extends HasDescription> extends Sign
     private static final Logger log = LoggerFactory.getLogger(SignatureTypeParameterProcessor.class);
 
     private final List<JavaTypeParameterBuilder<OWNER>> typeParameterBuilders = new ArrayList<>();
-    private final DeclarationHandler declarationHandler;
 
     private JavaTypeParameterBuilder<OWNER> currentType;
     private JavaParameterizedTypeBuilder<OWNER> currentBound;
 
-    SignatureTypeParameterProcessor(DeclarationHandler declarationHandler) {
+    SignatureTypeParameterProcessor() {
         super(ASM_API_VERSION);
-        this.declarationHandler = declarationHandler;
     }
 
     List<JavaTypeParameterBuilder<OWNER>> getTypeParameterBuilders() {
@@ -60,7 +58,6 @@ class SignatureTypeParameterProcessor<OWNER extends HasDescription> extends Sign
         JavaClassDescriptor type = JavaClassDescriptorImporter.createFromAsmObjectTypeName(internalObjectName);
         log.trace("Encountered upper bound for {}: Class type {}", currentType.getName(), type.getFullyQualifiedClassName());
         currentBound = new JavaParameterizedTypeBuilder<>(type);
-        declarationHandler.onDeclaredGenericSignatureType(type.getFullyQualifiedClassName());
     }
 
     @Override
@@ -77,7 +74,7 @@ class SignatureTypeParameterProcessor<OWNER extends HasDescription> extends Sign
 
     @Override
     public SignatureVisitor visitTypeArgument(char wildcard) {
-        return SignatureTypeArgumentProcessor.create(wildcard, currentBound, declarationHandler);
+        return SignatureTypeArgumentProcessor.create(wildcard, currentBound);
     }
 
     @Override
@@ -16,21 +16,76 @@
 package com.tngtech.archunit.core.importer;
 
 import java.net.URI;
+import java.util.Optional;
+
+import com.tngtech.archunit.core.domain.DomainObjectCreationContext;
+import com.tngtech.archunit.core.domain.Source.Md5sum;
+
+import static com.google.common.base.Preconditions.checkState;
 
 class SourceDescriptor {
     private final URI sourceUri;
-    private final boolean md5InClassSourcesEnabled;
+    private final Optional<Md5sum> md5sum;
+    private final Optional<String> fingerprint;
 
-    SourceDescriptor(URI sourceUri, boolean md5InClassSourcesEnabled) {
+    private SourceDescriptor(URI sourceUri, Optional<Md5sum> md5sum, Optional<String> fingerprint) {
         this.sourceUri = sourceUri;
-        this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+        this.md5sum = md5sum;
+        this.fingerprint = fingerprint;
     }
 
     URI getUri() {
         return sourceUri;
     }
 
-    boolean isMd5InClassSourcesEnabled() {
-        return md5InClassSourcesEnabled;
+    Optional<Md5sum> getMd5sum() {
+        return md5sum;
+    }
+
+    Optional<String> getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Creates {@link SourceDescriptor SourceDescriptors} from the bytes of the class files that are read for parsing anyway.
+     * Thus, md5 sums and fingerprints are computed right away, without reading the class file again and without keeping the bytes.
+     */
+    static class Factory {
+        private final boolean md5InClassSourcesEnabled;
+        private final Optional<ClassFileFingerprint> fingerprint;
+
+        Factory(boolean md5InClassSourcesEnabled, Optional<ClassFileFingerprint> fingerprint) {
+            this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * @return {@code true}, if the {@link SourceDescriptor} must be computed from the original bytes of the class file
+         *         (i.e. via {@link #create(URI, ClassFileBuffers.ClassFileBytes)}), because md5 sums or fingerprints are enabled
+         */
+        boolean requiresClassFileBytes() {
+            return md5InClassSourcesEnabled || fingerprint.isPresent();
+        }
+
+        /**
+         * Creates a {@link SourceDescriptor} without md5 sum and fingerprint, compare {@link #requiresClassFileBytes()}
+         */
+        SourceDescriptor create(URI sourceUri) {
+            checkState(!requiresClassFileBytes(), "The bytes of class file %s are required to create its source", sourceUri);
+            return new SourceDescriptor(sourceUri, Optional.empty(), Optional.empty());
+        }
+
+        SourceDescriptor create(URI sourceUri, ClassFileBuffers.ClassFileBytes classFile) {
+            Optional<Md5sum> md5sum = md5InClassSourcesEnabled
+                    ? Optional.of(DomainObjectCreationContext.createMd5sum(classFile.buffer(), classFile.length()))
+                    : Optional.empty();
+            return new SourceDescriptor(sourceUri, md5sum, fingerprint.map(algorithm -> fingerprintOf(classFile, algorithm, md5sum)));
+        }
+
+        private static String fingerprintOf(ClassFileBuffers.ClassFileBytes classFile, ClassFileFingerprint algorithm, Optional<Md5sum> md5sum) {
+            return algorithm == ClassFileFingerprint.MD5 && md5sum.isPresent()
+                    ? md5sum.get().toString()
+                    : algorithm.of(classFile.buffer(), classFile.length());
+        }
     }
 }
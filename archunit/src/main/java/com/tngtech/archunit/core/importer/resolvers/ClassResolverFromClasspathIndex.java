@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2025 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClasspathIndex;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A {@link ClassResolver} that resolves missing dependencies from the classpath like {@link ClassResolverFromClasspath},
+ * but looks up the class files within an index of the whole classpath that is created once and then shared
+ * by all imports within the JVM. Thus, each lookup is a simple hash lookup instead of a request to the {@link ClassLoader},
+ * which can make a considerable difference if many classes need to be resolved.
+ * <br><br>
+ * Optionally the path of an index file can be passed as single argument. Then the index entries of all JAR files
+ * (and the JDK) will be stored within this file, so further JVMs only need to scan the JAR files that have changed
+ * in the meantime.
+ * <br><br>
+ * Classes that cannot be found within the index (e.g. classes that are only known to a custom {@link ClassLoader})
+ * are still looked up via the {@link ClassLoader}.
+ */
+@PublicAPI(usage = ACCESS)
+public final class ClassResolverFromClasspathIndex implements ClassResolver {
+    private final Optional<Path> indexFile;
+    private final ClassResolverFromClasspath fallback = new ClassResolverFromClasspath();
+    private ClassUriImporter classUriImporter;
+    private ClasspathIndex classpathIndex;
+
+    @PublicAPI(usage = ACCESS)
+    public ClassResolverFromClasspathIndex() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param args Either empty, or the path of a file to persist the index of all JAR files on the classpath to
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassResolverFromClasspathIndex(List<String> args) {
+        checkArgument(args.size() <= 1,
+                "%s accepts at most one argument (the path of the index file), but got %s", getClass().getSimpleName(), args);
+        this.indexFile = args.stream().findFirst().map(Paths::get);
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public void setClassUriImporter(ClassUriImporter classUriImporter) {
+        this.classUriImporter = classUriImporter;
+        fallback.setClassUriImporter(classUriImporter);
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public Optional<JavaClass> tryResolve(String typeName) {
+        Optional<URI> indexedUri = getClasspathIndex().findClassFile(typeName);
+        if (indexedUri.isPresent()) {
+            Optional<JavaClass> result = classUriImporter.tryImport(indexedUri.get());
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return fallback.tryResolve(typeName);
+    }
+
+    private ClasspathIndex getClasspathIndex() {
+        if (classpathIndex == null) {
+            classpathIndex = ClasspathIndex.ofCurrentClasspath(indexFile);
+        }
+        return classpathIndex;
+    }
+}
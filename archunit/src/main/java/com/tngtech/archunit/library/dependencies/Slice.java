@@ -15,7 +15,6 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -28,6 +27,7 @@ import com.tngtech.archunit.base.ForwardingSet;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClassSet;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -73,7 +73,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
         this.sliceAssignment = sliceAssignment;
         this.matchingGroups = checkNotNull(matchingGroups);
         this.description = checkNotNull(description);
-        this.classes = ImmutableSet.copyOf(classes);
+        this.classes = JavaClassSet.of(classes);
         this.hashCode = matchingGroups.hashCode();
     }
 
@@ -202,7 +202,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
     static class Builder {
         private final List<String> matchingGroups;
         private final SliceAssignment sliceAssignment;
-        private final Set<JavaClass> classes = new HashSet<>();
+        private final JavaClassSet.Builder classes = JavaClassSet.builder();
 
         private Builder(List<String> matchingGroups, SliceAssignment sliceAssignment) {
             this.matchingGroups = matchingGroups;
@@ -219,7 +219,7 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
         }
 
         Slice build() {
-            return new Slice(sliceAssignment, matchingGroups, classes);
+            return new Slice(sliceAssignment, matchingGroups, classes.build());
         }
     }
 }
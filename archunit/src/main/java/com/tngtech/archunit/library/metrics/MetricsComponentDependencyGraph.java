@@ -17,7 +17,6 @@ package com.tngtech.archunit.library.metrics;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -25,10 +24,12 @@ import java.util.function.Function;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.base.TransitiveDependencyIndex;
 
 class MetricsComponentDependencyGraph<T> {
     private final SetMultimap<MetricsComponent<T>, MetricsComponent<T>> outgoingComponentDependencies;
     private final SetMultimap<MetricsComponent<T>, MetricsComponent<T>> incomingComponentDependencies;
+    private final TransitiveDependencyIndex<MetricsComponent<T>> transitiveDependencies = TransitiveDependencyIndex.of(this::getDirectDependenciesFrom);
 
     private MetricsComponentDependencyGraph(Iterable<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
         ImmutableSetMultimap<MetricsComponent<T>, MetricsComponent<T>> componentDependencies = createComponentDependencies(components, getDependencies);
@@ -77,24 +78,7 @@ class MetricsComponentDependencyGraph<T> {
     }
 
     Set<MetricsComponent<T>> getTransitiveDependenciesOf(MetricsComponent<T> origin) {
-        ImmutableSet.Builder<MetricsComponent<T>> transitiveDependencies = ImmutableSet.builder();
-        Set<MetricsComponent<T>> analyzedComponents = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
-        addTransitiveDependenciesFrom(origin, transitiveDependencies, analyzedComponents);
-        return transitiveDependencies.build();
-    }
-
-    private void addTransitiveDependenciesFrom(MetricsComponent<T> component, ImmutableSet.Builder<MetricsComponent<T>> transitiveDependencies, Set<MetricsComponent<T>> analyzedComponents) {
-        analyzedComponents.add(component);  // currently being analyzed
-        Set<MetricsComponent<T>> dependencyTargetsToRecurse = new HashSet<>();
-        for (MetricsComponent<T> dependency : getDirectDependenciesFrom(component)) {
-            transitiveDependencies.add(dependency);
-            dependencyTargetsToRecurse.add(dependency);
-        }
-        for (MetricsComponent<T> dependency : dependencyTargetsToRecurse) {
-            if (!analyzedComponents.contains(dependency)) {
-                addTransitiveDependenciesFrom(dependency, transitiveDependencies, analyzedComponents);
-            }
-        }
+        return transitiveDependencies.getTransitiveDependenciesOf(origin);
     }
 
     static <T> MetricsComponentDependencyGraph<T> of(Iterable<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
@@ -0,0 +1,89 @@
+package com.tngtech.archunit.base;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransitiveDependencyIndexTest {
+
+    @Test
+    public void finds_transitive_dependencies_in_acyclic_graph() {
+        TransitiveDependencyIndex<String> index = TransitiveDependencyIndex.of(ImmutableListMultimap.<String, String>builder()
+                .putAll("A", "B", "C")
+                .putAll("C", "D")
+                .putAll("E", "D")
+                .build()::get);
+
+        assertThat(index.getTransitiveDependenciesOf("A")).containsOnly("B", "C", "D");
+        assertThat(index.getTransitiveDependenciesOf("B")).isEmpty();
+        assertThat(index.getTransitiveDependenciesOf("C")).containsOnly("D");
+        assertThat(index.getTransitiveDependenciesOf("E")).containsOnly("D");
+    }
+
+    @Test
+    public void finds_transitive_dependencies_in_cyclic_graph() {
+        TransitiveDependencyIndex<String> index = TransitiveDependencyIndex.of(ImmutableListMultimap.<String, String>builder()
+                .putAll("A", "B", "C", "D")
+                .putAll("C", "A")
+                .putAll("D", "E")
+                .putAll("E", "A", "F")
+                .putAll("F", "F")
+                .build()::get);
+
+        assertThat(index.getTransitiveDependenciesOf("B")).isEmpty();
+        assertThat(index.getTransitiveDependenciesOf("F")).containsOnly("F");
+        assertThat(index.getTransitiveDependenciesOf("D")).containsOnly("A", "B", "C", "D", "E", "F");
+        assertThat(index.getTransitiveDependenciesOf("A")).containsOnly("A", "B", "C", "D", "E", "F");
+        assertThat(index.getTransitiveDependenciesOf("C")).containsOnly("A", "B", "C", "D", "E", "F");
+    }
+
+    @Test
+    public void determines_if_node_depends_transitively_on_other_node() {
+        TransitiveDependencyIndex<String> index = TransitiveDependencyIndex.of(ImmutableListMultimap.<String, String>builder()
+                .putAll("A", "B")
+                .putAll("B", "C")
+                .putAll("C", "B")
+                .build()::get);
+
+        assertThat(index.dependsTransitivelyOn("A", "C")).isTrue();
+        assertThat(index.dependsTransitivelyOn("B", "B")).isTrue();
+        assertThat(index.dependsTransitivelyOn("A", "A")).isFalse();
+        assertThat(index.dependsTransitivelyOn("C", "A")).isFalse();
+        assertThat(index.dependsTransitivelyOn("A", "unknown")).isFalse();
+    }
+
+    @Test
+    public void requests_direct_dependencies_of_each_node_only_once() {
+        AtomicInteger requests = new AtomicInteger();
+        TransitiveDependencyIndex<Integer> index = TransitiveDependencyIndex.of(node -> {
+            requests.incrementAndGet();
+            return node > 0 ? ImmutableList.of(node - 1, node / 2) : emptyList();
+        });
+
+        for (int node = 0; node <= 100; node++) {
+            index.getTransitiveDependenciesOf(node);
+        }
+
+        assertThat(requests.get()).isEqualTo(101);
+    }
+
+    @Test
+    public void handles_deep_dependency_chains() {
+        int depth = 100_000;
+        TransitiveDependencyIndex<Integer> index = TransitiveDependencyIndex.of(node -> nextInCycle(node, depth));
+
+        assertThat(index.getTransitiveDependenciesOf(0)).hasSize(depth);
+        assertThat(index.dependsTransitivelyOn(depth - 1, 0)).isTrue();
+    }
+
+    private static List<Integer> nextInCycle(int node, int cycleLength) {
+        return singletonList((node + 1) % cycleLength);
+    }
+}
@@ -6,6 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.file.FileSystem;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -45,6 +46,7 @@ import static com.tngtech.archunit.testutil.assertion.DependenciesAssertion.from
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.util.stream.Collectors.toList;
 
 @RunWith(DataProviderRunner.class)
 public class DependencyTest {
@@ -292,6 +294,63 @@ public class DependencyTest {
                         + "is annotated with <" + SomeAnnotation.class.getName() + ">");
     }
 
+    @Test
+    public void Dependencies_with_equal_descriptions_are_equal() {
+        @SuppressWarnings("unused")
+        class SomeClass {
+            void method(@SomeAnnotation(String.class) Object first, @SomeAnnotation(String.class) Object second) {
+            }
+        }
+
+        JavaMethod method = new ClassFileImporter().importClass(SomeClass.class).getMethod("method", Object.class, Object.class);
+        Dependency first = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(method.getParameters().get(0).getAnnotations())));
+        Dependency second = getOnlyElement(Dependency.tryCreateFromAnnotation(getOnlyElement(method.getParameters().get(1).getAnnotations())));
+
+        assertThat(first.getDescription()).isEqualTo(second.getDescription());
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    public void Dependencies_from_equal_accesses_in_the_same_line_are_equal() {
+        @SuppressWarnings("unused")
+        class SomeClass {
+            String method(StringBuilder builder) {
+                return builder.append("first").append("second").toString();
+            }
+        }
+
+        JavaClass javaClass = new ClassFileImporter().importClass(SomeClass.class);
+        List<JavaMethodCall> appendCalls = javaClass.getMethod("method", StringBuilder.class).getMethodCallsFromSelf().stream()
+                .filter(call -> call.getName().equals("append"))
+                .collect(toList());
+        assertThat(appendCalls).hasSize(2);
+        Dependency first = getOnlyElement(Dependency.tryCreateFromAccess(appendCalls.get(0)));
+        Dependency second = getOnlyElement(Dependency.tryCreateFromAccess(appendCalls.get(1)));
+
+        assertThat(first.getDescription()).isEqualTo(second.getDescription());
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(javaClass.getDirectDependenciesFromSelf().stream().filter(dependency -> dependency.getDescription().equals(first.getDescription())))
+                .as("dependencies with description of the calls").hasSize(1);
+    }
+
+    @Test
+    public void Dependencies_with_different_descriptions_are_not_equal() {
+        @SuppressWarnings("unused")
+        class SomeClass {
+            String first;
+            String second;
+        }
+
+        JavaClass javaClass = new ClassFileImporter().importClass(SomeClass.class);
+        Dependency first = getOnlyElement(Dependency.tryCreateFromField(javaClass.getField("first")));
+        Dependency second = getOnlyElement(Dependency.tryCreateFromField(javaClass.getField("second")));
+
+        assertThat(first.getDescription()).isNotEqualTo(second.getDescription());
+        assertThat(first).isNotEqualTo(second);
+    }
+
     @Test
     @UseDataProvider("annotated_classes")
     public void Dependency_from_class_annotation_member(JavaClass annotatedClass) {
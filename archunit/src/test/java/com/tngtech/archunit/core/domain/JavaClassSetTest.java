@@ -0,0 +1,112 @@
+package com.tngtech.archunit.core.domain;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.importer.ImportTestUtils.simpleImportedClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JavaClassSetTest {
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            Object.class, String.class, List.class, AbstractList.class, ArrayList.class, Serializable.class);
+
+    @Test
+    public void contains_classes_of_import() {
+        JavaClassSet set = JavaClassSet.of(classes.get(String.class), classes.get(List.class));
+
+        assertThat(set).hasSize(2);
+        assertThat(set.contains(classes.get(String.class))).isTrue();
+        assertThat(set.contains(classes.get(List.class))).isTrue();
+        assertThat(set.contains(classes.get(Object.class))).isFalse();
+        assertThat(set.contains("not a class")).isFalse();
+    }
+
+    @Test
+    public void iterates_classes_of_import_ordered_by_name() {
+        JavaClassSet set = JavaClassSet.of(classes.get(String.class), classes.get(ArrayList.class), classes.get(Object.class));
+
+        assertThat(set).containsExactly(classes.get(Object.class), classes.get(String.class), classes.get(ArrayList.class));
+    }
+
+    @Test
+    public void equals_other_sets_with_same_classes() {
+        JavaClassSet set = JavaClassSet.of(classes);
+
+        assertThat(set).isEqualTo(new HashSet<>(classes));
+        assertThat(set.hashCode()).isEqualTo(new HashSet<>(classes).hashCode());
+        assertThat(JavaClassSet.of()).isEmpty();
+    }
+
+    @Test
+    public void union() {
+        JavaClassSet first = JavaClassSet.of(classes.get(Object.class), classes.get(String.class));
+        JavaClassSet second = JavaClassSet.of(classes.get(String.class), classes.get(List.class));
+
+        assertThat(first.union(second)).containsOnly(classes.get(Object.class), classes.get(String.class), classes.get(List.class));
+        assertThat(first.union(ImmutableSet.of(classes.get(List.class))))
+                .containsOnly(classes.get(Object.class), classes.get(String.class), classes.get(List.class));
+    }
+
+    @Test
+    public void intersection() {
+        JavaClassSet first = JavaClassSet.of(classes.get(Object.class), classes.get(String.class));
+        JavaClassSet second = JavaClassSet.of(classes.get(String.class), classes.get(List.class));
+
+        assertThat(first.intersection(second)).containsOnly(classes.get(String.class));
+        assertThat(first.intersection(ImmutableSet.of(classes.get(Object.class)))).containsOnly(classes.get(Object.class));
+    }
+
+    @Test
+    public void difference() {
+        JavaClassSet first = JavaClassSet.of(classes.get(Object.class), classes.get(String.class));
+        JavaClassSet second = JavaClassSet.of(classes.get(String.class), classes.get(List.class));
+
+        assertThat(first.difference(second)).containsOnly(classes.get(Object.class));
+        assertThat(first.difference(ImmutableSet.of(classes.get(Object.class)))).containsOnly(classes.get(String.class));
+    }
+
+    @Test
+    public void combines_classes_of_different_imports() {
+        JavaClass stringOfOtherImport = new ClassFileImporter().importClass(String.class);
+        JavaClassSet set = JavaClassSet.of(classes.get(Object.class), stringOfOtherImport);
+
+        assertThat(set).containsExactly(classes.get(Object.class), stringOfOtherImport);
+        assertThat(set.contains(classes.get(String.class))).isFalse();
+        assertThat(set.union(JavaClassSet.of(classes.get(String.class))))
+                .containsOnly(classes.get(Object.class), classes.get(String.class), stringOfOtherImport);
+        assertThat(set.intersection(JavaClassSet.of(stringOfOtherImport))).containsOnly(stringOfOtherImport);
+        assertThat(set.difference(JavaClassSet.of(stringOfOtherImport))).containsOnly(classes.get(Object.class));
+    }
+
+    @Test
+    public void combines_classes_registered_by_lazy_completion_after_being_added() {
+        JavaClass registered = simpleImportedClasses().getOrResolve(Object.class.getName());
+        JavaClass registeredLater = simpleImportedClasses().getOrResolve(String.class.getName());
+        JavaClassIds ids = new JavaClassIds();
+        ids.register(registered);
+        JavaClassSet addedBeforeRegistration = JavaClassSet.of(registered, registeredLater);
+        ids.register(registeredLater);
+        JavaClassSet addedAfterRegistration = JavaClassSet.of(registered, registeredLater);
+
+        assertThat(addedBeforeRegistration.union(addedAfterRegistration)).containsExactly(registered, registeredLater);
+        assertThat(addedBeforeRegistration.intersection(addedAfterRegistration)).containsExactly(registered, registeredLater);
+        assertThat(addedBeforeRegistration.difference(addedAfterRegistration)).isEmpty();
+        assertThat(addedAfterRegistration.difference(addedBeforeRegistration)).isEmpty();
+    }
+
+    @Test
+    public void is_immutable() {
+        JavaClassSet set = JavaClassSet.of(classes.get(Object.class));
+
+        assertThatThrownBy(() -> set.add(classes.get(String.class))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> set.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.tngtech.archunit.core.importer.ClassFileBuffers.ClassFileBytes;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(DataProviderRunner.class)
+public class ClassFileBuffersTest {
+
+    @DataProvider
+    public static Object[][] sizes() {
+        return testForEach(0, 1, 4095, 4096, 4097, 10_000, 262_144, 300_000);
+    }
+
+    @Test
+    @UseDataProvider("sizes")
+    public void reads_all_bytes_of_stream(int size) throws IOException {
+        byte[] content = randomBytes(size);
+
+        try (ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(content))) {
+            assertThat(classFile.length()).isEqualTo(size);
+            assertThat(Arrays.copyOf(classFile.buffer(), classFile.length())).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @UseDataProvider("sizes")
+    public void reads_all_bytes_of_stream_without_known_size(int size) throws IOException {
+        byte[] content = randomBytes(size);
+
+        try (ClassFileBytes classFile = ClassFileBuffers.read(withoutAvailableBytes(new ByteArrayInputStream(content)))) {
+            assertThat(classFile.length()).isEqualTo(size);
+            assertThat(Arrays.copyOf(classFile.buffer(), classFile.length())).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @UseDataProvider("sizes")
+    public void allocates_buffer_of_known_length(int size) {
+        try (ClassFileBytes classFile = ClassFileBuffers.allocate(size)) {
+            assertThat(classFile.length()).isEqualTo(size);
+            assertThat(classFile.buffer().length).isGreaterThanOrEqualTo(size);
+        }
+    }
+
+    @Test
+    public void reuses_allocated_buffer_once_closed() {
+        byte[] firstBuffer;
+        try (ClassFileBytes classFile = ClassFileBuffers.allocate(1000)) {
+            firstBuffer = classFile.buffer();
+        }
+
+        try (ClassFileBytes classFile = ClassFileBuffers.allocate(2000)) {
+            assertThat(classFile.buffer()).isSameAs(firstBuffer);
+        }
+    }
+
+    @Test
+    public void reuses_buffer_once_closed() throws IOException {
+        byte[] firstBuffer;
+        try (ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(1000)))) {
+            firstBuffer = classFile.buffer();
+        }
+
+        try (ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(2000)))) {
+            assertThat(classFile.buffer()).isSameAs(firstBuffer);
+        }
+    }
+
+    @Test
+    public void does_not_share_buffer_in_use() throws IOException {
+        try (ClassFileBytes outer = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(1000)));
+             ClassFileBytes inner = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(1000)))) {
+            assertThat(inner.buffer()).isNotSameAs(outer.buffer());
+        }
+    }
+
+    @Test
+    public void does_not_pool_buffers_of_large_class_files() throws IOException {
+        byte[] firstBuffer;
+        try (ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(300_000)))) {
+            firstBuffer = classFile.buffer();
+        }
+
+        try (ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(300_000)))) {
+            assertThat(classFile.buffer()).isNotSameAs(firstBuffer);
+        }
+    }
+
+    @Test
+    public void rejects_access_to_released_buffer() throws IOException {
+        ClassFileBytes classFile = ClassFileBuffers.read(new ByteArrayInputStream(randomBytes(10)));
+        classFile.close();
+
+        assertThatThrownBy(classFile::buffer)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("released");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] result = new byte[size];
+        new Random(size).nextBytes(result);
+        return result;
+    }
+
+    private static InputStream withoutAvailableBytes(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int available() {
+                return 0;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                // deliver the bytes in small chunks like e.g. an inflating stream would
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+    }
+}
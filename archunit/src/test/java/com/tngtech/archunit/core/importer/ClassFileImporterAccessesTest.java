@@ -171,6 +171,18 @@ public class ClassFileImporterAccessesTest {
                 .as("Line number of set intValue").isEqualTo(20);
     }
 
+    @Test
+    public void shares_names_of_the_same_target_between_accesses() {
+        JavaClass classWithOwnFieldAccess = new ClassFileImporter().importUrl(getClass().getResource("testexamples/fieldaccessimport")).get(OwnFieldAccess.class);
+
+        Set<JavaFieldAccess> fieldAccesses = classWithOwnFieldAccess.getFieldAccessesFromSelf();
+        FieldAccessTarget getTarget = getOnly(fieldAccesses, "stringValue", GET).getTarget();
+        FieldAccessTarget setTarget = getOnly(fieldAccesses, "stringValue", SET).getTarget();
+
+        assertThat(getTarget.getName()).isSameAs(setTarget.getName());
+        assertThat(getTarget.getFullName()).isSameAs(setTarget.getFullName());
+    }
+
     @Test
     public void imports_own_static_field_accesses() {
         JavaClass classWithOwnFieldAccess = new ClassFileImporter().importUrl(getClass().getResource("testexamples/fieldaccessimport")).get(OwnStaticFieldAccess.class);
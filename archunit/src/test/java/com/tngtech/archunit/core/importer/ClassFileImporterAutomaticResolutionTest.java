@@ -6,10 +6,13 @@ import java.io.Serializable;
 import java.nio.Buffer;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
 import com.google.common.collect.FluentIterable;
@@ -71,6 +74,7 @@ import static com.tngtech.archunit.testutil.assertion.JavaAnnotationAssertion.an
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.util.Collections.singleton;
 
 @RunWith(DataProviderRunner.class)
 public class ClassFileImporterAutomaticResolutionTest {
@@ -582,6 +586,27 @@ public class ClassFileImporterAutomaticResolutionTest {
         assertThatType(componentType).matches(File.class);
     }
 
+    @Test
+    public void automatically_resolves_the_same_types_in_parallel_as_sequentially() {
+        @SuppressWarnings("unused")
+        class Origin {
+            String[] array;
+            File file;
+
+            Path call(PrintStream param) {
+                new ArrayList<>().add(new HashMap<>());
+                return null;
+            }
+        }
+
+        JavaClass sequentialImport = new ClassFileImporter().importClass(Origin.class);
+        JavaClass parallelImport = new ClassFileImporter().withParallelism(4).importClass(Origin.class);
+
+        assertThat(fullyImportedStateOfReachableTypes(parallelImport)).isEqualTo(fullyImportedStateOfReachableTypes(sequentialImport));
+        assertThat(parallelImport.getField("file").getRawType()).isFullyImported(true);
+        assertThat(parallelImport.getField("array").getRawType().getComponentType()).isFullyImported(true);
+    }
+
     @Test
     public void automatically_resolves_enclosing_classes() throws ClassNotFoundException {
         @SuppressWarnings("unused")
@@ -812,6 +837,20 @@ public class ClassFileImporterAutomaticResolutionTest {
         return firstTypeArgument.getUpperBounds().get(0);
     }
 
+    private static Map<String, Boolean> fullyImportedStateOfReachableTypes(JavaClass javaClass) {
+        Map<String, Boolean> result = new TreeMap<>();
+        Deque<JavaClass> toVisit = new ArrayDeque<>(singleton(javaClass));
+        while (!toVisit.isEmpty()) {
+            JavaClass next = toVisit.poll();
+            if (result.put(next.getName(), next.isFullyImported()) == null) {
+                next.getRawSuperclass().ifPresent(toVisit::add);
+                toVisit.addAll(next.getRawInterfaces());
+                next.getDirectDependenciesFromSelf().forEach(dependency -> toVisit.add(dependency.getTargetClass()));
+            }
+        }
+        return result;
+    }
+
     @MetaAnnotatedAnnotation
     private static class MetaAnnotatedClass {
     }
@@ -10,14 +10,19 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitAccessTarget;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -28,6 +33,7 @@ import com.tngtech.archunit.core.domain.JavaMethodCall;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.domain.JavaPackage;
 import com.tngtech.archunit.core.domain.Source;
+import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.importer.testexamples.OtherClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeEnum;
@@ -72,6 +78,7 @@ import com.tngtech.archunit.core.importer.testexamples.simpleimport.EnumToImport
 import com.tngtech.archunit.core.importer.testexamples.simpleimport.InterfaceToImport;
 import com.tngtech.archunit.core.importer.testexamples.simplenames.SimpleNameExamples;
 import com.tngtech.archunit.core.importer.testexamples.syntheticimport.ClassWithSynthetics;
+import com.tngtech.archunit.core.importer.testexamples.trycatch.ClassWithComplexTryCatchBlocks;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.archunit.testutil.LogTestRule;
 import com.tngtech.archunit.testutil.OutsideOfClassPathRule;
@@ -112,7 +119,10 @@ import static com.tngtech.archunit.testutil.assertion.ExpectedConcreteType.Expec
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assume.assumeTrue;
 
 @RunWith(DataProviderRunner.class)
@@ -826,6 +836,18 @@ public class ClassFileImporterTest {
         assertThat(source.getMd5sum()).isEqualTo(MD5_SUM_DISABLED);
     }
 
+    @Test
+    public void class_has_fingerprint_of_import_if_configured() throws Exception {
+        JavaClass clazz = new ClassFileImporter().importClass(ClassToImportOne.class);
+        assertThat(clazz.getSource().get().getFingerprint()).isEmpty();
+
+        ArchConfiguration.get().setProperty(ClassFileProcessor.CLASS_FILE_FINGERPRINT_PROPERTY_NAME, ClassFileFingerprint.FARM_HASH_64.name());
+
+        clazz = new ClassFileImporter().importClass(ClassToImportOne.class);
+        assertThat(clazz.getSource().get().getFingerprint())
+                .contains(Hashing.farmHashFingerprint64().hashBytes(bytesAt(urlOf(ClassToImportOne.class))).toString());
+    }
+
     @Test
     public void imports_class_objects() {
         JavaClasses classes = new ClassFileImporter().importClasses(ClassToImportOne.class, ClassToImportTwo.class);
@@ -880,6 +902,171 @@ public class ClassFileImporterTest {
         assertThatTypes(classes).matchInAnyOrder(Class11.class, Class12.class);
     }
 
+    @Test
+    public void imports_the_same_classes_in_parallel_as_sequentially() {
+        String packageToImport = SomeClass.class.getPackage().getName();
+
+        JavaClasses sequentialImport = new ClassFileImporter().importPackages(packageToImport);
+        JavaClasses parallelImport = new ClassFileImporter().withParallelism(4).importPackages(packageToImport);
+
+        assertSameClasses(parallelImport, sequentialImport);
+    }
+
+    @Test
+    public void completes_code_units_in_parallel_the_same_way_as_sequentially() {
+        JavaClasses sequentialImport = new ClassFileImporter().importPackagesOf(ClassWithComplexTryCatchBlocks.class);
+        JavaClasses parallelImport = new ClassFileImporter().withParallelism(4).importPackagesOf(ClassWithComplexTryCatchBlocks.class);
+
+        assertSameClasses(parallelImport, sequentialImport);
+        for (JavaClass expected : sequentialImport) {
+            assertThat(tryCatchBlockDescriptionsOf(parallelImport.get(expected.getName())))
+                    .isEqualTo(tryCatchBlockDescriptionsOf(expected));
+        }
+    }
+
+    @Test
+    public void parallelism_can_be_configured() {
+        String packageToImport = SomeClass.class.getPackage().getName();
+
+        JavaClasses sequentialImport = new ClassFileImporter().importPackages(packageToImport);
+        ArchConfiguration.get().setProperty(ClassFileProcessor.PARALLELISM_PROPERTY_NAME, "4");
+        JavaClasses parallelImport = new ClassFileImporter().importPackages(packageToImport);
+
+        assertSameClasses(parallelImport, sequentialImport);
+    }
+
+    @Test
+    public void imports_overlapping_locations_in_parallel() {
+        JavaClasses classes = new ClassFileImporter().withParallelism(4).importPackages(
+                Class11.class.getPackage().getName(),
+                SomeClass.class.getPackage().getName(),
+                Class21.class.getPackage().getName());
+
+        assertThat(classes.get(Class11.class).getMethods()).isNotEmpty();
+        assertThat(classes.get(Class21.class).getMethods()).isNotEmpty();
+        assertThat(namesOf(classes)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void rejects_non_positive_parallelism() {
+        assertThatThrownBy(() -> new ClassFileImporter().withParallelism(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Parallelism must be positive");
+    }
+
+    @Test
+    public void structure_only_import_does_not_analyze_code_unit_bodies() {
+        JavaClass fullImport = new ClassFileImporter().importClass(ClassWithInnerClass.Inner.class);
+        JavaClass structureOnlyImport = new ClassFileImporter().withImportDetail(ImportDetail.STRUCTURE_ONLY).importClass(ClassWithInnerClass.Inner.class);
+
+        assertThat(fullImport.getAccessesFromSelf()).isNotEmpty();
+        assertThat(structureOnlyImport.getAccessesFromSelf()).isEmpty();
+        assertThat(namesOf(structureOnlyImport.getMembers())).containsOnlyElementsOf(namesOf(fullImport.getMembers()));
+        assertThat(structureOnlyImport.getMembers()).hasSameSizeAs(fullImport.getMembers());
+        assertThatType(structureOnlyImport.getField("calledClass").getRawType()).matches(CalledClass.class);
+        assertThatTypes(structureOnlyImport.getRawInterfaces()).matchExactly(ClassWithInnerClass.CanBeCalled.class);
+    }
+
+    @Test
+    public void import_detail_can_be_configured() {
+        ArchConfiguration.get().setProperty(ClassFileProcessor.IMPORT_DETAIL_PROPERTY_NAME, ImportDetail.STRUCTURE_ONLY.name());
+
+        JavaClass javaClass = new ClassFileImporter().importClass(ClassWithInnerClass.Inner.class);
+
+        assertThat(javaClass.getAccessesFromSelf()).isEmpty();
+        assertThat(javaClass.getMethods()).isNotEmpty();
+    }
+
+    @Test
+    public void lazy_class_completion_completes_classes_the_same_way_as_eager_class_completion() {
+        JavaClasses eagerImport = new ClassFileImporter().importPackagesOf(ClassWithInnerClass.class);
+        JavaClasses lazyImport = new ClassFileImporter().withClassCompletion(ClassCompletion.LAZY).importPackagesOf(ClassWithInnerClass.class);
+
+        assertThat(namesOf(lazyImport)).hasSameElementsAs(namesOf(eagerImport));
+        for (JavaClass lazilyCompleted : lazyImport) {
+            JavaClass eagerlyCompleted = eagerImport.get(lazilyCompleted.getName());
+            assertThat(namesOf(lazilyCompleted.getMembers())).hasSameElementsAs(namesOf(eagerlyCompleted.getMembers()));
+            assertThat(descriptionsOf(lazilyCompleted.getAccessesFromSelf())).hasSameElementsAs(descriptionsOf(eagerlyCompleted.getAccessesFromSelf()));
+            assertThat(descriptionsOf(lazilyCompleted.getDirectDependenciesToSelf())).hasSameElementsAs(descriptionsOf(eagerlyCompleted.getDirectDependenciesToSelf()));
+            assertThat(lazilyCompleted.isFullyImported()).isEqualTo(eagerlyCompleted.isFullyImported());
+        }
+    }
+
+    @Test
+    public void notifies_import_listeners_with_metrics_of_the_import() {
+        List<ImportMetrics> metrics = new ArrayList<>();
+
+        JavaClasses classes = new ClassFileImporter()
+                .withImportListener(metrics::add)
+                .importPackagesOf(ClassToImportOne.class);
+
+        assertThat(metrics).hasSize(1);
+        ImportMetrics importMetrics = metrics.get(0);
+        assertThat(importMetrics.getNumberOfImportedClasses()).isEqualTo(classes.size());
+        assertThat(importMetrics.getNumberOfBytesRead()).isPositive();
+        assertThat(importMetrics.getDuration(ImportMetrics.Phase.PARSE_CLASS_FILES)).isLessThanOrEqualTo(importMetrics.getTotalDuration());
+        assertThat(importMetrics.getNumberOfTypesResolvedPerRun()).isNotEmpty();
+    }
+
+    @Test
+    public void imports_the_same_classes_streaming_in_batches_of_whole_packages() {
+        Set<Location> locations = Locations.ofPackage(SomeClass.class.getPackage().getName());
+        Set<Location> locationsOfSubpackage = Locations.ofPackage(Class11.class.getPackage().getName());
+        JavaClasses regularImport = new ClassFileImporter().importLocations(locations);
+        JavaClasses regularImportOfSubpackage = new ClassFileImporter().importLocations(locationsOfSubpackage);
+
+        List<JavaClasses> batches = new ArrayList<>();
+        new ClassFileImporter().importStreaming(locations, 1, batches::add);
+
+        List<String> streamedClassNames = batches.stream().flatMap(batch -> namesOf(batch).stream()).collect(toList());
+        assertThat(streamedClassNames).doesNotHaveDuplicates().hasSameElementsAs(namesOf(regularImport));
+        assertThat(batches).anySatisfy(batch -> assertThat(namesOf(batch)).hasSameElementsAs(namesOf(regularImportOfSubpackage)));
+        batches.forEach(batch -> assertThat(batch.stream().map(JavaClass::getPackageName).distinct()).hasSize(1));
+    }
+
+    @Test
+    public void imports_each_class_only_once_streaming_overlapping_locations() {
+        File exampleFolder = new File(new File(uriOf(getClass())).getParentFile(), "testexamples");
+        Location parent = Location.of(exampleFolder.toPath());
+        Location child = Location.of(new File(exampleFolder, "pathone").toPath());
+
+        for (List<Location> locations : ImmutableList.of(ImmutableList.of(parent, child), ImmutableList.of(child, parent))) {
+            JavaClasses regularImport = new ClassFileImporter().importLocations(locations);
+
+            List<JavaClasses> batches = new ArrayList<>();
+            new ClassFileImporter().importStreaming(locations, 1, batches::add);
+
+            List<String> streamedClassNames = batches.stream().flatMap(batch -> namesOf(batch).stream()).collect(toList());
+            assertThat(streamedClassNames).as("classes streamed from " + locations)
+                    .doesNotHaveDuplicates()
+                    .hasSameElementsAs(namesOf(regularImport));
+        }
+    }
+
+    @Test
+    public void imports_class_file_contained_in_multiple_folders_only_once_streaming() throws IOException {
+        File folderOne = temporaryFolder.newFolder();
+        File folderTwo = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folderOne);
+        copyClassFile(ClassToImportOne.class, folderTwo);
+        copyClassFile(ClassToImportTwo.class, folderTwo);
+
+        List<JavaClasses> batches = new ArrayList<>();
+        new ClassFileImporter().importStreaming(ImmutableList.of(Location.of(folderOne.toPath()), Location.of(folderTwo.toPath())), 1, batches::add);
+
+        List<String> streamedClassNames = batches.stream().flatMap(batch -> namesOf(batch).stream()).collect(toList());
+        assertThat(streamedClassNames).containsOnly(ClassToImportOne.class.getName(), ClassToImportTwo.class.getName())
+                .doesNotHaveDuplicates();
+        assertThat(batches.get(0).get(ClassToImportOne.class).getSource().get().getUri().toString()).startsWith(folderOne.toURI().toString());
+    }
+
+    @Test
+    public void rejects_non_positive_streaming_batch_size() {
+        assertThatThrownBy(() -> new ClassFileImporter().importStreaming(emptyList(), 0, batch -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Batch size must be positive");
+    }
+
     @DataProvider
     public static Object[][] data_ImportOptions_are_respected() {
         return testForEach(
@@ -908,6 +1095,32 @@ public class ClassFileImporterTest {
         assertThat(classes).isEmpty();
     }
 
+    private void assertSameClasses(JavaClasses actualClasses, JavaClasses expectedClasses) {
+        assertThat(namesOf(actualClasses)).containsOnlyElementsOf(namesOf(expectedClasses)).hasSameSizeAs(expectedClasses);
+        for (JavaClass expected : expectedClasses) {
+            JavaClass actual = actualClasses.get(expected.getName());
+            assertThat(fullNamesOf(actual.getMembers())).isEqualTo(fullNamesOf(expected.getMembers()));
+            assertThat(descriptionsOf(actual.getAccessesFromSelf())).isEqualTo(descriptionsOf(expected.getAccessesFromSelf()));
+            assertThat(descriptionsOf(actual.getDirectDependenciesFromSelf())).isEqualTo(descriptionsOf(expected.getDirectDependenciesFromSelf()));
+            assertThat(descriptionsOf(actual.getDirectDependenciesToSelf())).isEqualTo(descriptionsOf(expected.getDirectDependenciesToSelf()));
+        }
+    }
+
+    private static Set<String> tryCatchBlockDescriptionsOf(JavaClass javaClass) {
+        return javaClass.getCodeUnits().stream()
+                .flatMap(codeUnit -> codeUnit.getTryCatchBlocks().stream())
+                .map(tryCatchBlock -> tryCatchBlock.getSourceCodeLocation() + " " + new TreeSet<>(descriptionsOf(tryCatchBlock.getAccessesContainedInTryBlock())))
+                .collect(toSet());
+    }
+
+    private static Set<String> fullNamesOf(Collection<? extends HasName.AndFullName> objects) {
+        return objects.stream().map(HasName.AndFullName::getFullName).collect(toSet());
+    }
+
+    private static Set<String> descriptionsOf(Collection<? extends HasDescription> objects) {
+        return objects.stream().map(HasDescription::getDescription).collect(toSet());
+    }
+
     private void assertSameSimpleNameOfArchUnitAndReflection(JavaClasses classes, String className) throws ClassNotFoundException {
         assertSameSimpleNameOfArchUnitAndReflection(classes, Class.forName(className));
     }
@@ -4,13 +4,21 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.jar.JarFile;
 
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.core.importer.ClassFileBuffers.ClassFileBytes;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
@@ -22,9 +30,12 @@ import org.junit.runner.RunWith;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.io.ByteStreams.toByteArray;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeTrue;
 
 @RunWith(DataProviderRunner.class)
 public class ClassFileSourceTest {
@@ -71,6 +82,55 @@ public class ClassFileSourceTest {
         assertSourceMatches(source, expectedIncluded);
     }
 
+    @Test
+    @UseDataProvider("expected_classes")
+    public void classes_in_memory_mapped_JAR_are_filtered(Set<String> givenEntries, ImportOptions importOptions, Set<String> expectedIncluded) throws IOException {
+        TestJarFile testJarFile = new TestJarFile();
+        for (String entry : givenEntries) {
+            testJarFile.withEntry(entry);
+        }
+        JarFile jarFile = testJarFile.create();
+
+        ClassFileSource source = mappedJarSourceOf(jarFile, importOptions);
+
+        assertSourceMatches(source, expectedIncluded);
+    }
+
+    @Test
+    public void memory_mapped_JAR_provides_the_same_class_files_as_JarFile() throws IOException {
+        JarFile jarFile = new TestJarFile()
+                .withEntry(getClass().getName().replace('.', '/') + ".class")
+                .withEntry(ClassFileSource.class.getName().replace('.', '/') + ".class")
+                .withEntry(MODULE_INFO_FILE_NAME)
+                .create();
+
+        Map<URI, byte[]> expected = contentsOf(new ClassFileSource.FromJar(jarUrlOf(jarFile), "", new ImportOptions()));
+        Map<URI, byte[]> actual = contentsOf(mappedJarSourceOf(jarFile, new ImportOptions()));
+        Map<URI, byte[]> actualBuffered = bufferedContentsOf(mappedJarSourceOf(jarFile, new ImportOptions()));
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        assertThat(actualBuffered.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((uri, bytes) -> {
+            assertThat(actual.get(uri)).as("bytes of " + uri).isEqualTo(bytes);
+            assertThat(actualBuffered.get(uri)).as("buffered bytes of " + uri).isEqualTo(bytes);
+        });
+    }
+
+    @Test
+    public void memory_mapped_JAR_cannot_be_read_anymore_once_closed() throws IOException {
+        JarFile jarFile = new TestJarFile()
+                .withEntry(getClass().getName().replace('.', '/') + ".class")
+                .create();
+        ClassFileSource source = mappedJarSourceOf(jarFile, new ImportOptions());
+        ClassFileLocation location = getOnlyElement(source);
+
+        source.close();
+
+        assertThatThrownBy(location::readClassFile)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("closed");
+    }
+
     @Test
     @UseDataProvider("expected_classes")
     public void classes_from_file_path_are_filtered(
@@ -89,6 +149,70 @@ public class ClassFileSourceTest {
         assertSourceMatches(source, expectedIncluded);
     }
 
+    @Test
+    public void does_not_walk_directories_from_file_path_that_are_excluded_completely() throws IOException {
+        File dir = tempDir.newFolder();
+        createDummyclassFileIn(newFolderIn(dir, "included"));
+        createDummyclassFileIn(newFolderIn(dir, "excluded", "sub"));
+        Set<Location> consideredLocations = new HashSet<>();
+        ImportOption excludingDirectory = new ImportOption() {
+            @Override
+            public boolean includes(Location location) {
+                consideredLocations.add(location);
+                return !location.contains("/excluded/");
+            }
+
+            @Override
+            public boolean mayIncludeLocationsBeneath(Location directory) {
+                return !directory.contains("/excluded/");
+            }
+        };
+
+        ClassFileSource source = Location.of(dir.toPath()).asClassFileSource(new ImportOptions().with(excludingDirectory));
+
+        assertSourceMatches(source, ImmutableSet.of("/included/Some.class"));
+        assertThat(consideredLocations).noneMatch(location -> location.contains("/excluded/"));
+    }
+
+    @DataProvider
+    public static Object[][] concurrent_evaluation_allowed() {
+        return $$($(false), $(true));
+    }
+
+    @Test
+    @UseDataProvider("concurrent_evaluation_allowed")
+    public void iterates_class_files_from_file_path_depth_first_sorted_by_name(boolean concurrentEvaluationAllowed) throws IOException {
+        File dir = tempDir.newFolder();
+        createDummyFile(newFolderIn(dir, "b"), "Some.class");
+        createDummyFile(newFolderIn(dir, "a", "z"), "Some.class");
+        createDummyFile(newFolderIn(dir, "a"), "Other.class");
+        createDummyFile(dir, "Root.class");
+
+        ClassFileSource source = Location.of(dir.toPath()).asClassFileSource(new ImportOptions().compile(concurrentEvaluationAllowed));
+
+        assertThat(source).extracting(location -> dir.toPath().toUri().relativize(location.getUri()).toString())
+                .containsExactly("Root.class", "a/Other.class", "a/z/Some.class", "b/Some.class");
+    }
+
+    @Test
+    @UseDataProvider("concurrent_evaluation_allowed")
+    public void skips_directories_that_cannot_be_read(boolean concurrentEvaluationAllowed) throws IOException {
+        File dir = tempDir.newFolder();
+        File unreadable = newFolderIn(dir, "a");
+        createDummyFile(unreadable, "Some.class");
+        createDummyFile(newFolderIn(dir, "b"), "Some.class");
+        assumeTrue("directory can be made unreadable", unreadable.setReadable(false) && !Files.isReadable(unreadable.toPath()));
+
+        try {
+            ClassFileSource source = Location.of(dir.toPath()).asClassFileSource(new ImportOptions().compile(concurrentEvaluationAllowed));
+
+            assertThat(source).extracting(location -> dir.toPath().toUri().relativize(location.getUri()).toString())
+                    .containsExactly("b/Some.class");
+        } finally {
+            unreadable.setReadable(true);
+        }
+    }
+
     @Test
     public void filters_out_module_infos_in_Jar_location() {
         String onlyExpectedEntry = "pkg/Some.class";
@@ -145,6 +269,32 @@ public class ClassFileSourceTest {
         }
     }
 
+    private ClassFileSource mappedJarSourceOf(JarFile jarFile, ImportOptions importOptions) throws IOException {
+        Optional<ClassFileSource> source = ClassFileSource.FromMappedJar.tryCreate(jarUrlOf(jarFile).toString(), NormalizedResourceName.from(""), importOptions);
+        assertThat(source).as("memory mapped source").isPresent();
+        return source.get();
+    }
+
+    private Map<URI, byte[]> contentsOf(ClassFileSource source) throws IOException {
+        Map<URI, byte[]> result = new HashMap<>();
+        for (ClassFileLocation location : source) {
+            try (InputStream in = location.openStream()) {
+                result.put(location.getUri(), toByteArray(in));
+            }
+        }
+        return result;
+    }
+
+    private Map<URI, byte[]> bufferedContentsOf(ClassFileSource source) throws IOException {
+        Map<URI, byte[]> result = new HashMap<>();
+        for (ClassFileLocation location : source) {
+            try (ClassFileBytes classFile = location.readClassFile()) {
+                result.put(location.getUri(), Arrays.copyOf(classFile.buffer(), classFile.length()));
+            }
+        }
+        return result;
+    }
+
     private URL jarUrlOf(JarFile jarFile) throws MalformedURLException {
         return new URL("jar:" + Paths.get(jarFile.getName()).toUri().toURL() + "!/");
     }
@@ -157,6 +307,12 @@ public class ClassFileSourceTest {
         return createDummyFile(folder, "Some.class");
     }
 
+    private File newFolderIn(File parent, String... path) {
+        File folder = Paths.get(parent.getAbsolutePath(), path).toFile();
+        checkState(folder.mkdirs(), "Cannot create %s", folder.getAbsolutePath());
+        return folder;
+    }
+
     private File createDummyFile(File folder, String name) throws IOException {
         File file = new File(folder, name);
         checkState(file.createNewFile());
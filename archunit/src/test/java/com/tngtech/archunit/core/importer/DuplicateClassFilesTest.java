@@ -0,0 +1,70 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.tngtech.java.junit.dataprovider.DataProviders.$;
+import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(DataProviderRunner.class)
+public class DuplicateClassFilesTest {
+    @DataProvider
+    public static Object[][] class_file_uris_and_expected_class_names() {
+        return $$(
+                $("jar:file:/some/lib.jar!/com/example/Foo.class", Optional.of("com.example.Foo")),
+                $("jar:file:/some/lib.jar!/com/example/Foo$Inner.class", Optional.of("com.example.Foo$Inner")),
+                $("jar:file:/some/lib.jar!/META-INF/versions/11/com/example/Foo.class", Optional.of("com.example.Foo")),
+                $("jar:file:/outer.jar!/BOOT-INF/lib/inner.jar!/com/example/Foo.class", Optional.of("com.example.Foo")),
+                $("jrt:/java.base/java/lang/String.class", Optional.of("java.lang.String")),
+                $("file:/some/classes/com/example/Foo.class", Optional.empty()),
+                $("jar:file:/some/lib.jar!/com/example/", Optional.empty())
+        );
+    }
+
+    @Test
+    @UseDataProvider("class_file_uris_and_expected_class_names")
+    public void derives_class_name_from_entry_name_of_archive(String uri, Optional<String> expectedClassName) {
+        assertThat(DuplicateClassFiles.classNameOf(uri)).isEqualTo(expectedClassName);
+    }
+
+    @Test
+    public void detects_class_file_with_same_URI() {
+        DuplicateClassFiles duplicateClassFiles = new DuplicateClassFiles();
+
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("file:///some/classes/com/example/Foo.class"), __ -> false)).isFalse();
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("file:/some/classes/com/example/Foo.class"), __ -> false)).isTrue();
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("file:/other/classes/com/example/Foo.class"), __ -> false)).isFalse();
+    }
+
+    @Test
+    public void detects_class_file_within_archive_with_class_name_seen_before() {
+        DuplicateClassFiles duplicateClassFiles = new DuplicateClassFiles();
+
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("jar:file:/first.jar!/com/example/Foo.class"), __ -> false)).isFalse();
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("jar:file:/second.jar!/com/example/Foo.class"), __ -> false)).isTrue();
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("jar:file:/second.jar!/com/example/Bar.class"), "com.example.Bar"::equals)).isTrue();
+        assertThat(duplicateClassFiles.isDuplicate(classFileAt("jar:file:/second.jar!/com/example/Baz.class"), "com.example.Bar"::equals)).isFalse();
+    }
+
+    private static ClassFileLocation classFileAt(String uri) {
+        return new ClassFileLocation() {
+            @Override
+            public InputStream openStream() {
+                throw new AssertionError("Class file should not be opened");
+            }
+
+            @Override
+            public URI getUri() {
+                return URI.create(uri);
+            }
+        };
+    }
+}
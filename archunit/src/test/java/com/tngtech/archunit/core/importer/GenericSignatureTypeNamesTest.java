@@ -0,0 +1,59 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.tngtech.java.junit.dataprovider.DataProviders.$;
+import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(DataProviderRunner.class)
+public class GenericSignatureTypeNamesTest {
+    @DataProvider
+    public static Object[][] signatures_and_referenced_type_names() {
+        return $$(
+                // class signatures
+                $("<T:Ljava/lang/Object;>Ljava/lang/Object;", new String[]{"java.lang.Object"}),
+                $("<T::Ljava/lang/Comparable<-TT;>;U:TT;>Ljava/lang/Object;", new String[]{"java.lang.Comparable"}),
+                $("<T:Ljava/lang/Number;:Ljava/io/Serializable;>Ljava/util/ArrayList<TT;>;Ljava/util/function/Supplier<Ljava/lang/String;>;",
+                        new String[]{"java.lang.Number", "java.io.Serializable", "java.lang.String"}),
+                $("Ljava/util/AbstractMap<Ljava/lang/String;Ljava/util/List<+Ljava/io/File;>;>;",
+                        new String[]{"java.lang.String", "java.util.List", "java.io.File"}),
+                // field signatures
+                $("Ljava/util/List<*>;", new String[0]),
+                $("[Ljava/util/List<[I>;", new String[]{"int"}),
+                $("Ljava/util/Map<Ljava/lang/String;[[Ljava/lang/Integer;>;", new String[]{"java.lang.String", "java.lang.Integer"}),
+                $("Lcom/example/Outer<Ljava/lang/String;>.Inner<Ljava/lang/Long;>;", new String[]{"java.lang.String", "java.lang.Long"}),
+                $("TT;", new String[0]),
+                // method signatures
+                $("<X:Ljava/lang/Exception;>(Ljava/util/List<TX;>;I)V^TX;^Ljava/io/IOException;", new String[]{"java.lang.Exception"}),
+                $("(Ljava/util/function/Function<-Ljava/lang/String;+Ljava/lang/Number;>;)[Ljava/util/Set<Ljava/lang/Byte;>;",
+                        new String[]{"java.lang.String", "java.lang.Number", "java.lang.Byte"})
+        );
+    }
+
+    @Test
+    @UseDataProvider("signatures_and_referenced_type_names")
+    public void reports_types_of_type_arguments_and_bounds(String signature, String[] expectedTypeNames) {
+        List<String> typeNames = new ArrayList<>();
+
+        GenericSignatureTypeNames.forEachIn(signature, typeNames::add);
+
+        assertThat(typeNames).containsExactly(expectedTypeNames);
+    }
+
+    @Test
+    public void ignores_missing_signature() {
+        List<String> typeNames = new ArrayList<>();
+
+        GenericSignatureTypeNames.forEachIn(null, typeNames::add);
+
+        assertThat(typeNames).isEmpty();
+    }
+}
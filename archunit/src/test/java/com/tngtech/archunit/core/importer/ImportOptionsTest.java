@@ -6,6 +6,7 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeArchives;
@@ -13,6 +14,7 @@ import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeJars;
 import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludePackageInfos;
 import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeGradleTestFixtures;
 import com.tngtech.archunit.core.importer.ImportOption.DoNotIncludeTests;
+import com.tngtech.archunit.core.importer.ImportOption.OnlyIncludePackages;
 import com.tngtech.archunit.core.importer.ImportOption.OnlyIncludeTests;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -33,6 +35,7 @@ import static com.tngtech.archunit.core.importer.ImportOption.Predefined.DO_NOT_
 import static com.tngtech.archunit.core.importer.ImportOption.Predefined.ONLY_INCLUDE_TESTS;
 import static com.tngtech.archunit.testutil.TestUtils.relativeResourceUri;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
+import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.crossProduct;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.util.Arrays.asList;
@@ -126,6 +129,24 @@ public class ImportOptionsTest {
                 .as("includes location %s", targetFile.getAbsolutePath()).isEqualTo(expectedInclude);
     }
 
+    @DataProvider
+    public static Object[][] do_not_include_tests_and_expected_folder_patterns() {
+        List<Object[]> folderInput = new ArrayList<>();
+        for (FolderPattern folderPattern : getFolderPatterns()) {
+            folderInput.add($(folderPattern.folders, folderPattern.isMainFolder));
+        }
+        return crossProduct(do_not_include_tests(), folderInput.toArray(new Object[0][]));
+    }
+
+    @Test
+    @UseDataProvider("do_not_include_tests_and_expected_folder_patterns")
+    public void only_skips_test_output_folders(ImportOption doNotIncludeTests, String[] folderName, boolean isMainFolder) throws IOException {
+        File folder = temporaryFolder.newFolder(folderName);
+
+        assertThat(doNotIncludeTests.mayIncludeLocationsBeneath(Location.of(folder.toPath())))
+                .as("may include locations beneath %s", folder.getAbsolutePath()).isEqualTo(isMainFolder);
+    }
+
     @DataProvider
     public static Object[][] data_excludes_test_fixtures() {
         return testForEach(new DoNotIncludeGradleTestFixtures(), DO_NOT_INCLUDE_TEST_FIXTURES);
@@ -202,6 +223,109 @@ public class ImportOptionsTest {
                 .isTrue();
     }
 
+    @DataProvider
+    public static Object[][] package_filtered_locations() {
+        return $$(
+                $("jar:file:///any/some.jar!/com/mycompany/Some.class", true),
+                $("jar:file:///any/some.jar!/com/mycompany/sub/Some.class", true),
+                $("jar:file:///any/some.jar!/META-INF/versions/11/com/mycompany/Some.class", true),
+                $("jar:file:///any/some.jar!/org/other/Some.class", false),
+                $("jar:file:///any/com/mycompany/some.jar!/org/other/Some.class", false),
+                $("jrt:/java.base/java/util/List.class", false),
+                $("file:///any/target/classes/", true),
+                $("jar:file:///any/some.jar!/", true));
+    }
+
+    @Test
+    @UseDataProvider("package_filtered_locations")
+    public void only_includes_given_packages(String uri, boolean expectedIncluded) {
+        ImportOption onlyIncludePackages = new OnlyIncludePackages("com.mycompany..");
+
+        assertThat(onlyIncludePackages.includes(Location.of(URI.create(uri))))
+                .as("%s includes %s", onlyIncludePackages, uri)
+                .isEqualTo(expectedIncluded);
+    }
+
+    @DataProvider
+    public static Object[][] package_filtered_directory_locations() {
+        return $$(
+                $("file:///any/target/classes/com/mycompany/Some.class", true),
+                $("file:///any/target/classes/com/mycompany/sub/Some.class", true),
+                $("file:///any/target/classes/org/other/Some.class", false),
+                $("file:///any/target/classes/Some.class", false),
+                $("file:///home/com/mycompany/target/classes/org/other/Some.class", false),
+                $("file:///home/com/mycompany/target/classes/Some.class", false));
+    }
+
+    @Test
+    @UseDataProvider("package_filtered_directory_locations")
+    public void only_includes_given_packages_relative_to_imported_directory(String uri, boolean expectedIncluded) {
+        URI importedDirectory = URI.create(uri.substring(0, uri.indexOf("/classes/") + "/classes/".length()));
+        ImportOptions importOptions = new ImportOptions().with(new OnlyIncludePackages("com.mycompany.."));
+
+        for (ImportOptions options : ImmutableList.of(importOptions, importOptions.compile())) {
+            assertThat(options.include(URI.create(uri), Optional.of(importedDirectory)))
+                    .as("%s includes %s imported from %s", options, uri, importedDirectory)
+                    .isEqualTo(expectedIncluded);
+        }
+    }
+
+    @Test
+    public void only_includes_given_packages_relative_to_classpath() {
+        Location thisClassLocation = locationOf(getClass());
+        URI packageDirectory = URI.create(thisClassLocation.asURI().toString().replaceFirst("[^/]*$", ""));
+
+        assertThat(new OnlyIncludePackages(getClass().getPackage().getName()).includes(thisClassLocation)).isTrue();
+        assertThat(new OnlyIncludePackages("com.mycompany..").includes(thisClassLocation)).isFalse();
+        assertThat(new ImportOptions().with(new OnlyIncludePackages(getClass().getPackage().getName()))
+                .include(thisClassLocation.asURI(), Optional.of(packageDirectory)))
+                .as("package is resolved relative to the classpath, even if a package directory is imported")
+                .isTrue();
+    }
+
+    @Test
+    public void only_includes_given_packages_of_modules() {
+        ImportOption onlyIncludePackages = new OnlyIncludePackages("java.util");
+
+        assertThat(onlyIncludePackages.includes(Location.of(URI.create("jrt:/java.base/java/util/List.class")))).isTrue();
+        assertThat(onlyIncludePackages.includes(Location.of(URI.create("jrt:/java.base/java/util/concurrent/Future.class")))).isFalse();
+    }
+
+    @DataProvider
+    public static Object[][] compiled_import_options() {
+        return testForEach(
+                new ImportOptions().with(DO_NOT_INCLUDE_TESTS).with(DO_NOT_INCLUDE_TEST_FIXTURES).with(DO_NOT_INCLUDE_PACKAGE_INFOS),
+                new ImportOptions().with(ONLY_INCLUDE_TESTS).with(new DoNotIncludeArchives()),
+                new ImportOptions().with(new DoNotIncludeJars()).with(new DoNotIncludePackageInfos()),
+                new ImportOptions().with(new DoNotIncludeTests()).with(location -> !location.contains("Excluded")),
+                new ImportOptions().with(new OnlyIncludePackages("com..")).with(DO_NOT_INCLUDE_TESTS),
+                new ImportOptions().with(new OnlyIncludePackages("org..")));
+    }
+
+    @Test
+    @UseDataProvider("compiled_import_options")
+    public void compiled_import_options_include_the_same_locations(ImportOptions importOptions) {
+        ImportOptions compiledImportOptions = importOptions.compile();
+
+        for (String uri : ImmutableList.of(
+                "file:///any/target/classes/com/Some.class",
+                "file:///any/target/classes/com/package-info.class",
+                "file:///any/target/classes/com/Excluded.class",
+                "file:///any/target/test-classes/com/SomeTest.class",
+                "file:///any/build/classes/java/test/com/SomeTest.class",
+                "file:///any/build/classes/java/testFixtures/com/SomeFixture.class",
+                "jar:file:///any/build/libs/some-test-fixtures.jar!/com/SomeFixture.class",
+                "jar:file:///any/some.jar!/com/Some.class",
+                "jar:file:///any/some.jar!/com/package-info.class")) {
+            // evaluate twice, the second time the decision for the container is cached
+            for (int i = 0; i < 2; i++) {
+                assertThat(compiledImportOptions.include(URI.create(uri)))
+                        .as("compiled options include %s", uri)
+                        .isEqualTo(importOptions.include(Location.of(URI.create(uri))));
+            }
+        }
+    }
+
     private static Location locationOf(Class<?> clazz) {
         return getLast(Locations.ofClass(clazz));
     }
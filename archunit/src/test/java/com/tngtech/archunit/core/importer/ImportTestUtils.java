@@ -82,10 +82,8 @@ public class ImportTestUtils {
     private static Set<BuilderWithBuildParameter<JavaClass, JavaMethod>> methodBuildersFor(Class<?> inputClass) {
         return stream(inputClass.getDeclaredMethods())
                 .map(method -> new DomainBuilders.JavaMethodBuilder()
-                        .withReturnType(
-                                Optional.empty(),
-                                JavaClassDescriptor.From.name(method.getReturnType().getName()))
-                        .withParameterTypes(Collections.emptyList(), typesFrom(method.getParameterTypes()))
+                        .withReturnType(JavaClassDescriptor.From.name(method.getReturnType().getName()))
+                        .withParameterTypes(typesFrom(method.getParameterTypes()))
                         .withName(method.getName())
                         .withDescriptor(Type.getMethodDescriptor(method))
                         .withModifiers(JavaModifier.getModifiersForMethod(method.getModifiers()))
@@ -96,10 +94,8 @@ public class ImportTestUtils {
     private static Set<BuilderWithBuildParameter<JavaClass, JavaConstructor>> constructorBuildersFor(Class<?> inputClass) {
         return stream(inputClass.getDeclaredConstructors())
                 .map(constructor -> new DomainBuilders.JavaConstructorBuilder()
-                        .withReturnType(
-                                Optional.empty(),
-                                JavaClassDescriptor.From.name(void.class.getName()))
-                        .withParameterTypes(Collections.emptyList(), typesFrom(constructor.getParameterTypes()))
+                        .withReturnType(JavaClassDescriptor.From.name(void.class.getName()))
+                        .withParameterTypes(typesFrom(constructor.getParameterTypes()))
                         .withName(CONSTRUCTOR_NAME)
                         .withDescriptor(Type.getConstructorDescriptor(constructor))
                         .withModifiers(JavaModifier.getModifiersForMethod(constructor.getModifiers()))
@@ -426,6 +422,10 @@ public class ImportTestUtils {
             return Collections.emptySet();
         }
 
+        @Override
+        public void completeCodeUnitDependenciesOf(JavaClass owner) {
+        }
+
         @Override
         public Set<TryCatchBlockBuilder> createTryCatchBlockBuilders(JavaCodeUnit codeUnit) {
             return Collections.emptySet();
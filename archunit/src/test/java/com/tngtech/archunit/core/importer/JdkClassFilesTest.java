@@ -0,0 +1,93 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.testutil.TestUtils.uriOf;
+import static com.tngtech.archunit.testutil.TestUtils.urlOf;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdkClassFilesTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule().resolveAdditionalDependenciesFromClassPath(true);
+
+    @Test
+    public void reads_JDK_class_files_via_jrt_file_system() throws IOException {
+        JdkClassFiles jdkClassFiles = JdkClassFiles.get();
+
+        assertThat(jdkClassFiles.contains(uriOf(ArrayList.class))).as("contains JDK class file").isTrue();
+        assertThat(jdkClassFiles.contains(uriOf(getClass()))).as("contains class file of test").isFalse();
+        try (InputStream fromJrtFileSystem = jdkClassFiles.openStream(uriOf(ArrayList.class));
+             InputStream fromUrl = urlOf(ArrayList.class).openStream()) {
+            assertThat(ByteStreams.toByteArray(fromJrtFileSystem)).isEqualTo(ByteStreams.toByteArray(fromUrl));
+        }
+    }
+
+    @Test
+    public void creates_new_skeleton_cache_if_configuration_changes() {
+        JdkClassFiles jdkClassFiles = JdkClassFiles.get();
+        assertThat(JdkClassFiles.get()).as("instance of unchanged configuration").isSameAs(jdkClassFiles);
+
+        ArchConfiguration.withThreadLocalScope(configuration -> {
+            configuration.setProperty(JdkClassFiles.SKELETON_CACHE_MAX_BYTES_PROPERTY_NAME, "1024");
+            assertThat(JdkClassFiles.get()).as("instance of thread local configuration").isNotSameAs(jdkClassFiles);
+        });
+    }
+
+    @Test
+    public void skeleton_is_smaller_than_original_class_file() throws IOException {
+        byte[] classFile;
+        try (InputStream inputStream = urlOf(ArrayList.class).openStream()) {
+            classFile = ByteStreams.toByteArray(inputStream);
+        }
+
+        assertThat(JdkClassFiles.createSkeleton(classFile, classFile.length).length).isLessThan(classFile.length);
+    }
+
+    @Test
+    public void resolves_JDK_class_from_skeleton_the_same_way_as_from_original_class_file() {
+        ArchConfiguration.get().setMd5InClassSourcesEnabled(false);
+        JavaClass fromSkeleton = new ClassFileImporter().importClass(SomeList.class).getRawSuperclass().get();
+        // md5 sums must be computed from the original class file, thus the skeleton is not used
+        ArchConfiguration.get().setMd5InClassSourcesEnabled(true);
+        JavaClass fromOriginal = new ClassFileImporter().importClass(SomeList.class).getRawSuperclass().get();
+
+        assertThat(fromSkeleton.getName()).isEqualTo(ArrayList.class.getName());
+        assertThat(fromSkeleton.getSource().get().getUri()).isEqualTo(fromOriginal.getSource().get().getUri());
+        assertThat(describe(fromSkeleton)).isNotEmpty().isEqualTo(describe(fromOriginal));
+    }
+
+    private static List<String> describe(JavaClass javaClass) {
+        List<String> result = new ArrayList<>();
+        result.add(javaClass.getSourceCodeLocation() + " " + javaClass.getModifiers() + " " + javaClass.getTypeParameters()
+                + " " + javaClass.getSuperclass() + " " + javaClass.getInterfaces() + " " + javaClass.getAnnotations());
+        javaClass.getFields().stream()
+                .sorted(Comparator.comparing(JavaField::getFullName))
+                .forEach(field -> result.add(field.getFullName() + " " + field.getType() + " " + field.getModifiers()));
+        javaClass.getCodeUnits().stream()
+                .sorted(Comparator.comparing(JavaCodeUnit::getFullName))
+                .forEach(codeUnit -> result.add(codeUnit.getFullName() + " " + codeUnit.getSourceCodeLocation() + " " + codeUnit.getModifiers()
+                        + " " + codeUnit.getTypeParameters() + " " + codeUnit.getParameterTypes() + " " + codeUnit.getReturnType()
+                        + " " + codeUnit.getThrowsClause().getTypes() + " " + codeUnit.getAnnotations()));
+        result.addAll(javaClass.getDirectDependenciesFromSelf().stream().map(Dependency::getDescription).sorted().collect(toList()));
+        return result;
+    }
+
+    @SuppressWarnings("serial")
+    private static class SomeList extends ArrayList<String> {
+    }
+}
@@ -0,0 +1,129 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarFile;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.importer.testexamples.simpleimport.ClassToImportOne;
+import com.tngtech.archunit.core.importer.testexamples.simpleimport.ClassToImportTwo;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocationEntryCacheTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void caches_entries_of_location() throws IOException {
+        Location location = Location.of(new JarFile(createJar(ClassToImportOne.class, ClassToImportTwo.class)));
+        LocationEntryCache cache = new LocationEntryCache(1000, Optional.empty());
+
+        Collection<NormalizedResourceName> entries = cache.get(location, location::readResourceEntries);
+        Collection<NormalizedResourceName> cachedEntries = cache.get(location, this::failIfRead);
+
+        assertThat(cachedEntries).isSameAs(entries).hasSize(2);
+        assertThat(cache.getStatistics().getHitCount()).as("hit count").isEqualTo(1);
+        assertThat(cache.getStatistics().getMissCount()).as("miss count").isEqualTo(1);
+    }
+
+    @Test
+    public void reads_entries_again_if_JAR_file_has_changed() throws IOException {
+        File jar = createJar(ClassToImportOne.class);
+        Location location = Location.of(new JarFile(jar));
+        LocationEntryCache cache = new LocationEntryCache(1000, Optional.empty());
+        cache.get(location, () -> entriesOf(ClassToImportOne.class));
+
+        createJar(jar, ClassToImportOne.class, ClassToImportTwo.class);
+        assertThat(jar.setLastModified(jar.lastModified() + 10_000)).as("last modified could be set").isTrue();
+
+        assertThat(cache.get(location, () -> entriesOf(ClassToImportOne.class, ClassToImportTwo.class))).hasSize(2);
+        assertThat(cache.getStatistics().getMissCount()).as("miss count").isEqualTo(2);
+    }
+
+    @Test
+    public void evicts_entries_exceeding_the_maximum_number_of_entries() throws IOException {
+        Location first = Location.of(new JarFile(createJar(ClassToImportOne.class, ClassToImportTwo.class)));
+        Location second = Location.of(new JarFile(createJar(ClassToImportOne.class, ClassToImportTwo.class)));
+        LocationEntryCache cache = new LocationEntryCache(3, Optional.empty());
+
+        cache.get(first, first::readResourceEntries);
+        cache.get(second, second::readResourceEntries);
+
+        assertThat(cache.getStatistics().getEvictionCount()).as("eviction count").isEqualTo(1);
+        assertThat(cache.getStatistics().getSize()).as("size").isEqualTo(1);
+    }
+
+    @Test
+    public void reads_persisted_entries_of_JAR_file_in_further_cache() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        Location location = Location.of(new JarFile(createJar(ClassToImportOne.class, ClassToImportTwo.class)));
+        Collection<NormalizedResourceName> entries = new LocationEntryCache(1000, Optional.of(cacheDirectory.toPath()))
+                .get(location, location::readResourceEntries);
+        assertThat(cacheDirectory.list()).as("persisted files").hasSize(1);
+
+        LocationEntryCache furtherCache = new LocationEntryCache(1000, Optional.of(cacheDirectory.toPath()));
+
+        assertThat(furtherCache.get(location, this::failIfRead)).containsExactlyElementsOf(entries);
+        assertThat(furtherCache.getStatistics().getPersistedHitCount()).as("persisted hit count").isEqualTo(1);
+    }
+
+    @Test
+    public void does_not_persist_entries_of_directories() throws IOException {
+        File cacheDirectory = temporaryFolder.newFolder();
+        Location location = Location.of(temporaryFolder.newFolder().toPath());
+
+        new LocationEntryCache(1000, Optional.of(cacheDirectory.toPath())).get(location, location::readResourceEntries);
+
+        assertThat(cacheDirectory.list()).as("persisted files").isEmpty();
+    }
+
+    @Test
+    public void creates_new_cache_if_configuration_changes() {
+        LocationEntryCache cache = LocationEntryCache.get();
+        assertThat(LocationEntryCache.get()).as("cache of unchanged configuration").isSameAs(cache);
+
+        ArchConfiguration.get().setProperty(LocationEntryCache.MAX_ENTRIES_PROPERTY_NAME, "10");
+        LocationEntryCache changedCache = LocationEntryCache.get();
+        assertThat(changedCache).as("cache of changed configuration").isNotSameAs(cache);
+
+        ArchConfiguration.withThreadLocalScope(configuration -> {
+            configuration.setProperty(LocationEntryCache.MAX_ENTRIES_PROPERTY_NAME, "20");
+            assertThat(LocationEntryCache.get()).as("cache of thread local configuration").isNotSameAs(changedCache);
+        });
+    }
+
+    private Collection<NormalizedResourceName> failIfRead() {
+        throw new AssertionError("entries should not have been read");
+    }
+
+    private static List<NormalizedResourceName> entriesOf(Class<?>... classes) {
+        ImmutableList.Builder<NormalizedResourceName> result = ImmutableList.builder();
+        for (Class<?> clazz : classes) {
+            result.add(NormalizedResourceName.from(clazz.getName().replace('.', '/') + ".class"));
+        }
+        return result.build();
+    }
+
+    private File createJar(Class<?>... classes) throws IOException {
+        return createJar(new File(temporaryFolder.newFolder(), "test.jar"), classes);
+    }
+
+    private File createJar(File jar, Class<?>... classes) {
+        TestJarFile testJarFile = new TestJarFile();
+        for (Class<?> clazz : classes) {
+            testJarFile.withEntry(clazz.getName().replace('.', '/') + ".class");
+        }
+        return new File(testJarFile.createAndReturnName(jar));
+    }
+}
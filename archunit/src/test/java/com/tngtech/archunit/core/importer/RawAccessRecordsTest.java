@@ -0,0 +1,72 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.List;
+
+import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.GET;
+import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.SET;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RawAccessRecordsTest {
+    private static final CodeUnit origin = new CodeUnit("origin", "()V", "com.example.Origin");
+    private static final TargetInfo target = new TargetInfo("com/example/Target", "target", "()V");
+
+    @Test
+    public void materializes_stored_records() {
+        RawAccessRecords<RawAccessRecord.ForField> records = RawAccessRecords.ofFieldAccesses();
+
+        records.add(fieldAccess(10).withAccessType(GET).build());
+        records.add(fieldAccess(11).withAccessType(SET).build());
+
+        List<RawAccessRecord.ForField> materialized = records.stream().collect(toList());
+        assertThat(materialized).extracting(RawAccessRecord::getOrigin).containsExactly(origin, origin);
+        assertThat(materialized).extracting(RawAccessRecord::getTarget).containsExactly(target, target);
+        assertThat(materialized).extracting(RawAccessRecord::getLineNumber).containsExactly(10, 11);
+        assertThat(materialized).extracting(record -> record.accessType).containsExactly(GET, SET);
+    }
+
+    @Test
+    public void does_not_deduplicate_identical_accesses() {
+        RawAccessRecords<RawAccessRecord> records = RawAccessRecords.ofCodeUnitAccesses();
+
+        RawAccessRecord first = records.add(access(10));
+        RawAccessRecord second = records.add(access(10));
+
+        assertThat(records.size()).isEqualTo(2);
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    public void materialized_records_equal_the_record_returned_when_added() {
+        RawAccessRecords<RawAccessRecord> records = RawAccessRecords.ofCodeUnitAccesses();
+        RawAccessRecord added = records.add(access(10));
+
+        RawAccessRecords<RawAccessRecord> merged = RawAccessRecords.ofCodeUnitAccesses();
+        merged.add(access(20));
+        merged.addAll(records);
+
+        assertThat(merged.stream().collect(toList()))
+                .hasSize(2)
+                .containsOnlyOnce(added);
+        assertThat(merged.stream().filter(added::equals).findFirst().get().hashCode()).isEqualTo(added.hashCode());
+    }
+
+    private static RawAccessRecord access(int lineNumber) {
+        return new RawAccessRecord.Builder()
+                .withOrigin(origin)
+                .withTarget(target)
+                .withLineNumber(lineNumber)
+                .build();
+    }
+
+    private static RawAccessRecord.ForField.Builder fieldAccess(int lineNumber) {
+        return new RawAccessRecord.ForField.Builder()
+                .withOrigin(origin)
+                .withTarget(target)
+                .withLineNumber(lineNumber);
+    }
+}
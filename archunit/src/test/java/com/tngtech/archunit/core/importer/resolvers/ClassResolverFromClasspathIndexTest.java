@@ -0,0 +1,103 @@
+package com.tngtech.archunit.core.importer.resolvers;
+
+import java.io.File;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClasspathIndex;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
+import com.tngtech.archunit.core.importer.resolvers.testclasses.firstdependency.FirstDependency;
+import com.tngtech.archunit.testutil.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class ClassResolverFromClasspathIndexTest {
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private ClassUriImporter uriImporter;
+
+    @Test
+    public void finds_uri_of_JDK_class() {
+        ClassResolverFromClasspathIndex resolver = newResolver();
+        JavaClass expectedJavaClass = importClassWithContext(Object.class);
+        when(uriImporter.tryImport(TestUtils.uriOf(Object.class))).thenReturn(Optional.of(expectedJavaClass));
+
+        Optional<JavaClass> result = resolver.tryResolve(Object.class.getName());
+
+        assertThat(result).contains(expectedJavaClass);
+    }
+
+    @Test
+    public void finds_uri_of_class_on_classpath() {
+        ClassResolverFromClasspathIndex resolver = newResolver();
+        JavaClass expectedJavaClass = importClassWithContext(FirstDependency.class);
+        when(uriImporter.tryImport(TestUtils.uriOf(FirstDependency.class))).thenReturn(Optional.of(expectedJavaClass));
+
+        Optional<JavaClass> result = resolver.tryResolve(FirstDependency.class.getName());
+
+        assertThat(result).contains(expectedJavaClass);
+    }
+
+    @Test
+    public void is_resilient_if_URI_cant_be_located() {
+        ClassResolverFromClasspathIndex resolver = newResolver();
+
+        Optional<JavaClass> result = resolver.tryResolve("sooo.Wrong");
+
+        assertThat(result).isEmpty();
+        verifyNoMoreInteractions(uriImporter);
+    }
+
+    @Test
+    public void does_not_index_module_descriptors() {
+        ClasspathIndex classpathIndex = ClasspathIndex.ofCurrentClasspath();
+
+        assertThat(classpathIndex.findClassFile("module-info")).isEmpty();
+        assertThat(classpathIndex.findClassFile("META-INF.versions.9.module-info")).isEmpty();
+    }
+
+    @Test
+    public void shares_index_of_current_classpath() {
+        assertThat(ClasspathIndex.ofCurrentClasspath()).isSameAs(ClasspathIndex.ofCurrentClasspath());
+    }
+
+    @Test
+    public void persists_index_to_configured_file() {
+        File indexFile = new File(temporaryFolder.getRoot(), "classpath.index");
+        ClassResolverFromClasspathIndex resolver = new ClassResolverFromClasspathIndex(ImmutableList.of(indexFile.getAbsolutePath()));
+        resolver.setClassUriImporter(uriImporter);
+
+        resolver.tryResolve(Object.class.getName());
+
+        assertThat(indexFile).exists();
+        assertThat(indexFile.length()).isGreaterThan(0);
+    }
+
+    @Test
+    public void rejects_more_than_one_argument() {
+        assertThatThrownBy(() -> new ClassResolverFromClasspathIndex(ImmutableList.of("one", "two")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most one argument");
+    }
+
+    private ClassResolverFromClasspathIndex newResolver() {
+        ClassResolverFromClasspathIndex resolver = new ClassResolverFromClasspathIndex();
+        resolver.setClassUriImporter(uriImporter);
+        return resolver;
+    }
+}